@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of concurrent lookups with the promotions of the hits buffered or applied one by one under the
+ * LRU lock, with a hit rate close to the given one.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean bufferedPromotions;
+
+    @Param({ "10000" })
+    public int numberOfEntries;
+
+    @Param({ "0.95", "0.5" })
+    public double hitRate;
+
+    private Cache<Integer, Integer> cache;
+    private int numberOfKeys;
+
+    @Setup
+    public void setUp() {
+        cache = CacheBuilder.<Integer, Integer>builder()
+            .setMaximumWeight(numberOfEntries)
+            .setBufferedPromotions(bufferedPromotions)
+            .build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, i);
+        }
+        numberOfKeys = (int) (numberOfEntries / hitRate);
+    }
+
+    @Benchmark
+    public Integer get() {
+        final int key = ThreadLocalRandom.current().nextInt(numberOfKeys);
+        final Integer value = cache.get(key);
+        if (value == null) {
+            cache.put(key, key);
+        }
+        return value;
+    }
+}
@@ -69,6 +69,8 @@ import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram.Bucket;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.ParameterizedStaticSettingsOpenSearchIntegTestCase;
 import org.opensearch.test.hamcrest.OpenSearchAssertions;
@@ -90,10 +92,14 @@ import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_RE
 import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_SHARDS;
 import static org.opensearch.cluster.routing.allocation.decider.EnableAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ENABLE_SETTING;
 import static org.opensearch.indices.IndicesRequestCache.INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING;
+import static org.opensearch.indices.IndicesRequestCache.INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateRange;
 import static org.opensearch.search.aggregations.AggregationBuilders.filter;
+import static org.opensearch.search.aggregations.AggregationBuilders.significantTerms;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
 import static org.hamcrest.Matchers.equalTo;
@@ -193,6 +199,180 @@ public class IndicesRequestCacheIT extends ParameterizedStaticSettingsOpenSearch
         }
     }
 
+    public void testCacheAggsPerSegment() throws Exception {
+        Client client = client();
+        String index = "index";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate(index)
+                .setMapping("k", "type=keyword")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        // Disable index refreshing to control the segments of the index
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                )
+                .get()
+        );
+        ClusterUpdateSettingsRequest updateSettingsRequest = new ClusterUpdateSettingsRequest();
+        updateSettingsRequest.persistentSettings(Settings.builder().put(INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING.getKey(), true));
+        assertAcked(client().admin().cluster().updateSettings(updateSettingsRequest).actionGet());
+
+        client.prepareIndex(index).setId("1").setSource("k", "a").get();
+        client.prepareIndex(index).setId("2").setSource("k", "b").get();
+        refreshAndWaitForReplication(index);
+        assertCacheState(client, index, 0, 0);
+
+        // the shard level result and the result of the only segment are computed
+        assertTermsPerSegment(client, index, 2, "a", 1L, "b", 1L);
+        assertCacheState(client, index, 0, 2);
+        assertTermsPerSegment(client, index, 2, "a", 1L, "b", 1L);
+        assertCacheState(client, index, 1, 2);
+
+        // only the shard level result and the result of the new segment are computed after a refresh
+        client.prepareIndex(index).setId("3").setSource("k", "a").get();
+        refreshAndWaitForReplication(index);
+        assertTermsPerSegment(client, index, 3, "a", 2L, "b", 1L);
+        assertCacheState(client, index, 2, 4);
+
+        // the result of a segment with a deleted document is computed again, as well as the one of the segment of the tombstone
+        client.prepareDelete(index, "2").get();
+        refreshAndWaitForReplication(index);
+        assertTermsPerSegment(client, index, 2, "a", 2L);
+        assertCacheState(client, index, 3, 7);
+    }
+
+    public void testCacheAggsPerSegmentTrimsTermsPerSegment() throws Exception {
+        Client client = client();
+        String index = "index";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate(index)
+                .setMapping("k", "type=keyword")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        // Disable index refreshing to control the segments of the index
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                        // the slices of a concurrent segment search are trimmed like the segments
+                        .put(IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_MODE.getKey(), CONCURRENT_SEGMENT_SEARCH_MODE_NONE)
+                )
+                .get()
+        );
+        // the first segment holds "a" twice and "b" once, the second one "b" twice and "a" once
+        client.prepareIndex(index).setId("1").setSource("k", "a").get();
+        client.prepareIndex(index).setId("2").setSource("k", "a").get();
+        client.prepareIndex(index).setId("3").setSource("k", "b").get();
+        refreshAndWaitForReplication(index);
+        client.prepareIndex(index).setId("4").setSource("k", "b").get();
+        client.prepareIndex(index).setId("5").setSource("k", "b").get();
+        client.prepareIndex(index).setId("6").setSource("k", "a").get();
+        refreshAndWaitForReplication(index);
+
+        // the shard level result counts every document of the top term
+        assertTopTerm(client, index, "a", 3L);
+
+        ClusterUpdateSettingsRequest updateSettingsRequest = new ClusterUpdateSettingsRequest();
+        updateSettingsRequest.persistentSettings(Settings.builder().put(INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING.getKey(), true));
+        assertAcked(client().admin().cluster().updateSettings(updateSettingsRequest).actionGet());
+        client.admin().indices().prepareClearCache(index).setRequestCache(true).get();
+
+        // each segment is trimmed to its own top term, so the other segment's count of that term is lost
+        assertTopTerm(client, index, "a", 2L);
+    }
+
+    public void testCacheAggsPerSegmentSkipsSignificantTerms() throws Exception {
+        Client client = client();
+        String index = "index";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate(index)
+                .setMapping("k", "type=keyword", "tag", "type=keyword")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        // Disable index refreshing to control the segments of the index
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                )
+                .get()
+        );
+        ClusterUpdateSettingsRequest updateSettingsRequest = new ClusterUpdateSettingsRequest();
+        updateSettingsRequest.persistentSettings(Settings.builder().put(INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING.getKey(), true));
+        assertAcked(client().admin().cluster().updateSettings(updateSettingsRequest).actionGet());
+
+        // the foreground documents are in the first segment, the background spans both segments
+        client.prepareIndex(index).setId("1").setSource("k", "a", "tag", "x").get();
+        client.prepareIndex(index).setId("2").setSource("k", "a", "tag", "x").get();
+        client.prepareIndex(index).setId("3").setSource("k", "b", "tag", "y").get();
+        refreshAndWaitForReplication(index);
+        client.prepareIndex(index).setId("4").setSource("k", "b", "tag", "y").get();
+        client.prepareIndex(index).setId("5").setSource("k", "b", "tag", "y").get();
+        client.prepareIndex(index).setId("6").setSource("k", "a", "tag", "y").get();
+        refreshAndWaitForReplication(index);
+        assertCacheState(client, index, 0, 0);
+
+        // only the shard level result is computed and cached, with the whole shard as the superset
+        assertSignificantTerm(client, index);
+        assertCacheState(client, index, 0, 1);
+        assertSignificantTerm(client, index);
+        assertCacheState(client, index, 1, 1);
+    }
+
+    private static void assertSignificantTerm(Client client, String index) {
+        final SearchResponse response = client.prepareSearch(index)
+            .setSize(0)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .setQuery(QueryBuilders.termQuery("tag", "x"))
+            .addAggregation(significantTerms("significant").field("k").minDocCount(1))
+            .get();
+        assertSearchResponse(response);
+        final SignificantTerms significantTerms = response.getAggregations().get("significant");
+        assertThat(significantTerms.getBuckets().size(), equalTo(1));
+        final SignificantTerms.Bucket bucket = significantTerms.getBucketByKey("a");
+        assertThat(bucket.getSubsetDf(), equalTo(2L));
+        assertThat(bucket.getSubsetSize(), equalTo(2L));
+        assertThat(bucket.getSupersetDf(), equalTo(3L));
+        assertThat(bucket.getSupersetSize(), equalTo(6L));
+    }
+
+    private static void assertTopTerm(Client client, String index, String expectedKey, long expectedDocCount) {
+        final SearchResponse response = client.prepareSearch(index)
+            .setSize(0)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .addAggregation(terms("terms").field("k").size(1).shardSize(1))
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getTotalHits().value(), equalTo(6L));
+        final Terms terms = response.getAggregations().get("terms");
+        assertThat(terms.getBuckets().size(), equalTo(1));
+        assertThat(terms.getBuckets().get(0).getKeyAsString(), equalTo(expectedKey));
+        assertThat(terms.getBuckets().get(0).getDocCount(), equalTo(expectedDocCount));
+    }
+
+    private static void assertTermsPerSegment(Client client, String index, long expectedHits, Object... expectedBuckets) {
+        final SearchResponse response = client.prepareSearch(index)
+            .setSize(0)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .addAggregation(terms("terms").field("k"))
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getTotalHits().value(), equalTo(expectedHits));
+        final Terms terms = response.getAggregations().get("terms");
+        assertThat(terms.getBuckets().size(), equalTo(expectedBuckets.length / 2));
+        for (int i = 0; i < expectedBuckets.length; i += 2) {
+            assertThat(terms.getBucketByKey((String) expectedBuckets[i]).getDocCount(), equalTo(expectedBuckets[i + 1]));
+        }
+    }
+
     public void testQueryRewrite() throws Exception {
         Client client = client();
         String index = "index";
@@ -125,6 +125,12 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         out.writeBoolean(includeAllShardIndexingPressureTrackers);
         out.writeBoolean(includeOnlyTopIndexingPressureMetrics);
         if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
+            EnumSet<CacheType> includeCaches = this.includeCaches;
+            if (out.getVersion().before(Version.V_3_3_0) && includeCaches.contains(CacheType.INDICES_QUERY_CACHE)) {
+                // older nodes do not know the query cache type
+                includeCaches = EnumSet.copyOf(includeCaches);
+                includeCaches.remove(CacheType.INDICES_QUERY_CACHE);
+            }
             out.writeEnumSet(includeCaches);
             out.writeStringArrayNullable(levels);
         }
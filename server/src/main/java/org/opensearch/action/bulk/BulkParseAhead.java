@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses the documents of the index requests of a bulk shard request on other threads of the write thread pool, ahead of
+ * their sequential execution on the primary.
+ * <p>
+ * The items are claimed in order, by helper tasks and by the executing thread. The executing thread parses an item
+ * itself if no helper claimed it yet, so it only ever waits for a helper that is parsing the item it needs. Helpers
+ * stay at most {@link #WINDOW} items ahead of the execution to bound the memory held by parsed documents.
+ *
+ * @opensearch.internal
+ */
+final class BulkParseAhead {
+    private static final Logger logger = LogManager.getLogger(BulkParseAhead.class);
+
+    static final int WINDOW = 64;
+
+    // the result of an item that a helper claimed but did not parse, which the executing thread then parses itself
+    private static final Object NOT_PARSED = new Object();
+
+    private final BulkItemRequest[] items;
+    private final IndexShard primary;
+    private final Executor executor;
+    private final int maxHelpers;
+    private final AtomicInteger nextToClaim = new AtomicInteger();
+    private final AtomicInteger activeHelpers = new AtomicInteger();
+    private final AtomicReferenceArray<Object> parsed;
+    private volatile int executing;
+    private volatile boolean closed;
+    private int lastTaken = -1;
+
+    private BulkParseAhead(BulkItemRequest[] items, IndexShard primary, Executor executor, int maxHelpers) {
+        this.items = items;
+        this.primary = primary;
+        this.executor = executor;
+        this.maxHelpers = maxHelpers;
+        this.parsed = new AtomicReferenceArray<>(items.length);
+    }
+
+    /**
+     * Returns the parse ahead of the request, or null if the documents of the request are parsed on the executing thread
+     */
+    @Nullable
+    static BulkParseAhead create(BulkShardRequest request, IndexShard primary, Executor executor) {
+        final int maxHelpers = primary.indexSettings().getBulkParseAheadThreads();
+        if (maxHelpers == 0 || request.items().length < 2) {
+            return null;
+        }
+        return new BulkParseAhead(request.items(), primary, executor, maxHelpers);
+    }
+
+    /**
+     * Moves the execution to the given item, which lets the helpers parse further items
+     */
+    void executing(int index) {
+        executing = index;
+        if (index >= items.length) {
+            closed = true;
+        } else {
+            maybeFork();
+        }
+    }
+
+    /**
+     * Returns the parsed document of the index request of the given item, or null if the caller has to parse it
+     */
+    @Nullable
+    IndexShard.ParsedIndexOperation take(int index) {
+        assert index == executing : "taking item [" + index + "] while executing [" + executing + "]";
+        if (index <= lastTaken) {
+            // the item is executed again, for instance after a mapping update, and must be parsed again
+            return null;
+        }
+        lastTaken = index;
+        int next = nextToClaim.get();
+        while (next <= index) {
+            if (nextToClaim.compareAndSet(next, index + 1)) {
+                return null;
+            }
+            next = nextToClaim.get();
+        }
+        Object result = parsed.getAndSet(index, null);
+        if (result == null) {
+            boolean interrupted = false;
+            synchronized (this) {
+                while ((result = parsed.getAndSet(index, null)) == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return result == NOT_PARSED ? null : (IndexShard.ParsedIndexOperation) result;
+    }
+
+    private void maybeFork() {
+        // only the executing thread forks helpers, so there are never more than the maximum
+        final int toFork = maxHelpers - activeHelpers.get();
+        for (int i = 0; i < toFork && canClaim(); i++) {
+            activeHelpers.incrementAndGet();
+            try {
+                executor.execute(new Helper());
+            } catch (OpenSearchRejectedExecutionException e) {
+                activeHelpers.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private boolean canClaim() {
+        return closed == false && Math.max(nextToClaim.get(), executing) < limit();
+    }
+
+    private int limit() {
+        return Math.min(items.length, executing + WINDOW);
+    }
+
+    /**
+     * Claims the next item to parse that the execution did not reach yet, or returns -1 if the window is full
+     */
+    private int claim() {
+        while (closed == false) {
+            final int next = nextToClaim.get();
+            final int index = Math.max(next, executing);
+            if (index >= limit()) {
+                break;
+            }
+            if (nextToClaim.compareAndSet(next, index + 1)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void parse(int index) {
+        Object result = NOT_PARSED;
+        try {
+            final BulkItemRequest item = items[index];
+            final DocWriteRequest<?> request = item.request();
+            if (item.getPrimaryResponse() != null || request instanceof IndexRequest == false) {
+                // aborted items are not executed, and the requests of other types are not parsed
+                return;
+            }
+            final IndexRequest indexRequest = (IndexRequest) request;
+            result = primary.parseIndexOperationOnPrimary(
+                new SourceToParse(
+                    indexRequest.index(),
+                    indexRequest.id(),
+                    indexRequest.source(),
+                    indexRequest.getContentType(),
+                    indexRequest.routing()
+                )
+            );
+        } finally {
+            parsed.set(index, result);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Parses the items it claims until the window is full
+     */
+    class Helper extends AbstractRunnable {
+
+        @Override
+        protected void doRun() {
+            int index;
+            while ((index = claim()) >= 0) {
+                parse(index);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            logger.warn(() -> new ParameterizedMessage("{} failed to parse bulk items ahead of their execution", primary.shardId()), e);
+        }
+
+        @Override
+        public void onRejection(Exception e) {
+            // the executing thread parses the items itself
+            logger.trace(() -> new ParameterizedMessage("{} rejected parsing bulk items ahead of their execution", primary.shardId()), e);
+        }
+
+        @Override
+        public void onAfter() {
+            activeHelpers.decrementAndGet();
+        }
+    }
+}
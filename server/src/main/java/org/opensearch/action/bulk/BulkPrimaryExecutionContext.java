@@ -38,6 +38,7 @@ import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
@@ -84,6 +85,8 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    @Nullable
+    private final BulkParseAhead parseAhead;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -93,8 +96,13 @@ class BulkPrimaryExecutionContext {
     private int retryCounter;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, @Nullable BulkParseAhead parseAhead) {
         this.request = request;
         this.primary = primary;
+        this.parseAhead = parseAhead;
         advance();
     }
 
@@ -119,6 +127,9 @@ class BulkPrimaryExecutionContext {
         retryCounter = 0;
         requestToExecute = null;
         executionResult = null;
+        if (parseAhead != null) {
+            parseAhead.executing(currentIndex);
+        }
         assert assertInvariants(ItemProcessingState.INITIAL);
     }
 
@@ -131,6 +142,13 @@ class BulkPrimaryExecutionContext {
         return request;
     }
 
+    /** returns the document of the current, untranslated index request if it was parsed ahead of time, or null */
+    @Nullable
+    public IndexShard.ParsedIndexOperation takeParsedIndexOperation() {
+        assert requestToExecute == getCurrent() : "the current request was translated";
+        return parseAhead == null ? null : parseAhead.take(currentIndex);
+    }
+
     /** returns the result of the request that has been executed on the shard */
     public BulkItemResponse getExecutionResult() {
         assert assertInvariants(ItemProcessingState.EXECUTED);
@@ -309,6 +309,43 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         return this;
     }
 
+    /**
+     * Adds the complete items of a part of a bulk request body that arrives in several parts, and returns the number of bytes
+     * of {@code data} they span. Unless the {@code data} is the {@code last} part of the body, the remaining bytes must be added
+     * again together with the next part of the body, after the {@code lineOffset} lines of the body before the {@code data}.
+     */
+    public int addCompleteItems(
+        BytesReference data,
+        int lineOffset,
+        boolean last,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType
+    ) throws IOException {
+        String routing = valueOrDefault(defaultRouting, globalRouting);
+        String pipeline = valueOrDefault(defaultPipeline, globalPipeline);
+        Boolean requireAlias = valueOrDefault(defaultRequireAlias, globalRequireAlias);
+        return new BulkRequestParser().parseCompleteItems(
+            data,
+            lineOffset,
+            last,
+            defaultIndex,
+            routing,
+            defaultFetchSourceContext,
+            pipeline,
+            requireAlias,
+            allowExplicitIndex,
+            mediaType,
+            this::internalAdd,
+            this::internalAdd,
+            this::add
+        );
+    }
+
     /**
      * Sets the number of shard copies that must be active before proceeding with the write.
      * See {@link ReplicationRequest#waitForActiveShards(ActiveShardCount)} for details.
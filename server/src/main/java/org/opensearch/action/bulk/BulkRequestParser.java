@@ -83,13 +83,13 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean complete) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (complete && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -131,9 +131,83 @@ public final class BulkRequestParser {
         Consumer<IndexRequest> indexRequestConsumer,
         Consumer<UpdateRequest> updateRequestConsumer,
         Consumer<DeleteRequest> deleteRequestConsumer
+    ) throws IOException {
+        parse(
+            data,
+            true,
+            0,
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            indexRequestConsumer,
+            updateRequestConsumer,
+            deleteRequestConsumer
+        );
+    }
+
+    /**
+     * Parse the complete items of the provided {@code data}, a part of a bulk request body that arrives in several parts,
+     * like {@link #parse} does. Unless the {@code data} is the {@code last} part of the body, the item that it ends in the
+     * middle of is not parsed, and the number of bytes returned leaves it out so that it can be parsed with the next part of
+     * the body. The sources of the parsed requests are slices of the {@code data}, which must not be released until the
+     * requests are executed.
+     *
+     * @param lineOffset the number of lines of the body before the {@code data}, so that the errors report the lines of the body
+     * @return the number of bytes of the {@code data} that the parsed items span
+     */
+    public int parseCompleteItems(
+        BytesReference data,
+        int lineOffset,
+        boolean last,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType,
+        Consumer<IndexRequest> indexRequestConsumer,
+        Consumer<UpdateRequest> updateRequestConsumer,
+        Consumer<DeleteRequest> deleteRequestConsumer
+    ) throws IOException {
+        return parse(
+            data,
+            last,
+            lineOffset,
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            indexRequestConsumer,
+            updateRequestConsumer,
+            deleteRequestConsumer
+        );
+    }
+
+    private int parse(
+        BytesReference data,
+        boolean complete,
+        int lineOffset,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType,
+        Consumer<IndexRequest> indexRequestConsumer,
+        Consumer<UpdateRequest> updateRequestConsumer,
+        Consumer<DeleteRequest> deleteRequestConsumer
     ) throws IOException {
         XContent xContent = mediaType.xContent();
-        int line = 0;
+        int line = lineOffset;
         int from = 0;
         byte marker = xContent.streamSeparator();
         // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. This map is used to
@@ -141,9 +215,10 @@ public final class BulkRequestParser {
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
         while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
+            final int itemStart = from;
+            int nextMarker = findNextMarker(marker, from, data, complete);
             if (nextMarker == -1) {
-                break;
+                return itemStart;
             }
             line++;
 
@@ -296,9 +371,10 @@ public final class BulkRequestParser {
                             .setIfPrimaryTerm(ifPrimaryTerm)
                     );
                 } else {
-                    nextMarker = findNextMarker(marker, from, data);
+                    nextMarker = findNextMarker(marker, from, data, complete);
                     if (nextMarker == -1) {
-                        break;
+                        // the source of the item did not arrive yet, or is missing at the end of the body
+                        return complete ? data.length() : itemStart;
                     }
                     line++;
 
@@ -0,0 +1,253 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Merges the small bulk shard requests that the coordinating node sends to the same shard within a short window into a
+ * single bulk shard request, so that the primary executes, replicates and fsyncs them at once instead of one by one.
+ * <p>
+ * Only the requests with the same refresh policy, wait for active shards, timeout and thread context request headers are
+ * merged, and never the requests whose thread context carries transient or persistent headers, since these can hold the
+ * user that the items are authorized as. Each request keeps its own indexing pressure accounting on the coordinating node
+ * and is completed with the responses of its own items, in its own thread context.
+ * <p>
+ * The merged request has no parent task since its items belong to several bulk requests. The bulk tasks cannot be
+ * cancelled, so this only hides the merged shard request from the children of each bulk task.
+ *
+ * @opensearch.internal
+ */
+public final class BulkShardRequestCoalescer {
+
+    /**
+     * How long a small bulk shard request waits for other requests to the same shard to be merged with, 0 to not merge
+     */
+    public static final Setting<TimeValue> COALESCE_WINDOW_SETTING = Setting.timeSetting(
+        "cluster.bulk.shard_request.coalesce_window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The size of the merged bulk shard request above which it is sent without waiting for the end of the window. The
+     * requests that are larger on their own are never merged.
+     */
+    public static final Setting<ByteSizeValue> COALESCE_MAX_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.bulk.shard_request.coalesce_max_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private final ThreadPool threadPool;
+    private final BiConsumer<BulkShardRequest, ActionListener<BulkShardResponse>> shardBulkAction;
+    private final ConcurrentMap<Key, Batch> batches = new ConcurrentHashMap<>();
+    private volatile TimeValue window;
+    private volatile long maxSizeInBytes;
+
+    BulkShardRequestCoalescer(
+        ThreadPool threadPool,
+        ClusterSettings clusterSettings,
+        BiConsumer<BulkShardRequest, ActionListener<BulkShardResponse>> shardBulkAction
+    ) {
+        this.threadPool = threadPool;
+        this.shardBulkAction = shardBulkAction;
+        this.window = clusterSettings.get(COALESCE_WINDOW_SETTING);
+        this.maxSizeInBytes = clusterSettings.get(COALESCE_MAX_SIZE_SETTING).getBytes();
+        clusterSettings.addSettingsUpdateConsumer(COALESCE_WINDOW_SETTING, window -> this.window = window);
+        clusterSettings.addSettingsUpdateConsumer(COALESCE_MAX_SIZE_SETTING, maxSize -> this.maxSizeInBytes = maxSize.getBytes());
+    }
+
+    /**
+     * Executes the request, possibly merged with other requests to the same shard
+     */
+    void execute(BulkShardRequest request, ActionListener<BulkShardResponse> listener) {
+        final TimeValue window = this.window;
+        final long maxSizeInBytes = this.maxSizeInBytes;
+        final long sizeInBytes = request.ramBytesUsed();
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        if (window.nanos() == 0 || sizeInBytes >= maxSizeInBytes || threadContext.hasTransientOrPersistentHeaders()) {
+            shardBulkAction.accept(request, listener);
+            return;
+        }
+        final Key key = new Key(request, threadContext.getHeaders(), threadContext.isSystemContext());
+        final ActionListener<BulkShardResponse> contextPreservingListener = new ContextPreservingActionListener<>(
+            threadContext.newRestorableContext(true),
+            listener
+        );
+        final Batch[] created = new Batch[1];
+        final Batch[] full = new Batch[1];
+        batches.compute(key, (k, batch) -> {
+            if (batch == null) {
+                batch = new Batch();
+                created[0] = batch;
+            }
+            batch.add(request, contextPreservingListener, sizeInBytes);
+            if (batch.sizeInBytes >= maxSizeInBytes) {
+                full[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+        if (full[0] != null) {
+            full[0].send(key);
+        } else if (created[0] != null) {
+            final Batch batch = created[0];
+            final AbstractRunnable sendBatch = new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    if (batches.remove(key, batch)) {
+                        batch.send(key);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    // the batch could not be sent, for instance because the node is shutting down
+                    if (batches.remove(key, batch)) {
+                        batch.fail(e);
+                    }
+                }
+            };
+            try {
+                threadPool.schedule(sendBatch, window, ThreadPool.Names.GENERIC);
+            } catch (OpenSearchRejectedExecutionException e) {
+                sendBatch.onRejection(e);
+            }
+        }
+    }
+
+    /**
+     * The requests that can be merged
+     */
+    private static final class Key {
+        private final ShardId shardId;
+        private final RefreshPolicy refreshPolicy;
+        private final ActiveShardCount waitForActiveShards;
+        private final TimeValue timeout;
+        private final Map<String, String> headers;
+        private final boolean systemContext;
+
+        Key(BulkShardRequest request, Map<String, String> headers, boolean systemContext) {
+            this.shardId = request.shardId();
+            this.refreshPolicy = request.getRefreshPolicy();
+            this.waitForActiveShards = request.waitForActiveShards();
+            this.timeout = request.timeout();
+            this.headers = headers;
+            this.systemContext = systemContext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return shardId.equals(key.shardId)
+                && refreshPolicy == key.refreshPolicy
+                && waitForActiveShards.equals(key.waitForActiveShards)
+                && timeout.equals(key.timeout)
+                && headers.equals(key.headers)
+                && systemContext == key.systemContext;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, refreshPolicy, waitForActiveShards, timeout, headers, systemContext);
+        }
+    }
+
+    /**
+     * The requests waiting to be merged, only modified while the batch is in the map
+     */
+    private final class Batch {
+        private final List<BulkShardRequest> requests = new ArrayList<>();
+        private final List<ActionListener<BulkShardResponse>> listeners = new ArrayList<>();
+        private long sizeInBytes;
+
+        void add(BulkShardRequest request, ActionListener<BulkShardResponse> listener, long sizeInBytes) {
+            requests.add(request);
+            listeners.add(listener);
+            this.sizeInBytes += sizeInBytes;
+        }
+
+        void fail(Exception e) {
+            ActionListener.onFailure(listeners, e);
+        }
+
+        void send(Key key) {
+            if (requests.size() == 1) {
+                shardBulkAction.accept(requests.get(0), listeners.get(0));
+                return;
+            }
+            final int[] offsets = new int[requests.size() + 1];
+            long routedBasedOnClusterVersion = 0;
+            for (int i = 0; i < requests.size(); i++) {
+                offsets[i + 1] = offsets[i] + requests.get(i).items().length;
+                routedBasedOnClusterVersion = Math.max(routedBasedOnClusterVersion, requests.get(i).routedBasedOnClusterVersion());
+            }
+            final BulkItemRequest[] items = new BulkItemRequest[offsets[requests.size()]];
+            for (int i = 0; i < requests.size(); i++) {
+                final BulkItemRequest[] requestItems = requests.get(i).items();
+                System.arraycopy(requestItems, 0, items, offsets[i], requestItems.length);
+            }
+            // the merged request has no parent task since its items belong to several bulk requests
+            final BulkShardRequest merged = new BulkShardRequest(key.shardId, key.refreshPolicy, items);
+            merged.waitForActiveShards(key.waitForActiveShards);
+            merged.timeout(key.timeout);
+            merged.routedBasedOnClusterVersion(routedBasedOnClusterVersion);
+            shardBulkAction.accept(merged, new ActionListener<>() {
+                @Override
+                public void onResponse(BulkShardResponse response) {
+                    final BulkItemResponse[] responses = response.getResponses();
+                    assert responses.length == items.length : responses.length + " responses for " + items.length + " items";
+                    for (int i = 0; i < listeners.size(); i++) {
+                        final BulkShardResponse requestResponse = new BulkShardResponse(
+                            key.shardId,
+                            Arrays.copyOfRange(responses, offsets[i], offsets[i + 1])
+                        );
+                        requestResponse.setShardInfo(response.getShardInfo());
+                        listeners.get(i).onResponse(requestResponse);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    ActionListener.onFailure(listeners, e);
+                }
+            });
+        }
+    }
+}
@@ -132,6 +132,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
     private final ClusterService clusterService;
     private final IngestService ingestService;
     private final TransportShardBulkAction shardBulkAction;
+    private final BulkShardRequestCoalescer shardRequestCoalescer;
     private final LongSupplier relativeTimeProvider;
     private final IngestActionForwarder ingestForwarder;
     private final NodeClient client;
@@ -198,6 +199,11 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         this.clusterService = clusterService;
         this.ingestService = ingestService;
         this.shardBulkAction = shardBulkAction;
+        this.shardRequestCoalescer = new BulkShardRequestCoalescer(
+            threadPool,
+            clusterService.getClusterSettings(),
+            (request, listener) -> this.shardBulkAction.execute(request, listener)
+        );
         this.autoCreateIndex = autoCreateIndex;
         this.relativeTimeProvider = relativeTimeProvider;
         this.ingestForwarder = new IngestActionForwarder(transportService);
@@ -713,7 +719,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
 
                 final Span span = tracer.startSpan(SpanBuilder.from("bulkShardAction", nodeId, bulkShardRequest));
                 try (SpanScope spanScope = tracer.withSpanInScope(span)) {
-                    shardBulkAction.execute(
+                    shardRequestCoalescer.execute(
                         bulkShardRequest,
                         TraceableActionListener.create(ActionListener.runBefore(new ActionListener<BulkShardResponse>() {
                             @Override
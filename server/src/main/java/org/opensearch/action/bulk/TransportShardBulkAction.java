@@ -464,7 +464,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
             private final Executor executor = threadPool.executor(executorName);
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(
+                request,
+                primary,
+                BulkParseAhead.create(request, primary, executor)
+            );
 
             @Override
             protected void doRun() throws Exception {
@@ -650,7 +654,9 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.ifSeqNo(),
                 request.ifPrimaryTerm(),
                 request.getAutoGeneratedTimestamp(),
-                request.isRetry()
+                request.isRetry(),
+                // updates are translated to index requests that were not parsed ahead
+                updateResult == null ? context.takeParsedIndexOperation() : null
             );
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
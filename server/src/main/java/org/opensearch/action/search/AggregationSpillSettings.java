@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of the coordinating node to spill partially reduced aggregations to disk instead of keeping them in memory
+ * when they grow too large.
+ *
+ * @opensearch.internal
+ */
+public final class AggregationSpillSettings {
+
+    public static final Setting<Boolean> SPILL_ENABLED_SETTING = Setting.boolSetting(
+        "search.aggs.spill_to_disk.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The size of a partially reduced aggregation result over which its terms and composite aggregations are spilled
+     */
+    public static final Setting<ByteSizeValue> SPILL_THRESHOLD_SETTING = Setting.memorySizeSetting(
+        "search.aggs.spill_to_disk.threshold",
+        "5%",
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    private final Path directory;
+    private volatile boolean enabled;
+    private volatile ByteSizeValue threshold;
+
+    public AggregationSpillSettings(ClusterSettings clusterSettings, Path directory) {
+        this.directory = directory;
+        this.enabled = clusterSettings.get(SPILL_ENABLED_SETTING);
+        this.threshold = clusterSettings.get(SPILL_THRESHOLD_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(SPILL_ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(SPILL_THRESHOLD_SETTING, this::setThreshold);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setThreshold(ByteSizeValue threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the spill of a new search request, or null if spilling is disabled
+     */
+    SpilledAggregations newSpilledAggregations(NamedWriteableRegistry namedWriteableRegistry) {
+        if (enabled == false) {
+            return null;
+        }
+        return new SpilledAggregations(directory, threshold.getBytes(), namedWriteableRegistry);
+    }
+}
@@ -50,6 +50,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.query.QuerySearchResult;
 
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -68,6 +69,9 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * When spilling is enabled, partially reduced terms and composite aggregations that grow larger than
+ * {@link AggregationSpillSettings#SPILL_THRESHOLD_SETTING} are written to disk and merged back in the final reduce.
  *
  * @opensearch.internal
  */
@@ -87,6 +91,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean performFinalReduce;
 
     final PendingMerges pendingMerges;
+    private final SpilledAggregations spilledAggregations;
     private final Consumer<Exception> onPartialMergeFailure;
     private final BooleanSupplier isTaskCancelled;
 
@@ -145,6 +150,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        this.spilledAggregations = hasAggs && performFinalReduce ? controller.newSpilledAggregations() : null;
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -153,7 +159,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     @Override
     public void close() {
-        Releasables.close(pendingMerges);
+        Releasables.close(pendingMerges, spilledAggregations);
     }
 
     @Override
@@ -178,7 +184,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         pendingMerges.sortBuffer();
         final SearchPhaseController.TopDocsStats topDocsStats = pendingMerges.consumeTopDocsStats();
         final List<TopDocs> topDocsList = pendingMerges.consumeTopDocs();
-        final List<InternalAggregations> aggsList = pendingMerges.consumeAggs();
+        List<InternalAggregations> aggsList = pendingMerges.consumeAggs();
+        if (spilledAggregations != null && spilledAggregations.hasSpilled()) {
+            InternalAggregations inMemory = InternalAggregations.reduce(aggsList, aggReduceContextBuilder.forPartialReduction());
+            aggsList = Collections.singletonList(spilledAggregations.merge(inMemory, aggReduceContextBuilder.forPartialReduction()));
+        }
         long breakerSize = pendingMerges.circuitBreakerBytes;
         if (hasAggs) {
             // Add an estimate of the final reduce size
@@ -215,7 +225,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchPhaseController.TopDocsStats topDocsStats,
         MergeResult lastMerge,
         int numReducePhases
-    ) {
+    ) throws IOException {
         checkCancellation();
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
@@ -245,7 +255,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newTopDocs = null;
         }
 
-        final InternalAggregations newAggs;
+        InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
             if (lastMerge != null) {
@@ -270,6 +280,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
+        if (spilledAggregations != null) {
+            InternalAggregations kept = spilledAggregations.maybeSpill(newAggs, serializedSize);
+            if (kept != newAggs) {
+                newAggs = kept;
+                serializedSize = newAggs.getSerializedSize();
+            }
+        }
         return new MergeResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
     }
 
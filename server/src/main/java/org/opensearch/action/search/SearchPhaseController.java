@@ -45,6 +45,7 @@ import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -94,13 +95,23 @@ public final class SearchPhaseController {
 
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder;
+    private final AggregationSpillSettings aggregationSpillSettings;
 
     public SearchPhaseController(
         NamedWriteableRegistry namedWriteableRegistry,
         Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder
+    ) {
+        this(namedWriteableRegistry, requestToAggReduceContextBuilder, null);
+    }
+
+    public SearchPhaseController(
+        NamedWriteableRegistry namedWriteableRegistry,
+        Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder,
+        @Nullable AggregationSpillSettings aggregationSpillSettings
     ) {
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.requestToAggReduceContextBuilder = requestToAggReduceContextBuilder;
+        this.aggregationSpillSettings = aggregationSpillSettings;
     }
 
     public AggregatedDfs aggregateDfs(Collection<DfsSearchResult> results) {
@@ -808,6 +819,15 @@ public final class SearchPhaseController {
         );
     }
 
+    /**
+     * Returns where the partially reduced aggregations of a new search request are spilled, or null if they are
+     * kept in memory
+     */
+    @Nullable
+    SpilledAggregations newSpilledAggregations() {
+        return aggregationSpillSettings == null ? null : aggregationSpillSettings.newSpilledAggregations(namedWriteableRegistry);
+    }
+
     /**
      * Returns a new {@link StreamQueryPhaseResultConsumer} instance that reduces search responses incrementally.
      */
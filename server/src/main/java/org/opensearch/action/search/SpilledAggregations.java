@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.SpillableAggregation;
+import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The partially reduced aggregations of a search request that the coordinating node wrote to disk.
+ * <p>
+ * Every spilled result is a run of slices of buckets sorted by key. The final reduce merges the runs of an aggregation
+ * slice by slice: the buckets whose key is not greater than the last key of any slice in memory are complete, so they
+ * are reduced and the ones that can not make it to the final result are dropped. Only a slice per run and the
+ * buckets kept so far are in memory at a time.
+ *
+ * @opensearch.internal
+ */
+final class SpilledAggregations implements Releasable {
+    private static final Logger logger = LogManager.getLogger(SpilledAggregations.class);
+
+    static final int SLICE_SIZE = 1024;
+
+    private final Path directory;
+    private final long threshold;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Map<String, List<Path>> runs = new LinkedHashMap<>();
+
+    SpilledAggregations(Path directory, long threshold, NamedWriteableRegistry namedWriteableRegistry) {
+        this.directory = directory;
+        this.threshold = threshold;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Writes the spillable aggregations of the partial result to disk if the result is larger than the threshold
+     *
+     * @return the aggregations that are kept in memory
+     */
+    synchronized InternalAggregations maybeSpill(InternalAggregations partial, long serializedSize) throws IOException {
+        if (serializedSize <= threshold) {
+            return partial;
+        }
+        List<InternalAggregation> kept = new ArrayList<>();
+        for (InternalAggregation aggregation : partial.copyResults()) {
+            if (aggregation instanceof SpillableAggregation && ((SpillableAggregation) aggregation).isSortedByKey()) {
+                runs.computeIfAbsent(aggregation.getName(), k -> new ArrayList<>()).add(writeRun(aggregation));
+            } else {
+                kept.add(aggregation);
+            }
+        }
+        logger.trace("spilled [{}] aggregations of a [{}] bytes partial result", partial.asList().size() - kept.size(), serializedSize);
+        return InternalAggregations.from(kept);
+    }
+
+    synchronized boolean hasSpilled() {
+        return runs.isEmpty() == false;
+    }
+
+    /**
+     * Merges the spilled aggregations back with the partial result that is in memory
+     */
+    synchronized InternalAggregations merge(InternalAggregations inMemory, ReduceContext reduceContext) throws IOException {
+        List<InternalAggregation> merged = new ArrayList<>();
+        Map<String, InternalAggregation> inMemoryByName = new LinkedHashMap<>();
+        if (inMemory != null) {
+            for (InternalAggregation aggregation : inMemory.copyResults()) {
+                if (runs.containsKey(aggregation.getName())) {
+                    inMemoryByName.put(aggregation.getName(), aggregation);
+                } else {
+                    merged.add(aggregation);
+                }
+            }
+        }
+        for (Map.Entry<String, List<Path>> entry : runs.entrySet()) {
+            List<Run> toMerge = new ArrayList<>();
+            try {
+                for (Path file : entry.getValue()) {
+                    toMerge.add(new FileRun(file));
+                }
+                InternalAggregation aggregation = inMemoryByName.get(entry.getKey());
+                if (aggregation != null) {
+                    toMerge.add(new Run(aggregation));
+                }
+                merged.add(merge(toMerge, reduceContext));
+            } finally {
+                IOUtils.close(toMerge);
+            }
+        }
+        return InternalAggregations.from(merged);
+    }
+
+    private Path writeRun(InternalAggregation aggregation) throws IOException {
+        SpillableAggregation spillable = (SpillableAggregation) aggregation;
+        int numBuckets = ((MultiBucketsAggregation) aggregation).getBuckets().size();
+        Path file = Files.createTempFile(directory, "aggs-spill-", ".bin");
+        try (StreamOutput out = new OutputStreamStreamOutput(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            int from = 0;
+            // an aggregation without buckets is still written, for its counts that are not attached to a bucket
+            do {
+                int to = Math.min(numBuckets, from + SLICE_SIZE);
+                out.writeBoolean(true);
+                out.writeNamedWriteable(spillable.slice(from, to));
+                from = to;
+            } while (from < numBuckets);
+            out.writeBoolean(false);
+        }
+        return file;
+    }
+
+    private static InternalAggregation merge(List<Run> toMerge, ReduceContext reduceContext) throws IOException {
+        List<Run> active = new ArrayList<>(toMerge);
+        InternalAggregation result = null;
+        while (true) {
+            List<InternalAggregation> slices = new ArrayList<>();
+            MultiBucketsAggregation.Bucket bound = null;
+            SpillableAggregation boundOwner = null;
+            for (int i = active.size() - 1; i >= 0; i--) {
+                Run run = active.get(i);
+                while (run.current() != null && buckets(run.current()).isEmpty()) {
+                    slices.add(run.current());
+                    run.advance();
+                }
+                if (run.current() == null) {
+                    active.remove(i);
+                    continue;
+                }
+                List<? extends MultiBucketsAggregation.Bucket> buckets = buckets(run.current());
+                MultiBucketsAggregation.Bucket last = buckets.get(buckets.size() - 1);
+                if (bound == null || boundOwner.compareKeys(last, bound) < 0) {
+                    bound = last;
+                    boundOwner = (SpillableAggregation) run.current();
+                }
+            }
+            if (slices.isEmpty() && active.isEmpty()) {
+                break;
+            }
+            for (Run run : active) {
+                SpillableAggregation current = (SpillableAggregation) run.current();
+                List<? extends MultiBucketsAggregation.Bucket> buckets = buckets(run.current());
+                int upTo = upTo(current, buckets, bound);
+                if (upTo == buckets.size()) {
+                    slices.add(run.current());
+                    run.advance();
+                } else if (upTo > 0) {
+                    slices.add(current.slice(0, upTo));
+                    run.replace(current.slice(upTo, buckets.size()));
+                }
+            }
+            InternalAggregation reduced = reducer(slices).mergeSlices(slices, reduceContext);
+            if (result == null) {
+                result = reduced;
+            } else {
+                List<InternalAggregation> partials = Arrays.asList(result, reduced);
+                result = reducer(partials).reduceDisjoint(partials);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of buckets whose key is less than or equal to the key of the bound
+     */
+    private static int upTo(
+        SpillableAggregation aggregation,
+        List<? extends MultiBucketsAggregation.Bucket> buckets,
+        MultiBucketsAggregation.Bucket bound
+    ) {
+        int low = 0;
+        int high = buckets.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (aggregation.compareKeys(buckets.get(mid), bound) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<? extends MultiBucketsAggregation.Bucket> buckets(InternalAggregation aggregation) {
+        return ((MultiBucketsAggregation) aggregation).getBuckets();
+    }
+
+    /**
+     * Unmapped aggregations can not reduce mapped ones, so the first mapped one leads the reduce
+     */
+    private static SpillableAggregation reducer(List<InternalAggregation> aggregations) {
+        for (InternalAggregation aggregation : aggregations) {
+            if (aggregation.isMapped()) {
+                return (SpillableAggregation) aggregation;
+            }
+        }
+        return (SpillableAggregation) aggregations.get(0);
+    }
+
+    @Override
+    public synchronized void close() {
+        for (List<Path> files : runs.values()) {
+            IOUtils.deleteFilesIgnoringExceptions(files);
+        }
+        runs.clear();
+    }
+
+    /**
+     * A partial result held in memory, read as a single slice
+     */
+    private static class Run implements Closeable {
+        private InternalAggregation current;
+
+        Run(InternalAggregation current) {
+            this.current = current;
+        }
+
+        final InternalAggregation current() {
+            return current;
+        }
+
+        final void replace(InternalAggregation slice) {
+            current = slice;
+        }
+
+        void advance() throws IOException {
+            current = null;
+        }
+
+        @Override
+        public void close() throws IOException {}
+    }
+
+    /**
+     * A spilled partial result, read slice by slice
+     */
+    private class FileRun extends Run {
+        private final StreamInput in;
+
+        FileRun(Path file) throws IOException {
+            super(null);
+            this.in = new NamedWriteableAwareStreamInput(
+                new InputStreamStreamInput(new BufferedInputStream(Files.newInputStream(file))),
+                namedWriteableRegistry
+            );
+            advance();
+        }
+
+        @Override
+        void advance() throws IOException {
+            replace(in.readBoolean() ? in.readNamedWriteable(InternalAggregation.class) : null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
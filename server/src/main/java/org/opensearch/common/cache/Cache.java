@@ -45,6 +45,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -68,16 +70,13 @@ import java.util.function.ToLongBiFunction;
  * if they are reading a segment that a writer is writing to).
  * <p>
  * The LRU functionality is backed by a single doubly-linked list chaining the entries in order of insertion. This
- * LRU list is protected by a lock that serializes all writes to it. There are opportunities for improvements
- * here if write throughput is a concern.
- * <ol>
- * <li>LRU list mutations could be inserted into a blocking queue that a single thread is reading from
- * and applying to the LRU list.</li>
- * <li>Promotions could be deferred for entries that were "recently" promoted.</li>
- * <li>Locks on the list could be taken per node being modified instead of globally.</li>
- * </ol>
+ * LRU list is protected by a lock that serializes all writes to it. So that cache hits do not contend on this lock, the
+ * promotions of the entries that are hit are recorded in read buffers striped by thread, and applied to the LRU list in
+ * batches by whichever thread next holds the lock: a hit only takes the lock, without waiting for it, once its read
+ * buffer is half full, and waits for it only if its read buffer is full. The pending promotions are applied before any
+ * other mutation of the LRU list, so that the LRU order only lags behind the hits that are still buffered.
  * <p>
- * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
+ * Evictions only occur after a mutation to the cache (meaning a batch of entry promotions, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
  *
  * @param <K> The type of the keys
@@ -118,6 +117,13 @@ public class Cache<K, V> {
     private final int numberOfSegments;
     public static final int NUMBER_OF_SEGMENTS = 256;
 
+    // the number of pending promotions a read buffer holds
+    static final int READ_BUFFER_SIZE = 16;
+    private static final int MAX_READ_BUFFERS = 64;
+
+    // the buffers of the promotions of the entries that were hit, null if every hit promotes its entry under the LRU lock
+    private ReadBuffer<K, V>[] readBuffers = newReadBuffers();
+
     Cache(final int numberOfSegments) {
         if (numberOfSegments != -1) {
             this.numberOfSegments = numberOfSegments;
@@ -173,6 +179,20 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    void setBufferedPromotions(boolean bufferedPromotions) {
+        this.readBuffers = bufferedPromotions ? newReadBuffers() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> ReadBuffer<K, V>[] newReadBuffers() {
+        final int numberOfBuffers = Math.min(MAX_READ_BUFFERS, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        final ReadBuffer<K, V>[] readBuffers = new ReadBuffer[numberOfBuffers];
+        for (int i = 0; i < numberOfBuffers; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+        return readBuffers;
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -407,7 +427,27 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            List<RemovalNotification<K, V>> removalNotifications = promote(entry, now).v2();
+            final ReadBuffer<K, V>[] readBuffers = this.readBuffers;
+            List<RemovalNotification<K, V>> removalNotifications;
+            if (readBuffers == null) {
+                removalNotifications = promote(entry, now).v2();
+            } else {
+                final int pending = readBuffers[Long.hashCode(Thread.currentThread().threadId()) & (readBuffers.length - 1)].offer(entry);
+                if (pending < 0) {
+                    // the read buffer is full, wait for the LRU lock to apply its promotions along with this one
+                    removalNotifications = promote(entry, now).v2();
+                } else {
+                    final ReleasableLock locked = pending >= READ_BUFFER_SIZE / 2 ? lruLock.tryAcquire() : null;
+                    if (locked == null) {
+                        return entry.value;
+                    }
+                    try (ReleasableLock ignored = locked) {
+                        removalNotifications = new ArrayList<>();
+                        drainReadBuffers();
+                        prune(now, removalNotifications);
+                    }
+                }
+            }
             if (!removalNotifications.isEmpty()) {
                 for (RemovalNotification<K, V> removalNotification : removalNotifications) {
                     removalListener.onRemoval(removalNotification);
@@ -628,6 +668,7 @@ public class Cache<K, V> {
                 haveSegmentLock[i] = true;
             }
             try (ReleasableLock ignored = lruLock.acquire()) {
+                drainReadBuffers();
                 h = head;
                 Arrays.stream(segments).forEach(segment -> segment.map = new HashMap<>());
                 Entry<K, V> current = head;
@@ -658,6 +699,7 @@ public class Cache<K, V> {
     public void refresh() {
         long now = now();
         try (ReleasableLock ignored = lruLock.acquire()) {
+            drainReadBuffers();
             evict(now);
         }
     }
@@ -688,6 +730,7 @@ public class Cache<K, V> {
      * @return an LRU-ordered {@link Iterable} over the keys in the cache
      */
     public Iterable<K> keys() {
+        applyReadBuffers();
         return () -> new Iterator<K>() {
             private CacheIterator iterator = new CacheIterator(head);
 
@@ -716,6 +759,7 @@ public class Cache<K, V> {
      * @return an LRU-ordered {@link Iterable} over the values in the cache
      */
     public Iterable<V> values() {
+        applyReadBuffers();
         return () -> new Iterator<V>() {
             private CacheIterator iterator = new CacheIterator(head);
 
@@ -831,6 +875,7 @@ public class Cache<K, V> {
         boolean promoted = true;
         List<RemovalNotification<K, V>> removalNotifications = new ArrayList<>();
         try (ReleasableLock ignored = lruLock.acquire()) {
+            drainReadBuffers();
             switch (entry.state) {
                 case DELETED:
                     promoted = false;
@@ -843,23 +888,104 @@ public class Cache<K, V> {
                     break;
             }
             if (promoted) {
-                while (tail != null && shouldPrune(tail, now)) {
-                    Entry<K, V> entryToBeRemoved = tail;
-                    CacheSegment<K, V> segment = getCacheSegment(entryToBeRemoved.key);
-                    if (segment != null) {
-                        segment.remove(entryToBeRemoved.key, entryToBeRemoved.value, f -> {});
-                    }
-                    if (unlink(entryToBeRemoved)) {
-                        removalNotifications.add(
-                            new RemovalNotification<>(entryToBeRemoved.key, entryToBeRemoved.value, RemovalReason.EVICTED)
-                        );
-                    }
-                }
+                prune(now, removalNotifications);
             }
         }
         return new Tuple<>(promoted, removalNotifications);
     }
 
+    private void prune(long now, List<RemovalNotification<K, V>> removalNotifications) {
+        assert lruLock.isHeldByCurrentThread();
+
+        while (tail != null && shouldPrune(tail, now)) {
+            Entry<K, V> entryToBeRemoved = tail;
+            CacheSegment<K, V> segment = getCacheSegment(entryToBeRemoved.key);
+            if (segment != null) {
+                segment.remove(entryToBeRemoved.key, entryToBeRemoved.value, f -> {});
+            }
+            if (unlink(entryToBeRemoved)) {
+                removalNotifications.add(new RemovalNotification<>(entryToBeRemoved.key, entryToBeRemoved.value, RemovalReason.EVICTED));
+            }
+        }
+    }
+
+    private void applyReadBuffers() {
+        if (readBuffers != null) {
+            try (ReleasableLock ignored = lruLock.acquire()) {
+                drainReadBuffers();
+            }
+        }
+    }
+
+    /**
+     * Applies the promotions pending in the read buffers to the LRU list, in the order of each buffer
+     */
+    private void drainReadBuffers() {
+        assert lruLock.isHeldByCurrentThread();
+
+        final ReadBuffer<K, V>[] readBuffers = this.readBuffers;
+        if (readBuffers != null) {
+            for (ReadBuffer<K, V> readBuffer : readBuffers) {
+                readBuffer.drain(this::relinkIfExisting);
+            }
+        }
+    }
+
+    private void relinkIfExisting(Entry<K, V> entry) {
+        // the entries that were removed since they were hit stay removed, and the new ones are linked by their insertion
+        if (entry.state == State.EXISTING) {
+            relinkAtHead(entry);
+        }
+    }
+
+    /**
+     * A bounded buffer of the entries that were hit and are still to be promoted to the head of the LRU list.
+     * <p>
+     * Any thread adds entries, while the buffer is only drained under the LRU lock.
+     *
+     * @opensearch.internal
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicReferenceArray<Entry<K, V>> entries = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeIndex = new AtomicLong();
+        // only advanced under the LRU lock
+        private volatile long readIndex;
+
+        /**
+         * Adds the entry to the buffer and returns the number of entries pending in the buffer, or -1 if the buffer is full
+         */
+        int offer(Entry<K, V> entry) {
+            while (true) {
+                final long write = writeIndex.get();
+                final long pending = write - readIndex;
+                if (pending >= READ_BUFFER_SIZE) {
+                    return -1;
+                }
+                if (writeIndex.compareAndSet(write, write + 1)) {
+                    entries.lazySet((int) (write & (READ_BUFFER_SIZE - 1)), entry);
+                    return (int) pending + 1;
+                }
+            }
+        }
+
+        void drain(Consumer<Entry<K, V>> consumer) {
+            long read = readIndex;
+            final long write = writeIndex.get();
+            while (read < write) {
+                final int index = (int) (read & (READ_BUFFER_SIZE - 1));
+                final Entry<K, V> entry = entries.get(index);
+                if (entry == null) {
+                    // the entry was added but is not visible yet, the next drain applies it
+                    break;
+                }
+                entries.lazySet(index, null);
+                consumer.accept(entry);
+                read++;
+            }
+            readIndex = read;
+        }
+    }
+
     private void evict(long now) {
         assert lruLock.isHeldByCurrentThread();
 
@@ -53,6 +53,7 @@ public class CacheBuilder<K, V> {
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
     private int numberOfSegments = -1;
+    private boolean bufferedPromotions = true;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -120,6 +121,15 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets whether the promotions of the entries that are hit are buffered and applied to the LRU list in batches (the
+     * default), or applied one by one under the LRU lock so that the LRU order reflects every hit immediately.
+     */
+    public CacheBuilder<K, V> setBufferedPromotions(boolean bufferedPromotions) {
+        this.bufferedPromotions = bufferedPromotions;
+        return this;
+    }
+
     public Cache<K, V> build() {
         Cache<K, V> cache = new Cache<>(numberOfSegments);
         if (maximumWeight != -1) {
@@ -137,6 +147,9 @@ public class CacheBuilder<K, V> {
         if (removalListener != null) {
             cache.setRemovalListener(removalListener);
         }
+        if (bufferedPromotions == false) {
+            cache.setBufferedPromotions(false);
+        }
         return cache;
     }
 }
@@ -8,6 +8,7 @@
 
 package org.opensearch.common.cache.service;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.common.annotation.ExperimentalApi;
@@ -22,6 +23,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * A class creating XContent responses to cache stats API requests.
@@ -47,6 +49,12 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         flags.writeTo(out);
+        SortedMap<CacheType, ImmutableCacheStatsHolder> statsByCache = this.statsByCache;
+        if (out.getVersion().before(Version.V_3_3_0) && statsByCache.containsKey(CacheType.INDICES_QUERY_CACHE)) {
+            // older nodes do not know the query cache type
+            statsByCache = new TreeMap<>(statsByCache);
+            statsByCache.remove(CacheType.INDICES_QUERY_CACHE);
+        }
         out.writeMap(statsByCache, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
     }
 
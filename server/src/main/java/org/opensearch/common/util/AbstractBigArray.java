@@ -38,6 +38,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.recycler.Recycler;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -165,6 +166,16 @@ abstract class AbstractBigArray extends AbstractArray {
         }
     }
 
+    protected final ByteBuffer newDirectPage(int page) {
+        assert recycler != null && recycler.offHeap() : "off-heap pages require a recycler with off-heap pages enabled";
+        final Recycler.V<ByteBuffer> v = recycler.directPage(clearOnResize);
+        cache = grow(cache, page + 1);
+        assert cache[page] == null;
+        cache[page] = v;
+        assert v.v().capacity() == PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+        return v.v();
+    }
+
     protected final void releasePage(int page) {
         if (recycler != null) {
             cache[page].close();
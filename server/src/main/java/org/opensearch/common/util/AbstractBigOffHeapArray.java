@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Common implementation for big arrays of primitives whose pages are direct buffers obtained from the
+ * {@link PageCacheRecycler}, so that their content lives outside of the Java heap. Elements are addressed by their
+ * byte offset in the page, using the native byte order of the pages.
+ *
+ * @opensearch.internal
+ */
+abstract class AbstractBigOffHeapArray extends AbstractBigArray {
+
+    private final int elementShift;
+    protected ByteBuffer[] pages;
+
+    protected AbstractBigOffHeapArray(long size, int bytesPerElement, BigArrays bigArrays, boolean clearOnResize) {
+        super(PageCacheRecycler.PAGE_SIZE_IN_BYTES / bytesPerElement, bigArrays, clearOnResize);
+        this.elementShift = Integer.numberOfTrailingZeros(bytesPerElement);
+        this.size = size;
+        pages = new ByteBuffer[numPages(size)];
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = newDirectPage(i);
+        }
+    }
+
+    /** Returns the offset in bytes of the given index in its page. */
+    final int offsetInPage(long index) {
+        return indexInPage(index) << elementShift;
+    }
+
+    @Override
+    protected final int numBytesPerElement() {
+        return 1 << elementShift;
+    }
+
+    /** Estimates the number of bytes that would be consumed by an array of the given size and element size. */
+    static long estimateRamBytes(long size, int bytesPerElement) {
+        final long elementsPerPage = PageCacheRecycler.PAGE_SIZE_IN_BYTES / bytesPerElement;
+        return ((size - 1) / elementsPerPage + 1) * PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    @Override
+    public final void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            pages = Arrays.copyOf(pages, ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF));
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = newDirectPage(i);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            pages[i] = null;
+            releasePage(i);
+        }
+        this.size = newSize;
+    }
+}
@@ -495,6 +495,13 @@ public class BigArrays {
         return this.circuitBreakingInstance.breakerService;
     }
 
+    /**
+     * Whether big int, long and double arrays are allocated outside of the Java heap.
+     */
+    boolean offHeap() {
+        return recycler != null && recycler.offHeap();
+    }
+
     private <T extends AbstractBigArray> T resizeInPlace(T array, long newSize) {
         final long oldMemSize = array.ramBytesUsed();
         final long oldSize = array.size();
@@ -615,6 +622,10 @@ public class BigArrays {
         if (size > PageCacheRecycler.INT_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
+            if (offHeap()) {
+                adjustBreaker(AbstractBigOffHeapArray.estimateRamBytes(size, Integer.BYTES), false);
+                return new BigOffHeapIntArray(size, this, clearOnResize);
+            }
             adjustBreaker(BigIntArray.estimateRamBytes(size), false);
             return new BigIntArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.INT_PAGE_SIZE / 2 && recycler != null) {
@@ -637,6 +648,8 @@ public class BigArrays {
     public IntArray resize(IntArray array, long size) {
         if (array instanceof BigIntArray) {
             return resizeInPlace((BigIntArray) array, size);
+        } else if (array instanceof BigOffHeapIntArray) {
+            return resizeInPlace((BigOffHeapIntArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final IntArray newArray = newIntArray(size, arr.clearOnResize);
@@ -667,6 +680,10 @@ public class BigArrays {
         if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
+            if (offHeap()) {
+                adjustBreaker(AbstractBigOffHeapArray.estimateRamBytes(size, Long.BYTES), false);
+                return new BigOffHeapLongArray(size, this, clearOnResize);
+            }
             adjustBreaker(BigLongArray.estimateRamBytes(size), false);
             return new BigLongArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
@@ -689,6 +706,8 @@ public class BigArrays {
     public LongArray resize(LongArray array, long size) {
         if (array instanceof BigLongArray) {
             return resizeInPlace((BigLongArray) array, size);
+        } else if (array instanceof BigOffHeapLongArray) {
+            return resizeInPlace((BigOffHeapLongArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final LongArray newArray = newLongArray(size, arr.clearOnResize);
@@ -719,6 +738,10 @@ public class BigArrays {
         if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
+            if (offHeap()) {
+                adjustBreaker(AbstractBigOffHeapArray.estimateRamBytes(size, Double.BYTES), false);
+                return new BigOffHeapDoubleArray(size, this, clearOnResize);
+            }
             adjustBreaker(BigDoubleArray.estimateRamBytes(size), false);
             return new BigDoubleArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
@@ -738,6 +761,8 @@ public class BigArrays {
     public DoubleArray resize(DoubleArray array, long size) {
         if (array instanceof BigDoubleArray) {
             return resizeInPlace((BigDoubleArray) array, size);
+        } else if (array instanceof BigOffHeapDoubleArray) {
+            return resizeInPlace((BigOffHeapDoubleArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final DoubleArray newArray = newDoubleArray(size, arr.clearOnResize);
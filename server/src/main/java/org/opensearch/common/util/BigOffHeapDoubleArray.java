@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Double array abstraction able to support more than 2B values, whose pages live outside of the Java heap.
+ *
+ * @opensearch.internal
+ */
+final class BigOffHeapDoubleArray extends AbstractBigOffHeapArray implements DoubleArray {
+
+    BigOffHeapDoubleArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, Double.BYTES, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public double get(long index) {
+        return pages[pageIndex(index)].getDouble(offsetInPage(index));
+    }
+
+    @Override
+    public double set(long index, double value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double ret = page.getDouble(offset);
+        page.putDouble(offset, value);
+        return ret;
+    }
+
+    @Override
+    public double increment(long index, double inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double value = page.getDouble(offset) + inc;
+        page.putDouble(offset, value);
+        return value;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, double value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putDouble(offsetInPage(i), value);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Int array abstraction able to support more than 2B values, whose pages live outside of the Java heap.
+ *
+ * @opensearch.internal
+ */
+final class BigOffHeapIntArray extends AbstractBigOffHeapArray implements IntArray {
+
+    BigOffHeapIntArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, Integer.BYTES, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public int get(long index) {
+        return pages[pageIndex(index)].getInt(offsetInPage(index));
+    }
+
+    @Override
+    public int set(long index, int value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final int ret = page.getInt(offset);
+        page.putInt(offset, value);
+        return ret;
+    }
+
+    @Override
+    public int increment(long index, int inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final int value = page.getInt(offset) + inc;
+        page.putInt(offset, value);
+        return value;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, int value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putInt(offsetInPage(i), value);
+        }
+    }
+}
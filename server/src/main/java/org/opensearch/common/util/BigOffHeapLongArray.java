@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Long array abstraction able to support more than 2B values, whose pages live outside of the Java heap.
+ *
+ * @opensearch.internal
+ */
+final class BigOffHeapLongArray extends AbstractBigOffHeapArray implements LongArray {
+
+    BigOffHeapLongArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, Long.BYTES, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public long get(long index) {
+        return pages[pageIndex(index)].getLong(offsetInPage(index));
+    }
+
+    @Override
+    public long set(long index, long value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final long ret = page.getLong(offset);
+        page.putLong(offset, value);
+        return ret;
+    }
+
+    @Override
+    public long increment(long index, long inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final long value = page.getLong(offset) + inc;
+        page.putLong(offset, value);
+        return value;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, long value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putLong(offsetInPage(i), value);
+        }
+    }
+}
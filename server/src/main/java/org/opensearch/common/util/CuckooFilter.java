@@ -96,7 +96,7 @@ public class CuckooFilter implements Writeable {
      *            false positives at expense of larger size
      * @param rng A random number generator, used with the cuckoo hashing process
      */
-    CuckooFilter(long capacity, double fpp, Random rng) {
+    public CuckooFilter(long capacity, double fpp, Random rng) {
         this.rng = rng;
         this.entriesPerBucket = entriesPerBucket(fpp);
         double loadFactor = getLoadFactor(entriesPerBucket);
@@ -229,7 +229,7 @@ public class CuckooFilter implements Writeable {
      * Returns true if the set might contain the provided value, false otherwise.  False values are
      * 100% accurate, while true values may be a false-positive.
      */
-    boolean mightContain(long hash) {
+    public boolean mightContain(long hash) {
         int bucket = hashToIndex((int) hash, numBuckets);
         int fingerprint = fingerprint((int) (hash >>> 32), bitsPerEntry, fingerprintMask);
         int alternateIndex = alternateIndex(bucket, fingerprint, numBuckets);
@@ -253,12 +253,9 @@ public class CuckooFilter implements Writeable {
      * Return's true if any of the entries in the bucket contain the fingerprint
      */
     private boolean hasFingerprint(int bucket, long fingerprint) {
-        long[] values = new long[entriesPerBucket];
         int offset = getOffset(bucket, 0);
-        data.get(offset, values, 0, entriesPerBucket);
-
         for (int i = 0; i < entriesPerBucket; i++) {
-            if (values[i] == fingerprint) {
+            if (data.get(offset + i) == fingerprint) {
                 return true;
             }
         }
@@ -269,7 +266,7 @@ public class CuckooFilter implements Writeable {
      * Add's the hash to the bucket or alternate bucket.  Returns true if the insertion was
      * successful, false if the filter is saturated.
      */
-    boolean add(long hash) {
+    public boolean add(long hash) {
         // Each bucket needs 32 bits, so we truncate for the first bucket and shift/truncate for second
         int bucket = hashToIndex((int) hash, numBuckets);
         int fingerprint = fingerprint((int) (hash >>> 32), bitsPerEntry, fingerprintMask);
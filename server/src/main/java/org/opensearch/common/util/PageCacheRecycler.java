@@ -43,6 +43,8 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.bytes.PagedBytesReference;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -95,6 +97,16 @@ public class PageCacheRecycler {
         0d,
         Property.NodeScope
     );
+    /**
+     * Whether big arrays of primitives (and the hashes built on top of them) should store their pages in direct
+     * buffers outside of the Java heap. Off-heap pages are still accounted for by the circuit breakers.
+     */
+    public static final Setting<Boolean> OFF_HEAP_SETTING = Setting.boolSetting("cache.recycler.page.off_heap", false, Property.NodeScope);
+    public static final Setting<ByteSizeValue> LIMIT_OFF_HEAP_SETTING = Setting.memorySizeSetting(
+        "cache.recycler.page.limit.off_heap",
+        "10%",
+        Property.NodeScope
+    );
 
     /** Page size in bytes: 16KB */
     public static final int PAGE_SIZE_IN_BYTES = PagedBytesReference.PAGE_SIZE_IN_BYTES;
@@ -103,10 +115,13 @@ public class PageCacheRecycler {
     public static final int INT_PAGE_SIZE = PAGE_SIZE_IN_BYTES / Integer.BYTES;
     public static final int BYTE_PAGE_SIZE = PAGE_SIZE_IN_BYTES;
 
+    private static final byte[] ZERO_PAGE = new byte[PAGE_SIZE_IN_BYTES];
+
     private final Recycler<byte[]> bytePage;
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final Recycler<ByteBuffer> directPage;
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
@@ -193,6 +208,26 @@ public class PageCacheRecycler {
         });
 
         assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
+
+        if (OFF_HEAP_SETTING.get(settings)) {
+            // direct pages are shared across primitive types, the views that big arrays create on top of them
+            // use the native byte order
+            final long offHeapLimit = LIMIT_OFF_HEAP_SETTING.get(settings).getBytes();
+            final int maxDirectPageCount = (int) Math.min(Integer.MAX_VALUE, offHeapLimit / PAGE_SIZE_IN_BYTES);
+            directPage = build(type, maxDirectPageCount, allocatedProcessors, new AbstractRecyclerC<ByteBuffer>() {
+                @Override
+                public ByteBuffer newInstance() {
+                    return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+                }
+
+                @Override
+                public void recycle(ByteBuffer value) {
+                    // nothing to do
+                }
+            });
+        } else {
+            directPage = null;
+        }
     }
 
     public Recycler.V<byte[]> bytePage(boolean clear) {
@@ -224,6 +259,22 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
+    /**
+     * Whether this recycler hands out off-heap pages through {@link #directPage(boolean)}.
+     */
+    public boolean offHeap() {
+        return directPage != null;
+    }
+
+    public Recycler.V<ByteBuffer> directPage(boolean clear) {
+        assert offHeap() : "off-heap pages are disabled";
+        final Recycler.V<ByteBuffer> v = directPage.obtain();
+        if (v.isRecycled() && clear) {
+            v.v().put(0, ZERO_PAGE);
+        }
+        return v;
+    }
+
     private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
         final Recycler<T> recycler;
         if (limit == 0) {
@@ -593,6 +593,15 @@ public final class ThreadContext implements Writeable {
         threadLocal.set(threadLocal.get().setSystemContext(propagators));
     }
 
+    /**
+     * Returns <code>true</code> iff this context carries transient or persistent headers, such as the user that security
+     * plugins authenticated
+     */
+    public boolean hasTransientOrPersistentHeaders() {
+        final ThreadContextStruct context = threadLocal.get();
+        return context.transientHeaders.isEmpty() == false || context.persistentHeaders.isEmpty() == false;
+    }
+
     /**
      * Returns <code>true</code> iff this context is a system context
      */
@@ -38,11 +38,15 @@ import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,6 +59,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
 /**
  * Map values for xcontent parsing.
  *
@@ -272,16 +278,45 @@ public class XContentMapValues {
      */
     public static Function<Map<String, ?>, Map<String, Object>> createAutomatonFilter(String[] includes, String[] excludes) {
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
+
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+    }
+
+    /**
+     * Returns a function that copies the properties of the document read by the parser that match the given include and
+     * exclude rules to the builder, without parsing the document into a map. The properties are filtered as by
+     * {@link #filter(Map, String[], String[])}, but keep their order and their representation in the document.
+     */
+    public static CheckedBiConsumer<XContentParser, XContentBuilder, IOException> filterStream(String[] includes, String[] excludes) {
+        CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
+
+        return (parser, builder) -> {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            PendingStructure root = new PendingStructure(null, null, false);
+            filter(parser, builder, root, include, 0, exclude, 0, matchAllAutomaton);
+            // an empty object is returned if no property matches, like the filtered map
+            root.start(builder);
+            root.end(builder);
+        };
+    }
 
-        CharacterRunAutomaton include;
+    private static CharacterRunAutomaton includeAutomaton(String[] includes, CharacterRunAutomaton matchAllAutomaton) {
         if (includes == null || includes.length == 0) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includes);
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAllAutomaton;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includes);
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    private static CharacterRunAutomaton excludeAutomaton(String[] excludes) {
         Automaton excludeA;
         if (excludes == null || excludes.length == 0) {
             excludeA = Automata.makeEmpty();
@@ -289,12 +324,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludes);
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -451,6 +481,195 @@ public class XContentMapValues {
         return filtered;
     }
 
+    /**
+     * An object or an array of the document being filtered, which is only written once one of its properties or values is,
+     * so that the objects and arrays without any matching property are dropped like in the filtered map.
+     */
+    private static final class PendingStructure {
+        private final PendingStructure parent;
+        private final String fieldName;
+        private final boolean array;
+        private boolean started;
+
+        PendingStructure(PendingStructure parent, String fieldName, boolean array) {
+            this.parent = parent;
+            this.fieldName = fieldName;
+            this.array = array;
+        }
+
+        void start(XContentBuilder builder) throws IOException {
+            if (started) {
+                return;
+            }
+            if (parent != null) {
+                parent.start(builder);
+            }
+            if (fieldName != null) {
+                builder.field(fieldName);
+            }
+            if (array) {
+                builder.startArray();
+            } else {
+                builder.startObject();
+            }
+            started = true;
+        }
+
+        void end(XContentBuilder builder) throws IOException {
+            if (started == false) {
+                return;
+            }
+            if (array) {
+                builder.endArray();
+            } else {
+                builder.endObject();
+            }
+        }
+    }
+
+    /**
+     * Streaming counterpart of the filtering of a map, called with the parser on the start of the object
+     */
+    private static void filter(
+        XContentParser parser,
+        XContentBuilder builder,
+        PendingStructure object,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        CharacterRunAutomaton excludeAutomaton,
+        int initialExcludeState,
+        CharacterRunAutomaton matchAllAutomaton
+    ) throws IOException {
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            ensureExpectedToken(XContentParser.Token.FIELD_NAME, token, parser);
+            String key = parser.currentName();
+            token = parser.nextToken();
+
+            int includeState = step(includeAutomaton, key, initialIncludeState);
+            if (includeState == -1) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int excludeState = step(excludeAutomaton, key, initialExcludeState);
+            if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+            int subIncludeState = includeState;
+            if (includeAutomaton.isAccept(includeState)) {
+                if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                    // the exclude has no chances to match inner properties
+                    object.start(builder);
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                    continue;
+                } else {
+                    // the object matched, so consider that the include matches every inner property
+                    // we only care about excludes now
+                    subIncludeAutomaton = matchAllAutomaton;
+                    subIncludeState = 0;
+                }
+            }
+
+            if (token == XContentParser.Token.START_OBJECT) {
+
+                subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                if (subIncludeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (excludeState != -1) {
+                    excludeState = excludeAutomaton.step(excludeState, '.');
+                }
+
+                PendingStructure value = new PendingStructure(object, key, false);
+                filter(parser, builder, value, subIncludeAutomaton, subIncludeState, excludeAutomaton, excludeState, matchAllAutomaton);
+                if (includeAutomaton.isAccept(includeState)) {
+                    value.start(builder);
+                }
+                value.end(builder);
+
+            } else if (token == XContentParser.Token.START_ARRAY) {
+
+                PendingStructure value = new PendingStructure(object, key, true);
+                filterArray(
+                    parser,
+                    builder,
+                    value,
+                    subIncludeAutomaton,
+                    subIncludeState,
+                    excludeAutomaton,
+                    excludeState,
+                    matchAllAutomaton
+                );
+                if (includeAutomaton.isAccept(includeState)) {
+                    value.start(builder);
+                }
+                value.end(builder);
+
+            } else {
+
+                // leaf property
+                if (includeAutomaton.isAccept(includeState) && (excludeState == -1 || excludeAutomaton.isAccept(excludeState) == false)) {
+                    object.start(builder);
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                }
+
+            }
+        }
+    }
+
+    /**
+     * Streaming counterpart of the filtering of a list, called with the parser on the start of the array
+     */
+    private static void filterArray(
+        XContentParser parser,
+        XContentBuilder builder,
+        PendingStructure array,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        CharacterRunAutomaton excludeAutomaton,
+        int initialExcludeState,
+        CharacterRunAutomaton matchAllAutomaton
+    ) throws IOException {
+        boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+            if (token == XContentParser.Token.START_OBJECT) {
+                int includeState = includeAutomaton.step(initialIncludeState, '.');
+                int excludeState = initialExcludeState;
+                if (excludeState != -1) {
+                    excludeState = excludeAutomaton.step(excludeState, '.');
+                }
+                PendingStructure value = new PendingStructure(array, null, false);
+                filter(parser, builder, value, includeAutomaton, includeState, excludeAutomaton, excludeState, matchAllAutomaton);
+                value.end(builder);
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                PendingStructure value = new PendingStructure(array, null, true);
+                filterArray(
+                    parser,
+                    builder,
+                    value,
+                    includeAutomaton,
+                    initialIncludeState,
+                    excludeAutomaton,
+                    initialExcludeState,
+                    matchAllAutomaton
+                );
+                value.end(builder);
+            } else if (isInclude) {
+                // #22557: only accept this array value if the key we are on is accepted:
+                array.start(builder);
+                builder.copyCurrentStructure(parser);
+            }
+        }
+    }
+
     public static boolean isObject(Object node) {
         return node instanceof Map;
     }
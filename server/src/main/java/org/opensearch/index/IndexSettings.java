@@ -46,6 +46,9 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.compress.NoneCompressor;
 import org.opensearch.core.index.Index;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeIndexSettings;
 import org.opensearch.index.remote.RemoteStoreEnums.PathType;
@@ -171,6 +174,43 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * The window during which the translog syncs requested by indexing requests are grouped into a single fsync that
+     * runs on the {@code translog_sync} thread pool. Zero disables group commit, in which case the indexing thread that
+     * asks for a sync runs the fsync of every pending sync itself.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING = Setting.timeSetting(
+        "index.translog.group_commit_interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.IndexScope
+    );
+
+    /**
+     * The compressor of the sources of the index operations written to the translog, {@code none} to write them as is.
+     * The operations read from the translog or sent to recover a replica always carry the uncompressed source.
+     */
+    public static final Setting<Compressor> INDEX_TRANSLOG_COMPRESSION_TYPE_SETTING = new Setting<>(
+        "index.translog.compression_type",
+        NoneCompressor.NAME.toLowerCase(Locale.ROOT),
+        s -> CompressorRegistry.getCompressor(s.toUpperCase(Locale.ROOT)),
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * Whether the translog snapshots that recoveries and replays iterate over read the translog generations through a
+     * memory mapping rather than with positional reads of the file channel. Ignored on Windows, where a generation cannot
+     * be deleted while it is mapped.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_MMAP_SNAPSHOTS_SETTING = Setting.boolSetting(
+        "index.translog.mmap_snapshots",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING = Setting.timeSetting(
         "index.segment_replication.publish_referenced_segments_interval",
         TimeValue.timeValueMinutes(10),
@@ -524,6 +564,18 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * The maximum number of threads of the write thread pool that parse the documents of a bulk shard request ahead of
+     * their execution on the primary. Zero parses every document on the thread that indexes it.
+     */
+    public static final Setting<Integer> INDEX_BULK_PARSE_AHEAD_THREADS_SETTING = Setting.intSetting(
+        "index.bulk.parse_ahead_threads",
+        0,
+        0,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * The maximum number of slices allowed in a scroll request
      */
@@ -739,9 +791,14 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether the segments write a fuzzy set of their ids, which lets the id lookups of updates, deletes and version checks
+     * skip the segments that do not contain the id. Enabled by default unless the index is append-only, since the ids of
+     * an append-only index are only looked up when retried operations arrive.
+     */
     public static final Setting<Boolean> INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING = Setting.boolSetting(
         "index.optimize_doc_id_lookup.fuzzy_set.enabled",
-        false,
+        settings -> Boolean.toString(IndexMetadata.INDEX_APPEND_ONLY_ENABLED_SETTING.get(settings) == false),
         Property.IndexScope,
         Property.Dynamic
     );
@@ -755,6 +812,17 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    /**
+     * The number of recent auto-generated ids an append-only index remembers to index retried operations without looking
+     * up their id. Zero disables it.
+     */
+    public static final Setting<Integer> INDEX_APPEND_ONLY_ID_FILTER_SIZE_SETTING = Setting.intSetting(
+        "index.append_only.id_filter_size",
+        1 << 18,
+        0,
+        Property.IndexScope
+    );
+
     public static final TimeValue DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL = new TimeValue(650, TimeUnit.MILLISECONDS);
     public static final TimeValue MINIMUM_REMOTE_TRANSLOG_BUFFER_INTERVAL = TimeValue.ZERO;
     public static final Setting<TimeValue> INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING = Setting.timeSetting(
@@ -837,6 +905,9 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
+    private final TimeValue translogGroupCommitInterval;
+    private volatile Compressor translogCompressor;
+    private volatile boolean translogMmapSnapshots;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
     private volatile ByteSizeValue flushThresholdSize;
@@ -910,6 +981,7 @@ public final class IndexSettings {
      * The maximum number of slices allowed in a scroll request.
      */
     private volatile int maxSlicesPerScroll;
+    private volatile int bulkParseAheadThreads;
     /**
      * The maximum number of slices allowed in a PIT request.
      */
@@ -945,6 +1017,11 @@ public final class IndexSettings {
      */
     private volatile double docIdFuzzySetFalsePositiveProbability;
 
+    /**
+     * The number of recent auto-generated ids an append-only index remembers
+     */
+    private final int appendOnlyIdFilterSize;
+
     /**
      * Denotes whether this is a composite index i.e star-tree index etc
      */
@@ -1055,6 +1132,9 @@ public final class IndexSettings {
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitInterval = INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.get(settings);
+        translogCompressor = scopedSettings.get(INDEX_TRANSLOG_COMPRESSION_TYPE_SETTING);
+        translogMmapSnapshots = scopedSettings.get(INDEX_TRANSLOG_MMAP_SNAPSHOTS_SETTING);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
@@ -1078,6 +1158,7 @@ public final class IndexSettings {
         maxShingleDiff = scopedSettings.get(MAX_SHINGLE_DIFF_SETTING);
         maxRefreshListeners = scopedSettings.get(MAX_REFRESH_LISTENERS_PER_SHARD);
         maxSlicesPerScroll = scopedSettings.get(MAX_SLICES_PER_SCROLL);
+        bulkParseAheadThreads = scopedSettings.get(INDEX_BULK_PARSE_AHEAD_THREADS_SETTING);
         maxSlicesPerPit = scopedSettings.get(MAX_SLICES_PER_PIT);
         maxAnalyzedOffset = scopedSettings.get(MAX_ANALYZED_OFFSET_SETTING);
         maxTermsCount = scopedSettings.get(MAX_TERMS_COUNT_SETTING);
@@ -1117,6 +1198,7 @@ public final class IndexSettings {
 
         setEnableFuzzySetForDocId(scopedSettings.get(INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING));
         setDocIdFuzzySetFalsePositiveProbability(scopedSettings.get(INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING));
+        appendOnlyIdFilterSize = scopedSettings.get(INDEX_APPEND_ONLY_ID_FILTER_SIZE_SETTING);
         isCompositeIndex = scopedSettings.get(StarTreeIndexSettings.IS_COMPOSITE_INDEX_SETTING);
         isStarTreeIndexEnabled = scopedSettings.get(StarTreeIndexSettings.STAR_TREE_SEARCH_ENABLED_SETTING);
         scopedSettings.addSettingsUpdateConsumer(
@@ -1180,6 +1262,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MergeSchedulerConfig.AUTO_THROTTLE_SETTING, mergeSchedulerConfig::setAutoThrottle);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_COMPRESSION_TYPE_SETTING, this::setTranslogCompressor);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_MMAP_SNAPSHOTS_SETTING, this::setTranslogMmapSnapshots);
         scopedSettings.addSettingsUpdateConsumer(
             INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
             this::setPublishReferencedSegmentsInterval
@@ -1206,6 +1290,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_TERMS_COUNT_SETTING, this::setMaxTermsCount);
         scopedSettings.addSettingsUpdateConsumer(MAX_NESTED_QUERY_DEPTH_SETTING, this::setMaxNestedQueryDepth);
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_SCROLL, this::setMaxSlicesPerScroll);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARSE_AHEAD_THREADS_SETTING, this::setBulkParseAheadThreads);
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_PIT, this::setMaxSlicesPerPit);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
@@ -1567,6 +1652,36 @@ public final class IndexSettings {
         this.syncInterval = translogSyncInterval;
     }
 
+    /**
+     * Returns the window during which the translog syncs of indexing requests are grouped into a single fsync, or zero if
+     * every sync is run by the indexing thread that asks for it
+     */
+    public TimeValue getTranslogGroupCommitInterval() {
+        return translogGroupCommitInterval;
+    }
+
+    /**
+     * Returns the compressor of the sources of the index operations written to the translog
+     */
+    public Compressor getTranslogCompressor() {
+        return translogCompressor;
+    }
+
+    private void setTranslogCompressor(Compressor translogCompressor) {
+        this.translogCompressor = translogCompressor;
+    }
+
+    /**
+     * Returns whether the translog snapshots read the translog generations through a memory mapping
+     */
+    public boolean isTranslogMmapSnapshots() {
+        return translogMmapSnapshots;
+    }
+
+    private void setTranslogMmapSnapshots(boolean translogMmapSnapshots) {
+        this.translogMmapSnapshots = translogMmapSnapshots;
+    }
+
     public TimeValue getPublishReferencedSegmentsInterval() {
         return publishReferencedSegmentsInterval;
     }
@@ -1905,6 +2020,17 @@ public final class IndexSettings {
         this.maxSlicesPerScroll = value;
     }
 
+    /**
+     * The maximum number of threads that parse the documents of a bulk shard request ahead of their execution.
+     */
+    public int getBulkParseAheadThreads() {
+        return bulkParseAheadThreads;
+    }
+
+    private void setBulkParseAheadThreads(int value) {
+        this.bulkParseAheadThreads = value;
+    }
+
     /**
      * The maximum number of slices allowed in a PIT request.
      */
@@ -2125,6 +2251,10 @@ public final class IndexSettings {
         this.docIdFuzzySetFalsePositiveProbability = docIdFuzzySetFalsePositiveProbability;
     }
 
+    public int getAppendOnlyIdFilterSize() {
+        return appendOnlyIdFilterSize;
+    }
+
     public RemoteStorePathStrategy getRemoteStorePathStrategy() {
         return remoteStorePathStrategy;
     }
@@ -26,6 +26,7 @@ import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.Fields;
 import org.apache.lucene.index.ImpactsEnum;
 import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
@@ -35,6 +36,7 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.automaton.CompiledAutomaton;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.util.io.IOUtils;
 
 import java.io.Closeable;
@@ -44,6 +46,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Based on Lucene's BloomFilterPostingsFormat.
@@ -101,9 +104,38 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
         return new FuzzyFilteredFieldsProducer(state);
     }
 
+    /**
+     * Returns the stats of the exact lookups of the terms of the given field of the segment, or null if the field has no fuzzy set
+     */
+    @Nullable
+    public static LookupStats lookupStats(LeafReader reader, String field) throws IOException {
+        final Terms terms = reader.terms(field);
+        return terms instanceof FuzzyFilteredFieldsProducer.FuzzyFilteredTerms
+            ? ((FuzzyFilteredFieldsProducer.FuzzyFilteredTerms) terms).lookupStats
+            : null;
+    }
+
+    /**
+     * The number of exact lookups of the terms of a field of a segment since the segment was opened, and how many of them
+     * the fuzzy set of the field answered without seeking the terms dictionary
+     */
+    public static final class LookupStats {
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        public long getLookups() {
+            return lookups.sum();
+        }
+
+        public long getSkipped() {
+            return skipped.sum();
+        }
+    }
+
     static class FuzzyFilteredFieldsProducer extends FieldsProducer {
         private FieldsProducer delegateFieldsProducer;
         HashMap<String, FuzzySet> fuzzySetsByFieldName = new HashMap<>();
+        private final Map<String, LookupStats> lookupStatsByFieldName = new HashMap<>();
         private List<Closeable> closeables = new ArrayList<>();
 
         public FuzzyFilteredFieldsProducer(SegmentReadState state) throws IOException {
@@ -136,6 +168,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                     closeables.add(set);
                     FieldInfo fieldInfo = state.fieldInfos.fieldInfo(fieldNum);
                     fuzzySetsByFieldName.put(fieldInfo.name, set);
+                    lookupStatsByFieldName.put(fieldInfo.name, new LookupStats());
                 }
                 CodecUtil.retrieveChecksum(filterIn);
 
@@ -172,7 +205,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                 if (result == null) {
                     return null;
                 }
-                return new FuzzyFilteredTerms(result, filter);
+                return new FuzzyFilteredTerms(result, filter, lookupStatsByFieldName.get(field));
             }
         }
 
@@ -184,10 +217,12 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
         static class FuzzyFilteredTerms extends Terms {
             private Terms delegateTerms;
             private FuzzySet filter;
+            private final LookupStats lookupStats;
 
-            public FuzzyFilteredTerms(Terms terms, FuzzySet filter) {
+            public FuzzyFilteredTerms(Terms terms, FuzzySet filter, LookupStats lookupStats) {
                 this.delegateTerms = terms;
                 this.filter = filter;
+                this.lookupStats = lookupStats;
             }
 
             @Override
@@ -197,7 +232,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
 
             @Override
             public TermsEnum iterator() throws IOException {
-                return new FilterAppliedTermsEnum(delegateTerms, filter);
+                return new FilterAppliedTermsEnum(delegateTerms, filter, lookupStats);
             }
 
             @Override
@@ -256,10 +291,12 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
             private Terms delegateTerms;
             private TermsEnum delegateTermsEnum;
             private final FuzzySet filter;
+            private final LookupStats lookupStats;
 
-            public FilterAppliedTermsEnum(Terms delegateTerms, FuzzySet filter) throws IOException {
+            public FilterAppliedTermsEnum(Terms delegateTerms, FuzzySet filter, LookupStats lookupStats) throws IOException {
                 this.delegateTerms = delegateTerms;
                 this.filter = filter;
+                this.lookupStats = lookupStats;
             }
 
             void reset(Terms delegateTerms) throws IOException {
@@ -290,7 +327,9 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                 // structure
                 // that may occasionally give a false positive but guaranteed no false
                 // negatives
+                lookupStats.lookups.increment();
                 if (filter.contains(text) == FuzzySet.Result.NO) {
+                    lookupStats.skipped.increment();
                     return false;
                 }
                 return delegate().seekExact(text);
@@ -25,7 +25,9 @@ public enum MetricStat {
     MIN("min", 2),
     MAX("max", 3),
     AVG("avg", 4, VALUE_COUNT, SUM),
-    DOC_COUNT("doc_count", true, 5);
+    DOC_COUNT("doc_count", true, 5),
+    CARDINALITY("cardinality", 6),
+    PERCENTILES("percentiles", 7);
 
     private final String typeName;
     private final MetricStat[] baseMetrics;
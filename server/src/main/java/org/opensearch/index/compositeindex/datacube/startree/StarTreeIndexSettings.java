@@ -32,13 +32,14 @@ public class StarTreeIndexSettings {
     public static int STAR_TREE_MAX_BASE_METRICS_DEFAULT = 100;
     /**
      * This setting determines the max number of star tree fields that can be part of composite index mapping. For each
-     * star tree field, we will generate associated star tree index.
+     * star tree field, we will generate associated star tree index. Searches use the star tree whose dimension order
+     * best matches the request.
      */
     public static final Setting<Integer> STAR_TREE_MAX_FIELDS_SETTING = Setting.intSetting(
         "index.composite_index.star_tree.max_fields",
         1,
         1,
-        1,
+        5,
         Setting.Property.IndexScope,
         Setting.Property.Final
     );
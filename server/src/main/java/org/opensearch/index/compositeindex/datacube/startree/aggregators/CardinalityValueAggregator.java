@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.CardinalitySketch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Cardinality value aggregator for star tree, aggregates the field values into a HyperLogLog++ sketch
+ *
+ * <p>Values are hashed the same way the cardinality aggregation hashes numeric values, so that sketches read
+ * from the star-tree can be merged with the counts collected from the segment doc values.
+ *
+ * @opensearch.experimental
+ */
+class CardinalityValueAggregator extends SketchValueAggregator<CardinalitySketch> {
+
+    private final boolean hashRawValue;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+        this.hashRawValue = hashRawValue(fieldValueConverter);
+    }
+
+    /**
+     * The cardinality aggregation hashes the long value of integral fields and the bits of the double value of
+     * floating point and unsigned long fields.
+     */
+    private static boolean hashRawValue(FieldValueConverter fieldValueConverter) {
+        NumberFieldMapper.NumberType numberType = null;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType) {
+            numberType = ((NumberFieldMapper.NumberFieldType) fieldValueConverter).numberType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberType) {
+            numberType = (NumberFieldMapper.NumberType) fieldValueConverter;
+        }
+        return numberType != null
+            && numberType.numericType().isFloatingPoint() == false
+            && numberType != NumberFieldMapper.NumberType.UNSIGNED_LONG;
+    }
+
+    @Override
+    public CardinalitySketch getIdentityMetricValue() {
+        return new CardinalitySketch();
+    }
+
+    @Override
+    protected void addSegmentDocValue(CardinalitySketch sketch, long segmentDocValue) {
+        if (hashRawValue) {
+            sketch.collect(BitMixer.mix64(segmentDocValue));
+        } else {
+            sketch.collect(BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue))));
+        }
+    }
+
+    @Override
+    protected void addDocValue(CardinalitySketch sketch, long docValue) {
+        sketch.addDocValue(docValue);
+    }
+
+    @Override
+    protected void merge(CardinalitySketch sketch, CardinalitySketch other) {
+        sketch.merge(other);
+    }
+
+    @Override
+    protected CardinalitySketch copy(CardinalitySketch sketch) {
+        return sketch.copy();
+    }
+
+    @Override
+    public void toDocValues(CardinalitySketch sketch, LongConsumer consumer) {
+        sketch.toDocValues(consumer);
+    }
+
+    @Override
+    public int getSerializedSizeInBytes(CardinalitySketch sketch) {
+        return sketch.getSerializedSizeInBytes();
+    }
+
+    @Override
+    public void serialize(CardinalitySketch sketch, ByteBuffer buffer) {
+        sketch.writeTo(buffer);
+    }
+
+    @Override
+    public CardinalitySketch deserialize(RandomAccessInput input, long offset) throws IOException {
+        return CardinalitySketch.readFrom(input, offset);
+    }
+}
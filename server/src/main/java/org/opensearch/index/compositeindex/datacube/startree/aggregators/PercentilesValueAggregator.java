@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.PercentilesConfig;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+import com.tdunning.math.stats.Centroid;
+
+/**
+ * Percentiles value aggregator for star tree, aggregates the field values into a TDigest with the default compression
+ * of the percentiles aggregation
+ *
+ * @opensearch.experimental
+ */
+class PercentilesValueAggregator extends SketchValueAggregator<TDigestState> {
+
+    static final double COMPRESSION = PercentilesConfig.TDigest.DEFAULT_COMPRESSION;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    @Override
+    public TDigestState getIdentityMetricValue() {
+        return new TDigestState(COMPRESSION);
+    }
+
+    @Override
+    protected void addSegmentDocValue(TDigestState sketch, long segmentDocValue) {
+        sketch.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+    }
+
+    @Override
+    protected void addDocValue(TDigestState sketch, long docValue) {
+        sketch.addEncodedCentroid(docValue);
+    }
+
+    @Override
+    protected void merge(TDigestState sketch, TDigestState other) {
+        sketch.add(other);
+    }
+
+    @Override
+    protected TDigestState copy(TDigestState sketch) {
+        TDigestState copy = getIdentityMetricValue();
+        copy.add(sketch);
+        return copy;
+    }
+
+    @Override
+    public void toDocValues(TDigestState sketch, LongConsumer consumer) {
+        sketch.encodeCentroids(consumer);
+    }
+
+    @Override
+    public int getSerializedSizeInBytes(TDigestState sketch) {
+        return Integer.BYTES + sketch.centroidCount() * (Double.BYTES + Integer.BYTES);
+    }
+
+    @Override
+    public void serialize(TDigestState sketch, ByteBuffer buffer) {
+        buffer.putInt(sketch.centroidCount());
+        for (Centroid centroid : sketch.centroids()) {
+            buffer.putDouble(centroid.mean());
+            buffer.putInt(centroid.count());
+        }
+    }
+
+    @Override
+    public TDigestState deserialize(RandomAccessInput input, long offset) throws IOException {
+        TDigestState sketch = getIdentityMetricValue();
+        int centroidCount = input.readInt(offset);
+        offset += Integer.BYTES;
+        for (int i = 0; i < centroidCount; i++) {
+            double mean = Double.longBitsToDouble(input.readLong(offset));
+            offset += Double.BYTES;
+            int count = input.readInt(offset);
+            offset += Integer.BYTES;
+            sketch.add(mean, count);
+        }
+        return sketch;
+    }
+}
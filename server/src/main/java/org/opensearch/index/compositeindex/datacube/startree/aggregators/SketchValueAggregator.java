@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Base class for value aggregators whose aggregated value is a mergeable sketch rather than a single number.
+ * <p>
+ * Sketches are mutable, so aggregated values are always copied when a new aggregated document is started and are
+ * merged in place into the aggregated document afterwards. Sketches are variable length: they are written to the
+ * temporary star-tree document files with {@link #serialize(Object, ByteBuffer)} and stored as a set of longs per
+ * star-tree document in the doc values.
+ *
+ * @opensearch.experimental
+ */
+public abstract class SketchValueAggregator<A> implements ValueAggregator<A> {
+
+    private static final FieldValueConverter VALUE_AGGREGATOR_TYPE = new SketchType();
+
+    protected final FieldValueConverter fieldValueConverter;
+
+    protected SketchValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return VALUE_AGGREGATOR_TYPE;
+    }
+
+    @Override
+    public A getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        A sketch = getIdentityMetricValue();
+        if (segmentDocValue != null) {
+            addSegmentDocValue(sketch, segmentDocValue);
+        }
+        return sketch;
+    }
+
+    @Override
+    public A mergeAggregatedValueAndSegmentValue(A value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        }
+        if (segmentDocValue != null) {
+            addSegmentDocValue(value, segmentDocValue);
+        }
+        return value;
+    }
+
+    /**
+     * Merges {@code value} into {@code aggregatedValue}, which is updated in place.
+     */
+    @Override
+    public A mergeAggregatedValues(A value, A aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value != null) {
+            merge(aggregatedValue, value);
+        }
+        return aggregatedValue;
+    }
+
+    @Override
+    public A getInitialAggregatedValue(A value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        return copy(value);
+    }
+
+    @Override
+    public A toAggregatedValueType(Long rawValue) {
+        A sketch = getIdentityMetricValue();
+        if (rawValue != null) {
+            addDocValue(sketch, rawValue);
+        }
+        return sketch;
+    }
+
+    /**
+     * Builds a sketch from the values returned by {@link #toDocValues(Object, LongConsumer)}.
+     */
+    public A fromDocValues(long[] values) {
+        A sketch = getIdentityMetricValue();
+        if (values != null) {
+            for (long value : values) {
+                addDocValue(sketch, value);
+            }
+        }
+        return sketch;
+    }
+
+    /**
+     * Returns a new empty sketch, merging it with any other sketch leaves the other sketch unchanged.
+     */
+    @Override
+    public abstract A getIdentityMetricValue();
+
+    /**
+     * Adds a raw segment doc value of the metric field to the sketch.
+     */
+    protected abstract void addSegmentDocValue(A sketch, long segmentDocValue);
+
+    /**
+     * Adds a single value emitted by {@link #toDocValues(Object, LongConsumer)} to the sketch.
+     */
+    protected abstract void addDocValue(A sketch, long docValue);
+
+    /**
+     * Merges {@code other} into {@code sketch}.
+     */
+    protected abstract void merge(A sketch, A other);
+
+    /**
+     * Returns a deep copy of the sketch.
+     */
+    protected abstract A copy(A sketch);
+
+    /**
+     * Emits the sketch as the set of longs that are stored in the star-tree doc values.
+     */
+    public abstract void toDocValues(A sketch, LongConsumer consumer);
+
+    /**
+     * Returns the number of bytes {@link #serialize(Object, ByteBuffer)} writes for the sketch.
+     */
+    public abstract int getSerializedSizeInBytes(A sketch);
+
+    /**
+     * Writes the sketch to the buffer.
+     */
+    public abstract void serialize(A sketch, ByteBuffer buffer);
+
+    /**
+     * Reads a sketch written by {@link #serialize(Object, ByteBuffer)} at the given offset.
+     */
+    public abstract A deserialize(RandomAccessInput input, long offset) throws IOException;
+}
@@ -17,7 +17,9 @@ import org.opensearch.index.mapper.FieldValueConverter;
 public interface ValueAggregator<A> {
 
     /**
-     * Returns the data type of the aggregated value.
+     * Returns the data type of the aggregated value. Sketch aggregated values, of type
+     * {@link org.opensearch.index.compositeindex.datacube.startree.utils.SketchType}, cannot be converted to a double and
+     * have to be handled through their {@link SketchValueAggregator}.
      */
     FieldValueConverter getAggregatedValueType();
 
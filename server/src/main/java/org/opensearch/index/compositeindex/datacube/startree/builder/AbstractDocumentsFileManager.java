@@ -14,6 +14,7 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
@@ -21,7 +22,9 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
@@ -50,6 +53,10 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     protected final SegmentWriteState state;
     protected int docSizeInBytes = -1;
     protected final int numDimensions;
+    // sketch metrics make the aggregated documents variable in size, in which case the start offset of every document is tracked
+    protected final boolean hasVariableSizeDocuments;
+    private long[] docStartOffsets;
+    private int numWrittenDocs;
 
     public AbstractDocumentsFileManager(
         SegmentWriteState state,
@@ -63,15 +70,37 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         this.state = state;
         numMetrics = metricAggregatorInfos.size();
         this.numDimensions = numDimensions;
+        this.hasVariableSizeDocuments = metricAggregatorInfos.stream()
+            .anyMatch(metricAggregatorInfo -> metricAggregatorInfo.getValueAggregators() instanceof SketchValueAggregator);
+        if (hasVariableSizeDocuments) {
+            docStartOffsets = new long[1];
+        }
     }
 
     private void setDocSizeInBytes(int numBytes) {
+        if (hasVariableSizeDocuments) {
+            docStartOffsets = ArrayUtil.grow(docStartOffsets, numWrittenDocs + 2);
+            docStartOffsets[numWrittenDocs + 1] = docStartOffsets[numWrittenDocs] + numBytes;
+            numWrittenDocs++;
+            return;
+        }
         if (docSizeInBytes == -1) {
             docSizeInBytes = numBytes;
         }
         assert docSizeInBytes == numBytes;
     }
 
+    /**
+     * Returns the offset of the document with the given id, relative to the start of the first document written
+     */
+    protected long getDocumentStartOffset(int docId) {
+        if (hasVariableSizeDocuments) {
+            assert docId <= numWrittenDocs;
+            return docStartOffsets[docId];
+        }
+        return (long) docId * docSizeInBytes;
+    }
+
     /**
      * Write the star tree document to a byte buffer
      */
@@ -113,6 +142,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Write star tree document metrics to the byte buffer
      */
+    @SuppressWarnings("unchecked")
     protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc) throws IOException {
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
@@ -136,6 +166,15 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                 } else {
                     buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
                 }
+            } else if (aggregatedValueType instanceof SketchType) {
+                if (isAggregatedDoc) {
+                    SketchValueAggregator sketchValueAggregator = getSketchValueAggregator(i);
+                    Object sketch = getSketch(sketchValueAggregator, starTreeDocument.metrics[i]);
+                    buffer.putInt(sketchValueAggregator.getSerializedSizeInBytes(sketch));
+                    sketchValueAggregator.serialize(sketch, buffer);
+                } else {
+                    buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
+                }
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
@@ -146,18 +185,42 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Calculate the size of the serialized StarTreeDocument
      */
+    @SuppressWarnings("unchecked")
     private int calculateDocumentSize(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) {
         int size = starTreeDocument.dimensions.length * Long.BYTES;
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            if (isAggregatedDoc && hasVariableSizeDocuments && getSketchValueAggregator(i) != null) {
+                SketchValueAggregator sketchValueAggregator = getSketchValueAggregator(i);
+                size += Integer.BYTES;
+                size += sketchValueAggregator.getSerializedSizeInBytes(getSketch(sketchValueAggregator, starTreeDocument.metrics[i]));
+            } else {
+                size += Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
         return size;
     }
 
+    /**
+     * Returns the sketch value aggregator of the metric, or null if the metric is not a sketch
+     */
+    private SketchValueAggregator getSketchValueAggregator(int metricIndex) {
+        if (metricAggregatorInfos.get(metricIndex).getValueAggregators() instanceof SketchValueAggregator) {
+            return (SketchValueAggregator) metricAggregatorInfos.get(metricIndex).getValueAggregators();
+        }
+        return null;
+    }
+
+    /**
+     * Null sketches are written as empty sketches, the null bit set is used to restore them on read
+     */
+    private static Object getSketch(SketchValueAggregator sketchValueAggregator, Object metric) {
+        return metric == null ? sketchValueAggregator.getIdentityMetricValue() : metric;
+    }
+
     private static int getLength(Object[] array) {
         return (array.length / 8) + (array.length % 8 == 0 ? 0 : 1);
     }
@@ -182,7 +245,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         } else {
             offset = readMetrics(input, offset, numMetrics, metrics, isAggregatedDoc);
         }
-        assert (offset - initialOffset) == docSizeInBytes;
+        assert hasVariableSizeDocuments || (offset - initialOffset) == docSizeInBytes;
         return new StarTreeDocument(dimensions, metrics);
     }
 
@@ -251,6 +314,16 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                     metrics[i] = val;
                 }
                 offset += Long.BYTES;
+            } else if (aggregatedValueType instanceof SketchType) {
+                if (isAggregatedDoc) {
+                    int sketchSizeInBytes = input.readInt(offset);
+                    offset += Integer.BYTES;
+                    metrics[i] = getSketchValueAggregator(i).deserialize(input, offset);
+                    offset += sketchSizeInBytes;
+                } else {
+                    metrics[i] = input.readLong(offset);
+                    offset += Long.BYTES;
+                }
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
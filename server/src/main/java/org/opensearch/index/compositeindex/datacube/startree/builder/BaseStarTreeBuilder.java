@@ -37,6 +37,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -44,6 +45,7 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
@@ -425,6 +427,7 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     /**
      * Creates the star-tree docValues indices in disk
      */
+    @SuppressWarnings("unchecked")
     private void createSortedDocValuesIndices(DocValuesConsumer docValuesConsumer, AtomicInteger fieldNumberAcrossStarTrees)
         throws IOException {
         List<DocValuesWriterWrapper<?>> dimensionWriters = new ArrayList<>();
@@ -499,6 +502,16 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                                 NumericUtils.doubleToSortableLong(((CompensatedSum) starTreeDocument.metrics[i]).value())
                             );
                         }
+                    } else if (aggregatedValueType instanceof SketchType) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            // sketches are stored as a set of values per star-tree document
+                            SortedNumericDocValuesWriterWrapper metricWriter = (SortedNumericDocValuesWriterWrapper) metricWriters.get(i);
+                            int currentDocId = docId;
+                            ((SketchValueAggregator) metricAggregatorInfos.get(i).getValueAggregators()).toDocValues(
+                                starTreeDocument.metrics[i],
+                                value -> metricWriter.addValue(currentDocId, value)
+                            );
+                        }
                     } else {
                         throw new IllegalStateException("Unknown metric doc value type");
                     }
@@ -575,6 +588,7 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     /**
      * Get star tree document from the segment for the current docId with the dimensionReaders and metricReaders
      */
+    @SuppressWarnings("rawtypes")
     protected StarTreeDocument getStarTreeDocument(
         int currentDocId,
         SequentialDocValuesIterator[] dimensionReaders,
@@ -596,7 +610,12 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator metricValueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (metricValueAggregator instanceof SketchValueAggregator) {
+                metrics[i] = ((SketchValueAggregator) metricValueAggregator).fromDocValues(metricValuesIterator.values(currentDocId));
+            } else {
+                metrics[i] = metricValueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
@@ -172,15 +172,19 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
     }
 
     /**
-     * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
+     * Merges and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
      * aggregated star-tree documents
+     * <p>
+     * The star-tree documents of each segment are already sorted, so the segments are k-way merged instead of sorting
+     * all the documents again. The documents are only sorted if a segment is found to be out of order.
      *
      * @param starTreeValuesSubs StarTreeValues from multiple segments
      * @return iterator of star tree documents
      */
     Iterator<StarTreeDocument> mergeStarTrees(List<StarTreeValues> starTreeValuesSubs) throws IOException {
         int numDocs = 0;
-        int[] docIds;
+        int[] segmentStartDocIds = new int[starTreeValuesSubs.size()];
+        boolean segmentsSorted = true;
         this.isMerge = true;
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
         try {
@@ -195,18 +199,25 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 for (Map.Entry<String, OrdinalMap> entry : ordinalMaps.entrySet()) {
                     longValuesMap.put(entry.getKey(), entry.getValue().getGlobalOrds(seg));
                 }
+                segmentStartDocIds[seg] = numDocs;
+                Long[] previousDimensions = null;
                 while (currentDocId < numSegmentDocs.get()) {
                     StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap);
+                    if (segmentsSorted && previousDimensions != null) {
+                        segmentsSorted = StarTreeDocumentsSorter.compare(
+                            previousDimensions,
+                            starTreeDocument.dimensions,
+                            -1,
+                            dimensionComparators
+                        ) <= 0;
+                    }
+                    previousDimensions = starTreeDocument.dimensions;
                     segmentDocumentFileManager.writeStarTreeDocument(starTreeDocument, true);
                     numDocs++;
                     currentDocId++;
                 }
                 seg++;
             }
-            docIds = new int[numDocs];
-            for (int i = 0; i < numDocs; i++) {
-                docIds[i] = i;
-            }
         } catch (IOException ex) {
             segmentDocumentFileManager.close();
             throw ex;
@@ -216,7 +227,28 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
             return Collections.emptyIterator();
         }
 
-        return sortAndReduceDocuments(docIds, numDocs, true);
+        if (segmentsSorted == false) {
+            int[] docIds = new int[numDocs];
+            for (int i = 0; i < numDocs; i++) {
+                docIds[i] = i;
+            }
+            return sortAndReduceDocuments(docIds, numDocs, true);
+        }
+
+        int[] sortedDocIds;
+        try {
+            sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(segmentStartDocIds, numDocs, docId -> {
+                try {
+                    return segmentDocumentFileManager.readDimensions(docId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, dimensionComparators);
+        } catch (UncheckedIOException ex) {
+            IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+            throw ex.getCause();
+        }
+        return reduceDocuments(sortedDocIds, numDocs, true);
     }
 
     /**
@@ -243,6 +275,18 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 }
                 throw ex;
             }
+        } catch (IOException ex) {
+            IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+            throw ex;
+        }
+        return reduceDocuments(sortedDocIds, numDocs, isMerge);
+    }
+
+    /**
+     * Reduces the star tree documents which are already sorted based on the dimensions
+     */
+    private Iterator<StarTreeDocument> reduceDocuments(int[] sortedDocIds, int numDocs, boolean isMerge) throws IOException {
+        try {
             final StarTreeDocument currentDocument = segmentDocumentFileManager.readStarTreeDocument(sortedDocIds[0], isMerge);
             // Create an iterator for aggregated documents
             return new Iterator<StarTreeDocument>() {
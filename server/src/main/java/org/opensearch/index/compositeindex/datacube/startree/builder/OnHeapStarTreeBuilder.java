@@ -17,6 +17,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsSorter;
 import org.opensearch.index.mapper.MapperService;
 
 import java.io.IOException;
@@ -108,8 +109,11 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
     }
 
     /**
-     * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
+     * Merges and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
      * aggregated star-tree documents
+     * <p>
+     * The star-tree documents of each segment are already sorted, so the segments are k-way merged instead of sorting
+     * all the documents again. The documents are only sorted if a segment is found to be out of order.
      *
      * @param starTreeValuesSubs StarTreeValues from multiple segments
      * @return iterator of star tree documents
@@ -117,7 +121,22 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
     @Override
     Iterator<StarTreeDocument> mergeStarTrees(List<StarTreeValues> starTreeValuesSubs) throws IOException {
         this.isMerge = true;
-        return sortAndAggregateStarTreeDocuments(getSegmentsStarTreeDocuments(starTreeValuesSubs), true);
+        int[] segmentStartDocIds = new int[starTreeValuesSubs.size()];
+        StarTreeDocument[] starTreeDocuments = getSegmentsStarTreeDocuments(starTreeValuesSubs, segmentStartDocIds);
+        if (isSortedWithinSegments(starTreeDocuments, segmentStartDocIds) == false) {
+            return sortAndAggregateStarTreeDocuments(starTreeDocuments, true);
+        }
+        int[] sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(
+            segmentStartDocIds,
+            starTreeDocuments.length,
+            docId -> starTreeDocuments[docId].dimensions,
+            dimensionComparators
+        );
+        StarTreeDocument[] sortedStarTreeDocuments = new StarTreeDocument[starTreeDocuments.length];
+        for (int i = 0; i < sortedDocIds.length; i++) {
+            sortedStarTreeDocuments[i] = starTreeDocuments[sortedDocIds[i]];
+        }
+        return mergeStarTreeDocuments(sortedStarTreeDocuments, true);
     }
 
     /**
@@ -125,9 +144,11 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
      * We only take the non-star documents from all the segments.
      *
      * @param starTreeValuesSubs StarTreeValues from multiple segments
+     * @param segmentStartDocIds filled with the doc id of the first star-tree document of every segment
      * @return array of star tree documents
      */
-    StarTreeDocument[] getSegmentsStarTreeDocuments(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+    StarTreeDocument[] getSegmentsStarTreeDocuments(List<StarTreeValues> starTreeValuesSubs, int[] segmentStartDocIds)
+        throws IOException {
         List<StarTreeDocument> starTreeDocuments = new ArrayList<>();
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
         int seg = 0;
@@ -141,6 +162,7 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
             for (Map.Entry<String, OrdinalMap> entry : ordinalMaps.entrySet()) {
                 longValuesMap.put(entry.getKey(), entry.getValue().getGlobalOrds(seg));
             }
+            segmentStartDocIds[seg] = starTreeDocuments.size();
             while (currentDocId < numSegmentDocs.get()) {
                 starTreeDocuments.add(getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap));
                 currentDocId++;
@@ -151,6 +173,30 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
         return starTreeDocuments.toArray(starTreeDocumentsArr);
     }
 
+    /**
+     * Checks whether the star-tree documents of every segment are sorted based on the dimensions
+     */
+    private boolean isSortedWithinSegments(StarTreeDocument[] starTreeDocuments, int[] segmentStartDocIds) {
+        int seg = 0;
+        for (int docId = 1; docId < starTreeDocuments.length; docId++) {
+            while (seg + 1 < segmentStartDocIds.length && segmentStartDocIds[seg + 1] <= docId) {
+                seg++;
+            }
+            if (docId == segmentStartDocIds[seg]) {
+                continue;
+            }
+            if (StarTreeDocumentsSorter.compare(
+                starTreeDocuments[docId - 1].dimensions,
+                starTreeDocuments[docId].dimensions,
+                -1,
+                dimensionComparators
+            ) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Sort, aggregates and merges the star-tree documents
      *
@@ -76,14 +76,14 @@ public class SegmentDocsFileManager extends AbstractDocumentsFileManager impleme
     @Override
     public StarTreeDocument readStarTreeDocument(int docId, boolean isAggregatedDoc) throws IOException {
         maybeInitializeSegmentInput();
-        return readStarTreeDocument(segmentRandomInput, (long) docId * docSizeInBytes, isAggregatedDoc);
+        return readStarTreeDocument(segmentRandomInput, getDocumentStartOffset(docId), isAggregatedDoc);
     }
 
     @Override
     public Long[] readDimensions(int docId) throws IOException {
         maybeInitializeSegmentInput();
         Long[] dims = new Long[numDimensions];
-        readDimensions(dims, segmentRandomInput, (long) docId * docSizeInBytes);
+        readDimensions(dims, segmentRandomInput, getDocumentStartOffset(docId));
         return dims;
     }
 
@@ -103,11 +103,7 @@ public class StarTreeDocsFileManager extends AbstractDocumentsFileManager implem
     public void writeStarTreeDocument(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) throws IOException {
         assert isAggregatedDoc == true;
         int numBytes = writeStarTreeDocument(starTreeDocument, starTreeDocsFileOutput, true);
-        if (docSizeInBytes == -1) {
-            docSizeInBytes = numBytes;
-        } else {
-            assert docSizeInBytes == numBytes;
-        }
+        assert hasVariableSizeDocuments || docSizeInBytes == numBytes;
         numStarTreeDocs++;
     }
 
@@ -120,9 +116,10 @@ public class StarTreeDocsFileManager extends AbstractDocumentsFileManager implem
 
     /**
      * Returns offset for the docId based on the current file start id
+     * The files are written and merged in doc id order, so the offset is relative to the first document of the current file
      */
     private long getOffset(int docId) {
-        return (long) (docId - currentFileStartDocId) * docSizeInBytes;
+        return getDocumentStartOffset(docId) - getDocumentStartOffset(currentFileStartDocId);
     }
 
     @Override
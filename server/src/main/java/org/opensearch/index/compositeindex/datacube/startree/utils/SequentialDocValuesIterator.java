@@ -99,6 +99,32 @@ public class SequentialDocValuesIterator {
         }
     }
 
+    /**
+     * Returns all the values of the current entry, or null if the entry has no value.
+     * This is used to read multi-valued star-tree metrics such as sketches.
+     */
+    public long[] values(int currentEntryId) throws IOException {
+        if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator) {
+            if (currentEntryId < 0) {
+                throw new IllegalStateException("invalid entry id to fetch the next value");
+            }
+            if (currentEntryId == StarTreeValuesIterator.NO_MORE_ENTRIES) {
+                throw new IllegalStateException("StarTreeValuesIterator is already exhausted");
+            }
+            if (entryId == StarTreeValuesIterator.NO_MORE_ENTRIES || entryId != currentEntryId) {
+                return null;
+            }
+            SortedNumericStarTreeValuesIterator sortedNumericIterator = (SortedNumericStarTreeValuesIterator) starTreeValuesIterator;
+            long[] values = new long[sortedNumericIterator.entryValueCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = sortedNumericIterator.nextValue();
+            }
+            return values;
+        } else {
+            throw new IllegalStateException("Unsupported Iterator requested for SequentialDocValuesIterator");
+        }
+    }
+
     public Long value(int currentEntryId, LongValues globalOrdinalLongValues) throws IOException {
         if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator) {
             return value(currentEntryId);
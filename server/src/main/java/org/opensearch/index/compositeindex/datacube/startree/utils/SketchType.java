@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.opensearch.index.mapper.FieldValueConverter;
+
+/**
+ * Field value type for sketch metrics (e.g. HyperLogLog++, TDigest) - sketches have no single double representation,
+ * they are stored as a set of longs per star-tree document instead
+ * <p>
+ * The star-tree builders and documents file managers check for this type before they convert an aggregated value, and
+ * read and write sketches through their {@link org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator}
+ * instead, so {@link #toDoubleValue(long)} is never called when a star-tree is built or merged.
+ *
+ * @opensearch.internal
+ */
+public class SketchType implements FieldValueConverter {
+
+    public SketchType() {}
+
+    /**
+     * Always throws, since a sketch is never converted to a double
+     */
+    @Override
+    public double toDoubleValue(long value) {
+        throw new UnsupportedOperationException("Sketch values cannot be converted to a double");
+    }
+}
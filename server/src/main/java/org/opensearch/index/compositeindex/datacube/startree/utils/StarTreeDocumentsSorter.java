@@ -13,6 +13,7 @@ import org.apache.lucene.util.IntroSorter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.function.IntFunction;
 
 /**
@@ -46,14 +47,70 @@ public class StarTreeDocumentsSorter {
 
             @Override
             protected int comparePivot(int j) {
-                Long[] currentDimensions = dimensionsReader.apply(j);
-                for (int i = dimensionId + 1; i < dimensions.length; i++) {
-                    if (!Objects.equals(dimensions[i], currentDimensions[i])) {
-                        return dimensionComparators.get(i).compare(dimensions[i], currentDimensions[i]);
-                    }
-                }
-                return 0;
+                return StarTreeDocumentsSorter.compare(dimensions, dimensionsReader.apply(j), dimensionId, dimensionComparators);
             }
         }.sort(0, numDocs);
     }
+
+    /**
+     * Merges runs of documents which are each already sorted based on the dimension values, using a k-way merge
+     * instead of sorting all the documents again.
+     *
+     * @param runStarts        doc id of the first document of every run, the last run ends at numDocs
+     * @param numDocs          total number of documents across the runs
+     * @param dimensionsReader reads the dimensions of the given doc id
+     * @return doc ids in sorted order
+     */
+    public static int[] mergeSortedRuns(
+        final int[] runStarts,
+        final int numDocs,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        final int numRuns = runStarts.length;
+        final int[] nextDocIds = new int[numRuns];
+        final int[] runEnds = new int[numRuns];
+        final Long[][] currentDimensions = new Long[numRuns][];
+        final PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, numRuns), (run1, run2) -> {
+            int compare = compare(currentDimensions[run1], currentDimensions[run2], -1, dimensionComparators);
+            return compare != 0 ? compare : Integer.compare(run1, run2);
+        });
+        for (int run = 0; run < numRuns; run++) {
+            nextDocIds[run] = runStarts[run];
+            runEnds[run] = run + 1 < numRuns ? runStarts[run + 1] : numDocs;
+            if (nextDocIds[run] < runEnds[run]) {
+                currentDimensions[run] = dimensionsReader.apply(nextDocIds[run]);
+                queue.add(run);
+            }
+        }
+        final int[] sortedDocIds = new int[numDocs];
+        int index = 0;
+        while (queue.isEmpty() == false) {
+            int run = queue.poll();
+            sortedDocIds[index++] = nextDocIds[run]++;
+            if (nextDocIds[run] < runEnds[run]) {
+                currentDimensions[run] = dimensionsReader.apply(nextDocIds[run]);
+                queue.add(run);
+            }
+        }
+        assert index == numDocs;
+        return sortedDocIds;
+    }
+
+    /**
+     * Compares the dimension values after the given dimension id
+     */
+    public static int compare(
+        final Long[] dimensions1,
+        final Long[] dimensions2,
+        final int dimensionId,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        for (int i = dimensionId + 1; i < dimensions1.length; i++) {
+            if (!Objects.equals(dimensions1[i], dimensions2[i])) {
+                return dimensionComparators.get(i).compare(dimensions1[i], dimensions2[i]);
+            }
+        }
+        return 0;
+    }
 }
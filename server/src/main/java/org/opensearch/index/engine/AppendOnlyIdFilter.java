@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.util.CuckooFilter;
+
+/**
+ * Remembers the auto-generated ids that an append-only shard indexed recently, so that a retried append whose id was
+ * never indexed can be told apart from a duplicate without looking the id up in the version map or in Lucene.
+ * <p>
+ * The ids are added to a {@link CuckooFilter} that is replaced by a new one once it holds {@code capacity} ids, the
+ * previous filter being kept around so that the ids of the last {@code capacity} to {@code 2 * capacity} operations are
+ * always known. An id is only known to be new if its auto-generated timestamp is greater than the largest timestamp
+ * seen before the oldest filter started: any other copy of the operation arrived after that and is in one of the filters.
+ *
+ * @opensearch.internal
+ */
+final class AppendOnlyIdFilter {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+
+    private final long capacity;
+    private final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+    private CuckooFilter current;
+    private CuckooFilter previous;
+    // the largest timestamp seen before the current filter started
+    private long currentStartTimestamp;
+    // the operations with a timestamp greater than this one are all in the filters
+    private long coveredAboveTimestamp;
+    private long maxSeenTimestamp;
+
+    /**
+     * @param capacity the number of ids a filter holds before it is replaced
+     * @param maxSeenTimestamp the largest auto-generated id timestamp of the operations the shard indexed before, or
+     *                         {@link Long#MAX_VALUE} if unknown in which case no id is ever known to be new
+     */
+    AppendOnlyIdFilter(long capacity, long maxSeenTimestamp) {
+        this.capacity = capacity;
+        this.current = newFilter();
+        this.currentStartTimestamp = maxSeenTimestamp;
+        this.coveredAboveTimestamp = maxSeenTimestamp;
+        this.maxSeenTimestamp = maxSeenTimestamp;
+    }
+
+    /**
+     * Adds the id of an operation with an auto-generated id.
+     *
+     * @return true if no other operation with the same id was added before
+     */
+    synchronized boolean addIfAbsent(BytesRef id, long autoGeneratedIdTimestamp) {
+        final long h = MurmurHash3.hash128(id.bytes, id.offset, id.length, 0, hash).h1;
+        final boolean absent = autoGeneratedIdTimestamp > coveredAboveTimestamp
+            && current.mightContain(h) == false
+            && (previous == null || previous.mightContain(h) == false);
+        if (current.getCount() >= capacity || current.add(h) == false) {
+            previous = current;
+            current = newFilter();
+            coveredAboveTimestamp = currentStartTimestamp;
+            currentStartTimestamp = maxSeenTimestamp;
+            current.add(h);
+        }
+        maxSeenTimestamp = Math.max(maxSeenTimestamp, autoGeneratedIdTimestamp);
+        return absent;
+    }
+
+    /**
+     * Returns the largest auto-generated id timestamp of the operations the shard indexed, or {@link Long#MAX_VALUE} if unknown
+     */
+    synchronized long getMaxSeenTimestamp() {
+        return maxSeenTimestamp;
+    }
+
+    private CuckooFilter newFilter() {
+        return new CuckooFilter(capacity, FALSE_POSITIVE_PROBABILITY, Randomness.get());
+    }
+}
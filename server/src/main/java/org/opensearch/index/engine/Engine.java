@@ -79,6 +79,7 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.ParseContext.Document;
@@ -137,6 +138,7 @@ public abstract class Engine implements LifecycleAware, Closeable {
     public static final String FORCE_MERGE_UUID_KEY = "force_merge_uuid";
     public static final String MIN_RETAINED_SEQNO = "min_retained_seq_no";
     public static final String MAX_UNSAFE_AUTO_ID_TIMESTAMP_COMMIT_ID = "max_unsafe_auto_id_timestamp";
+    public static final String MAX_SEEN_AUTO_ID_TIMESTAMP_COMMIT_ID = "max_seen_auto_id_timestamp";
     public static final String SEARCH_SOURCE = "search"; // TODO: Make source of search enum?
     public static final String CAN_MATCH_SEARCH_SOURCE = "can_match";
     public static final String FORCE_MERGE = "force merge";
@@ -976,6 +978,17 @@ public abstract class Engine implements LifecycleAware, Closeable {
             // TODO: consider moving this to StoreStats
             stats.addFileSizes(getSegmentFileSizes(segmentReader));
         }
+        try {
+            final FuzzyFilterPostingsFormat.LookupStats idLookupStats = FuzzyFilterPostingsFormat.lookupStats(
+                segmentReader,
+                IdFieldMapper.NAME
+            );
+            if (idLookupStats != null) {
+                stats.addDocIdFuzzySetLookups(idLookupStats.getLookups(), idLookupStats.getSkipped());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     boolean shouldCleanupUnreferencedFiles() {
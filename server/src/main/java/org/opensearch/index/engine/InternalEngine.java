@@ -195,6 +195,8 @@ public class InternalEngine extends Engine {
     // incoming indexing ops to a single thread:
     private final AtomicInteger throttleRequestCount = new AtomicInteger();
     private final AtomicLong maxSeenAutoIdTimestamp = new AtomicLong(-1);
+    // the recent auto-generated ids of an append-only index, null if the index is not append-only
+    private AppendOnlyIdFilter appendOnlyIdFilter;
     // max_seq_no_of_updates_or_deletes tracks the max seq_no of update or delete operations that have been processed in this engine.
     // An index request is considered as an update if it overwrites existing documents with the same docId in the Lucene index.
     // The value of this marker never goes backwards, and is tracked/updated differently on primary and replica.
@@ -532,14 +534,25 @@ public class InternalEngine extends Engine {
     }
 
     private void bootstrapAppendOnlyInfoFromWriter(IndexWriter writer) {
+        // unknown unless the commit was created empty or by an engine that kept track of it, see AppendOnlyIdFilter
+        long committedMaxSeenAutoIdTimestamp = Long.MAX_VALUE;
         for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
             if (MAX_UNSAFE_AUTO_ID_TIMESTAMP_COMMIT_ID.equals(entry.getKey())) {
                 assert maxUnsafeAutoIdTimestamp.get() == -1 : "max unsafe timestamp was assigned already ["
                     + maxUnsafeAutoIdTimestamp.get()
                     + "]";
                 updateAutoIdTimestamp(Long.parseLong(entry.getValue()), true);
+            } else if (MAX_SEEN_AUTO_ID_TIMESTAMP_COMMIT_ID.equals(entry.getKey())) {
+                committedMaxSeenAutoIdTimestamp = Long.parseLong(entry.getValue());
             }
         }
+        final IndexSettings indexSettings = engineConfig.getIndexSettings();
+        // a promoted segment replication replica holds copied documents whose ids it never saw, so only document replication is covered
+        if (indexSettings.getIndexMetadata().isAppendOnlyIndex()
+            && indexSettings.getAppendOnlyIdFilterSize() > 0
+            && indexSettings.isSegRepEnabledOrRemoteNode() == false) {
+            appendOnlyIdFilter = new AppendOnlyIdFilter(indexSettings.getAppendOnlyIdFilterSize(), committedMaxSeenAutoIdTimestamp);
+        }
     }
 
     // Package private for testing purposes only
@@ -1007,6 +1020,7 @@ public class InternalEngine extends Engine {
         // needs to maintain the auto_id timestamp in case this replica becomes primary
         if (canOptimizeAddDocument(index)) {
             mayHaveBeenIndexedBefore(index);
+            isNewAppendOnlyId(index);
         }
         final IndexingStrategy plan;
         // unlike the primary, replicas don't really care to about creation status of documents
@@ -1061,7 +1075,14 @@ public class InternalEngine extends Engine {
         final IndexingStrategy plan;
         // resolve an external operation into an internal one which is safe to replay
         final boolean canOptimizeAddDocument = canOptimizeAddDocument(index);
-        if (canOptimizeAddDocument && mayHaveBeenIndexedBefore(index) == false) {
+        boolean appendAsNew = false;
+        if (canOptimizeAddDocument) {
+            final boolean mayHaveBeenIndexedBefore = mayHaveBeenIndexedBefore(index);
+            // every auto-generated id goes to the recent ids of an append-only index, which tell whether a retry was indexed
+            final boolean isNewAppendOnlyId = isNewAppendOnlyId(index);
+            appendAsNew = mayHaveBeenIndexedBefore == false || isNewAppendOnlyId;
+        }
+        if (appendAsNew) {
             final Exception reserveError = tryAcquireInFlightDocs(index, reservingDocs);
             if (reserveError != null) {
                 plan = IndexingStrategy.failAsTooManyDocs(reserveError);
@@ -1214,6 +1235,16 @@ public class InternalEngine extends Engine {
         return mayHaveBeenIndexBefore;
     }
 
+    /**
+     * Adds the auto-generated id of the operation to the recent ids of an append-only index
+     *
+     * @return true if the index is append-only and no other operation with the same id was indexed before
+     */
+    private boolean isNewAppendOnlyId(Index index) {
+        assert canOptimizeAddDocument(index);
+        return appendOnlyIdFilter != null && appendOnlyIdFilter.addIfAbsent(index.uid().bytes(), index.getAutoGeneratedIdTimestamp());
+    }
+
     private void addDocs(final List<ParseContext.Document> docs, final IndexWriter indexWriter) throws IOException {
         if (docs.size() > 1) {
             indexWriter.addDocuments(docs);
@@ -2572,6 +2603,9 @@ public class InternalEngine extends Engine {
                 commitData.put(SequenceNumbers.LOCAL_CHECKPOINT_KEY, Long.toString(localCheckpoint));
                 commitData.put(SequenceNumbers.MAX_SEQ_NO, Long.toString(localCheckpointTracker.getMaxSeqNo()));
                 commitData.put(MAX_UNSAFE_AUTO_ID_TIMESTAMP_COMMIT_ID, Long.toString(maxUnsafeAutoIdTimestamp.get()));
+                if (appendOnlyIdFilter != null && appendOnlyIdFilter.getMaxSeenTimestamp() != Long.MAX_VALUE) {
+                    commitData.put(MAX_SEEN_AUTO_ID_TIMESTAMP_COMMIT_ID, Long.toString(appendOnlyIdFilter.getMaxSeenTimestamp()));
+                }
                 commitData.put(HISTORY_UUID_KEY, historyUUID);
                 commitData.put(Engine.MIN_RETAINED_SEQNO, Long.toString(softDeletesPolicy.getMinRetainedSeqNo()));
                 final String currentForceMergeUUID = forceMergeUUID;
@@ -62,13 +62,13 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private static final class VersionLookup {
 
-        /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
-         *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
+        /** Tracks bytes used by current map, i.e. what is freed on refresh. Deletes are removed from this map and only account
+         *  for their tombstones, since refresh would not clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new VersionLookup(new UidVersionMap());
+        // the versions are stored as primitives rather than as VersionValue objects, which are only built when they are read
+        private final UidVersionMap map;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,7 +86,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        private VersionLookup(UidVersionMap map) {
             this.map = map;
         }
 
@@ -94,7 +94,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return map.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
+        boolean put(BytesRef key, IndexVersionValue value) {
             return map.put(key, value);
         }
 
@@ -114,7 +114,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
+        public boolean remove(BytesRef uid) {
             return map.remove(uid);
         }
 
@@ -150,7 +150,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+            this(new VersionLookup(new UidVersionMap()), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -169,7 +169,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          */
         Maps buildTransitionMap() {
             return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
+                new VersionLookup(new UidVersionMap(current.size())),
                 current,
                 shouldInheritSafeAccess()
             );
@@ -182,12 +182,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
-        void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
+        void put(BytesRef uid, IndexVersionValue version) {
+            // replacing the version of a uid that is already in the map uses no more RAM
+            if (current.put(uid, version)) {
+                adjustRam(BASE_BYTES_PER_VERSION_MAP_ENTRY + uid.bytes.length);
+            }
         }
 
         void adjustRam(long value) {
@@ -198,11 +197,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            final boolean removed = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+            if (removed) {
+                adjustRam(-(BASE_BYTES_PER_VERSION_MAP_ENTRY + uid.bytes.length));
             }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
@@ -242,6 +240,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // lost bytes on average
             3;
 
+    /**
+     * Bytes used by an entry of the version lookups, which references the byte[] of its uid rather than a {@link BytesRef}.
+     * So consumers of this constant just have to add the length of the byte[].
+     */
+    private static final long BASE_BYTES_PER_VERSION_MAP_ENTRY =
+        // the slot of the entry in the hash table
+        UidVersionMap.BYTES_PER_ENTRY +
+        // header of the byte[] array
+            RamUsageEstimator.NUM_BYTES_ARRAY_HEADER +
+            // lost bytes due to object alignment, as for a BytesRef
+            3;
+
     /**
      * Bytes used by having CHM point to a key/value.
      */
@@ -482,7 +492,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.map.toMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
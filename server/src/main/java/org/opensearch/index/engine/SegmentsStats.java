@@ -63,6 +63,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
     private long versionMapMemoryInBytes;
     private long maxUnsafeAutoIdTimestamp = Long.MIN_VALUE;
     private long bitsetMemoryInBytes;
+    private long docIdFuzzySetLookups;
+    private long docIdFuzzySetSkippedLookups;
     private final Map<String, Long> fileSizes;
     private final RemoteSegmentStats remoteSegmentStats;
     private static final ByteSizeValue ZERO_BYTE_SIZE_VALUE = new ByteSizeValue(0L);
@@ -136,6 +138,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             remoteSegmentStats = new RemoteSegmentStats();
             replicationStats = new ReplicationStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_3_0)) {
+            docIdFuzzySetLookups = in.readVLong();
+            docIdFuzzySetSkippedLookups = in.readVLong();
+        }
     }
 
     public void add(long count) {
@@ -158,6 +164,11 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         this.bitsetMemoryInBytes += bitsetMemoryInBytes;
     }
 
+    public void addDocIdFuzzySetLookups(long lookups, long skippedLookups) {
+        this.docIdFuzzySetLookups += lookups;
+        this.docIdFuzzySetSkippedLookups += skippedLookups;
+    }
+
     public void addRemoteSegmentStats(RemoteSegmentStats remoteSegmentStats) {
         this.remoteSegmentStats.add(remoteSegmentStats);
     }
@@ -183,6 +194,7 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         addIndexWriterMemoryInBytes(mergeStats.indexWriterMemoryInBytes);
         addVersionMapMemoryInBytes(mergeStats.versionMapMemoryInBytes);
         addBitsetMemoryInBytes(mergeStats.bitsetMemoryInBytes);
+        addDocIdFuzzySetLookups(mergeStats.docIdFuzzySetLookups, mergeStats.docIdFuzzySetSkippedLookups);
         addFileSizes(mergeStats.fileSizes);
         addRemoteSegmentStats(mergeStats.remoteSegmentStats);
         addReplicationStats(mergeStats.replicationStats);
@@ -228,6 +240,20 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(bitsetMemoryInBytes);
     }
 
+    /**
+     * The number of exact lookups of ids in the segments whose {@code _id} field has a fuzzy set, since they were opened
+     */
+    public long getDocIdFuzzySetLookups() {
+        return docIdFuzzySetLookups;
+    }
+
+    /**
+     * The number of exact lookups of ids that the fuzzy sets of the segments answered without seeking their terms
+     */
+    public long getDocIdFuzzySetSkippedLookups() {
+        return docIdFuzzySetSkippedLookups;
+    }
+
     /** Returns mapping of file names to their size (only used in tests) */
     public Map<String, Long> getFileSizes() {
         return Collections.unmodifiableMap(this.fileSizes);
@@ -265,6 +291,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.VERSION_MAP_MEMORY_IN_BYTES, Fields.VERSION_MAP_MEMORY, getVersionMapMemory());
         builder.humanReadableField(Fields.FIXED_BIT_SET_MEMORY_IN_BYTES, Fields.FIXED_BIT_SET, getBitsetMemory());
         builder.field(Fields.MAX_UNSAFE_AUTO_ID_TIMESTAMP, maxUnsafeAutoIdTimestamp);
+        builder.field(Fields.DOC_ID_FUZZY_SET_LOOKUPS, docIdFuzzySetLookups);
+        builder.field(Fields.DOC_ID_FUZZY_SET_SKIPPED_LOOKUPS, docIdFuzzySetSkippedLookups);
         remoteSegmentStats.toXContent(builder, params);
         replicationStats.toXContent(builder, params);
         builder.startObject(Fields.FILE_SIZES);
@@ -306,6 +334,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         static final String VERSION_MAP_MEMORY = "version_map_memory";
         static final String VERSION_MAP_MEMORY_IN_BYTES = "version_map_memory_in_bytes";
         static final String MAX_UNSAFE_AUTO_ID_TIMESTAMP = "max_unsafe_auto_id_timestamp";
+        static final String DOC_ID_FUZZY_SET_LOOKUPS = "doc_id_fuzzy_set_lookups";
+        static final String DOC_ID_FUZZY_SET_SKIPPED_LOOKUPS = "doc_id_fuzzy_set_skipped_lookups";
         static final String FIXED_BIT_SET = "fixed_bit_set";
         static final String FIXED_BIT_SET_MEMORY_IN_BYTES = "fixed_bit_set_memory_in_bytes";
         static final String FILE_SIZES = "file_sizes";
@@ -337,6 +367,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             out.writeOptionalWriteable(remoteSegmentStats);
             out.writeOptionalWriteable(replicationStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_3_0)) {
+            out.writeVLong(docIdFuzzySetLookups);
+            out.writeVLong(docIdFuzzySetSkippedLookups);
+        }
     }
 
     public void clearFileSizes() {
@@ -0,0 +1,264 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.index.translog.Translog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A concurrent map of uids to the version, seq# and term of the last index operation on them, and to the translog location
+ * of the operation if it is tracked.
+ * <p>
+ * The entries are spread over segments that are open addressing hash tables with linear probing. The slots of a table are
+ * stored in three parallel arrays: the uids, the hashes of the uids and the presence and sizes of the translog locations, and
+ * the versions, seq#s, terms, translog generations and translog offsets. An entry therefore allocates nothing but the slots of its table,
+ * and the map references the bytes of the uid rather than copying them. The {@link IndexVersionValue}s are built again when
+ * they are read.
+ * <p>
+ * A segment is locked while it is read or written, which takes no longer than probing its table. The operations on the same
+ * uid are serialized by the caller, the operations on different uids may run concurrently.
+ *
+ * @opensearch.internal
+ */
+final class UidVersionMap {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int NUM_SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_CAPACITY = 8;
+
+    // the hash of the uid, whether the translog location is tracked, and the size of the translog location
+    private static final int INTS_PER_SLOT = 3;
+    // the version, seq#, term, translog generation and translog offset
+    private static final int LONGS_PER_SLOT = 5;
+
+    /**
+     * The bytes used by an entry, without the bytes of its uid. The tables are grown when they are three quarters full, so
+     * a load factor of 50% is assumed.
+     */
+    static final long BYTES_PER_ENTRY = 2 * (RamUsageEstimator.NUM_BYTES_OBJECT_REF + Integer.BYTES * INTS_PER_SLOT
+        + Long.BYTES * LONGS_PER_SLOT);
+
+    private final Segment[] segments = new Segment[NUM_SEGMENTS];
+
+    UidVersionMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a map whose tables can hold about the expected number of entries without growing
+     */
+    UidVersionMap(int expectedSize) {
+        final int capacity = expectedSize == 0 ? 0 : capacityFor(expectedSize / NUM_SEGMENTS);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * Returns the version value of the given uid, or null if it is not in the map
+     */
+    IndexVersionValue get(BytesRef uid) {
+        final int hash = uid.hashCode();
+        return segment(hash).get(uid, hash);
+    }
+
+    /**
+     * Puts the version value of the given uid, and returns whether the uid was not in the map yet
+     */
+    boolean put(BytesRef uid, IndexVersionValue value) {
+        final int hash = uid.hashCode();
+        return segment(hash).put(uid, hash, value);
+    }
+
+    /**
+     * Removes the given uid, and returns whether it was in the map
+     */
+    boolean remove(BytesRef uid) {
+        final int hash = uid.hashCode();
+        return segment(hash).remove(uid, hash);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a point in time copy of the entries of the map
+     */
+    Map<BytesRef, VersionValue> toMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(map);
+        }
+        return map;
+    }
+
+    private Segment segment(int hash) {
+        // the low bits of the hash pick the slot in the table of the segment
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    private static int capacityFor(int size) {
+        final int minCapacity = Math.max(MIN_CAPACITY, size + size / 3 + 1);
+        return Integer.highestOneBit(minCapacity - 1) << 1;
+    }
+
+    /**
+     * An open addressing hash table of a part of the uids
+     */
+    private static final class Segment {
+        private byte[][] uids;
+        private int[] ints;
+        private long[] longs;
+        // written under the lock of the segment, read without it by size() and isEmpty()
+        private volatile int size;
+
+        Segment(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            uids = new byte[capacity][];
+            ints = new int[capacity * INTS_PER_SLOT];
+            longs = new long[capacity * LONGS_PER_SLOT];
+        }
+
+        synchronized IndexVersionValue get(BytesRef uid, int hash) {
+            if (size == 0) {
+                return null;
+            }
+            final int slot = find(uid, hash);
+            if (slot < 0) {
+                return null;
+            }
+            final int i = slot * LONGS_PER_SLOT;
+            final Translog.Location location = ints[slot * INTS_PER_SLOT + 1] == 0
+                ? null
+                : new Translog.Location(longs[i + 3], longs[i + 4], ints[slot * INTS_PER_SLOT + 2]);
+            return new IndexVersionValue(location, longs[i], longs[i + 1], longs[i + 2]);
+        }
+
+        synchronized boolean put(BytesRef uid, int hash, IndexVersionValue value) {
+            if (size + 1 > uids.length - (uids.length >>> 2)) {
+                grow();
+            }
+            int slot = find(uid, hash);
+            final boolean added = slot < 0;
+            if (added) {
+                slot = -1 - slot;
+                uids[slot] = uid.offset == 0 && uid.length == uid.bytes.length
+                    ? uid.bytes
+                    : Arrays.copyOfRange(uid.bytes, uid.offset, uid.offset + uid.length);
+                ints[slot * INTS_PER_SLOT] = hash;
+                size++;
+            }
+            final Translog.Location location = value.getLocation();
+            ints[slot * INTS_PER_SLOT + 1] = location == null ? 0 : 1;
+            ints[slot * INTS_PER_SLOT + 2] = location == null ? 0 : location.size;
+            final int i = slot * LONGS_PER_SLOT;
+            longs[i] = value.version;
+            longs[i + 1] = value.seqNo;
+            longs[i + 2] = value.term;
+            longs[i + 3] = location == null ? 0 : location.generation;
+            longs[i + 4] = location == null ? 0 : location.translogLocation;
+            return added;
+        }
+
+        synchronized boolean remove(BytesRef uid, int hash) {
+            if (size == 0) {
+                return false;
+            }
+            int free = find(uid, hash);
+            if (free < 0) {
+                return false;
+            }
+            // shift back the entries that follow in the run of the removed one, so that lookups never stop before them
+            final int mask = uids.length - 1;
+            for (int slot = (free + 1) & mask; uids[slot] != null; slot = (slot + 1) & mask) {
+                final int home = ints[slot * INTS_PER_SLOT] & mask;
+                if (((slot - home) & mask) >= ((slot - free) & mask)) {
+                    move(slot, free);
+                    free = slot;
+                }
+            }
+            uids[free] = null;
+            size--;
+            return true;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> map) {
+            for (int slot = 0; slot < uids.length; slot++) {
+                if (uids[slot] != null) {
+                    final BytesRef uid = new BytesRef(uids[slot]);
+                    map.put(uid, get(uid, ints[slot * INTS_PER_SLOT]));
+                }
+            }
+        }
+
+        /**
+         * Returns the slot of the given uid, or -1 minus the free slot to put it in if it is not in the table
+         */
+        private int find(BytesRef uid, int hash) {
+            final int mask = uids.length - 1;
+            for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+                final byte[] candidate = uids[slot];
+                if (candidate == null) {
+                    return -1 - slot;
+                }
+                if (ints[slot * INTS_PER_SLOT] == hash
+                    && Arrays.equals(candidate, 0, candidate.length, uid.bytes, uid.offset, uid.offset + uid.length)) {
+                    return slot;
+                }
+            }
+        }
+
+        private void move(int from, int to) {
+            uids[to] = uids[from];
+            System.arraycopy(ints, from * INTS_PER_SLOT, ints, to * INTS_PER_SLOT, INTS_PER_SLOT);
+            System.arraycopy(longs, from * LONGS_PER_SLOT, longs, to * LONGS_PER_SLOT, LONGS_PER_SLOT);
+        }
+
+        private void grow() {
+            final byte[][] oldUids = uids;
+            final int[] oldInts = ints;
+            final long[] oldLongs = longs;
+            allocate(Math.max(MIN_CAPACITY, oldUids.length << 1));
+            final int mask = uids.length - 1;
+            for (int from = 0; from < oldUids.length; from++) {
+                if (oldUids[from] != null) {
+                    int to = oldInts[from * INTS_PER_SLOT] & mask;
+                    while (uids[to] != null) {
+                        to = (to + 1) & mask;
+                    }
+                    uids[to] = oldUids[from];
+                    System.arraycopy(oldInts, from * INTS_PER_SLOT, ints, to * INTS_PER_SLOT, INTS_PER_SLOT);
+                    System.arraycopy(oldLongs, from * LONGS_PER_SLOT, longs, to * LONGS_PER_SLOT, LONGS_PER_SLOT);
+                }
+            }
+        }
+    }
+}
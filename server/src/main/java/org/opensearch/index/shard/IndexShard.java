@@ -449,8 +449,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             logger,
             threadPool,
             this::getEngine,
-            indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            indexSettings.isAssignedOnRemoteNode() || indexSettings.getTranslogGroupCommitInterval().nanos() > 0,
+            indexSettings.isAssignedOnRemoteNode()
+                ? () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+                : indexSettings::getTranslogGroupCommitInterval
         );
         this.mapperService = mapperService;
         this.indexCache = indexCache;
@@ -1114,6 +1116,32 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifPrimaryTerm,
         long autoGeneratedTimestamp,
         boolean isRetry
+    ) throws IOException {
+        return applyIndexOperationOnPrimary(
+            version,
+            versionType,
+            sourceToParse,
+            ifSeqNo,
+            ifPrimaryTerm,
+            autoGeneratedTimestamp,
+            isRetry,
+            null
+        );
+    }
+
+    /**
+     * Indexes a document on the primary, using the given document that was parsed ahead of time if the mapping did not
+     * change since it was parsed
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry,
+        @Nullable ParsedIndexOperation parsedIndexOperation
     ) throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(
@@ -1128,10 +1156,25 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isRetry,
             Engine.Operation.Origin.PRIMARY,
             sourceToParse,
-            null
+            null,
+            parsedIndexOperation
         );
     }
 
+    /**
+     * Parses the document of an index operation on the primary ahead of its execution. This can be called by any thread,
+     * and parsing failures are returned rather than thrown so that they fail the operation once it is executed.
+     */
+    public ParsedIndexOperation parseIndexOperationOnPrimary(SourceToParse sourceToParse) {
+        DocumentMapperForType docMapper = null;
+        try {
+            docMapper = docMapper();
+            return new ParsedIndexOperation(docMapper.getDocumentMapper(), parseDocument(docMapper, sourceToParse), null);
+        } catch (Exception e) {
+            return new ParsedIndexOperation(docMapper == null ? null : docMapper.getDocumentMapper(), null, e);
+        }
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1153,7 +1196,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             isRetry,
             Engine.Operation.Origin.REPLICA,
             sourceToParse,
-            id
+            id,
+            null
         );
     }
 
@@ -1169,7 +1213,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         boolean isRetry,
         Engine.Operation.Origin origin,
         SourceToParse sourceToParse,
-        String id
+        String id,
+        @Nullable ParsedIndexOperation parsedIndexOperation
     ) throws IOException {
 
         // For Segment Replication enabled replica shards we can be skip parsing the documents as we directly copy segments from primary
@@ -1199,14 +1244,25 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ensureWriteAllowed(origin);
         Engine.Index operation;
         try {
+            final long startTime = System.nanoTime();
+            final DocumentMapperForType docMapper = docMapper();
+            final ParsedDocument doc;
+            if (parsedIndexOperation != null && parsedIndexOperation.documentMapper == docMapper.getDocumentMapper()) {
+                if (parsedIndexOperation.failure != null) {
+                    throw parsedIndexOperation.failure;
+                }
+                doc = parsedIndexOperation.doc;
+            } else {
+                doc = parseDocument(docMapper, sourceToParse);
+            }
             operation = prepareIndex(
-                docMapper(),
-                sourceToParse,
+                doc,
                 seqNo,
                 opPrimaryTerm,
                 version,
                 versionType,
                 origin,
+                startTime,
                 autoGeneratedTimeStamp,
                 isRetry,
                 ifSeqNo,
@@ -1242,10 +1298,34 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifPrimaryTerm
     ) {
         long startTime = System.nanoTime();
-        ParsedDocument doc = docMapper.getDocumentMapper().parse(source);
-        if (docMapper.getMapping() != null) {
-            doc.addDynamicMappingsUpdate(docMapper.getMapping());
-        }
+        return prepareIndex(
+            parseDocument(docMapper, source),
+            seqNo,
+            primaryTerm,
+            version,
+            versionType,
+            origin,
+            startTime,
+            autoGeneratedIdTimestamp,
+            isRetry,
+            ifSeqNo,
+            ifPrimaryTerm
+        );
+    }
+
+    private static Engine.Index prepareIndex(
+        ParsedDocument doc,
+        long seqNo,
+        long primaryTerm,
+        long version,
+        VersionType versionType,
+        Engine.Operation.Origin origin,
+        long startTime,
+        long autoGeneratedIdTimestamp,
+        boolean isRetry,
+        long ifSeqNo,
+        long ifPrimaryTerm
+    ) {
         Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
         return new Engine.Index(
             uid,
@@ -1263,6 +1343,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    private static ParsedDocument parseDocument(DocumentMapperForType docMapper, SourceToParse source) {
+        ParsedDocument doc = docMapper.getDocumentMapper().parse(source);
+        if (docMapper.getMapping() != null) {
+            doc.addDynamicMappingsUpdate(docMapper.getMapping());
+        }
+        return doc;
+    }
+
     private Engine.IndexResult index(Engine engine, Engine.Index index) throws IOException {
         active.set(true);
         final Engine.IndexResult result;
@@ -2656,7 +2744,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                         MediaTypeRegistry.xContentType(index.source()),
                         index.routing()
                     ),
-                    index.id()
+                    index.id(),
+                    null
                 );
                 break;
             case DELETE:
@@ -4754,7 +4843,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
-     * one thread blocking on the sync an all others can continue indexing.
+     * one thread blocking on the sync an all others can continue indexing. With a remote translog or a
+     * {@link IndexSettings#INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING group commit interval}, the pending syncs are instead
+     * grouped for that interval and fsynced at once on the {@link ThreadPool.Names#TRANSLOG_SYNC} thread pool.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
@@ -4887,6 +4978,26 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * A document parsed by {@link #parseIndexOperationOnPrimary} ahead of the execution of its index operation, or the
+     * failure to parse it. It is only used if the document mapper did not change since.
+     */
+    @ExperimentalApi
+    public static final class ParsedIndexOperation {
+        @Nullable
+        private final DocumentMapper documentMapper;
+        @Nullable
+        private final ParsedDocument doc;
+        @Nullable
+        private final Exception failure;
+
+        private ParsedIndexOperation(DocumentMapper documentMapper, ParsedDocument doc, Exception failure) {
+            this.documentMapper = documentMapper;
+            this.doc = doc;
+            this.failure = failure;
+        }
+    }
+
     EngineFactory getEngineFactory() {
         return engineFactory;
     }
@@ -110,7 +110,14 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
     }
 
     TranslogSnapshot newSnapshot() {
-        return new TranslogSnapshot(this, sizeInBytes());
+        return newSnapshot(false);
+    }
+
+    /**
+     * Creates a snapshot of the operations, which reads them through a memory mapping of the generation if {@code mmap} is set
+     */
+    TranslogSnapshot newSnapshot(boolean mmap) {
+        return new TranslogSnapshot(this, sizeInBytes(), mmap);
     }
 
     /**
@@ -34,6 +34,7 @@ package org.opensearch.index.translog;
 
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.Constants;
 import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
@@ -52,6 +53,8 @@ import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
@@ -580,7 +583,7 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         try {
             final long start = out.position();
             out.skip(Integer.BYTES);
-            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation, indexSettings().getTranslogCompressor());
             final long end = out.position();
             final int operationSize = (int) (end - Integer.BYTES - start);
             out.seek(start);
@@ -683,9 +686,10 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         assert fromSeqNo >= 0 : "from_seq_no must be non-negative " + fromSeqNo;
         try (ReleasableLock ignored = readLock.acquire()) {
             ensureOpen();
+            final boolean mmap = indexSettings().isTranslogMmapSnapshots() && Constants.WINDOWS == false;
             TranslogSnapshot[] snapshots = Stream.concat(readers.stream(), Stream.of(current))
                 .filter(reader -> reader.getCheckpoint().minSeqNo <= toSeqNo && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo())
-                .map(BaseTranslogReader::newSnapshot)
+                .map(reader -> reader.newSnapshot(mmap))
                 .toArray(TranslogSnapshot[]::new);
             final Snapshot snapshot = newMultiSnapshot(snapshots);
             return new SeqNoFilterSnapshot(snapshot, fromSeqNo, toSeqNo, requiredFullRange);
@@ -1172,12 +1176,21 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
          * Writes the type and translog operation to the given stream
          */
         static void writeOperation(final StreamOutput output, final Operation operation) throws IOException {
+            writeOperation(output, operation, null);
+        }
+
+        /**
+         * Writes the type and translog operation to the given stream, compressing the source of an index operation with
+         * the given compressor if any
+         */
+        static void writeOperation(final StreamOutput output, final Operation operation, @Nullable final Compressor compressor)
+            throws IOException {
             output.writeByte(operation.opType().id());
             switch (operation.opType()) {
                 case CREATE:
                     // the serialization logic in Index was identical to that of Create when create was deprecated
                 case INDEX:
-                    ((Index) operation).write(output);
+                    ((Index) operation).write(output, compressor);
                     break;
                 case DELETE:
                     ((Delete) operation).write(output);
@@ -1223,6 +1236,10 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         public static final int FORMAT_NO_VERSION_TYPE = FORMAT_NO_PARENT + 1;
         public static final int FORMAT_NO_DOC_TYPE = FORMAT_NO_VERSION_TYPE + 1;
         public static final int SERIALIZATION_FORMAT = FORMAT_NO_DOC_TYPE;
+        // only written to the translog files of the indices that compress the sources, never sent over the wire
+        public static final int FORMAT_COMPRESSED_SOURCE = FORMAT_NO_DOC_TYPE + 1;
+        // smaller sources rarely shrink by more than the header of the compressed bytes
+        static final int MIN_COMPRESSED_SOURCE_LENGTH = 512;
         private final String id;
         private final long autoGeneratedIdTimestamp;
         private final long seqNo;
@@ -1239,7 +1256,11 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                 in.readString();
                 // can't assert that this is _doc because pre 2.0 indexes can have any name for a type
             }
-            source = in.readBytesReference();
+            if (format >= FORMAT_COMPRESSED_SOURCE) {
+                source = CompressorRegistry.uncompress(in.readBytesReference());
+            } else {
+                source = in.readBytesReference();
+            }
             routing = in.readOptionalString();
             if (format < FORMAT_NO_PARENT) {
                 in.readOptionalString(); // _parent
@@ -1321,14 +1342,22 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
             return new Source(source, routing);
         }
 
-        private void write(final StreamOutput out) throws IOException {
-            final int format = out.getVersion().onOrAfter(Version.V_2_0_0) ? SERIALIZATION_FORMAT : FORMAT_NO_VERSION_TYPE;
+        private void write(final StreamOutput out, @Nullable final Compressor compressor) throws IOException {
+            final boolean compress = compressor != null
+                && compressor != CompressorRegistry.none()
+                && source.length() >= MIN_COMPRESSED_SOURCE_LENGTH;
+            final int format;
+            if (compress) {
+                format = FORMAT_COMPRESSED_SOURCE;
+            } else {
+                format = out.getVersion().onOrAfter(Version.V_2_0_0) ? SERIALIZATION_FORMAT : FORMAT_NO_VERSION_TYPE;
+            }
             out.writeVInt(format);
             out.writeString(id);
             if (format < FORMAT_NO_DOC_TYPE) {
                 out.writeString(MapperService.SINGLE_MAPPING_NAME);
             }
-            out.writeBytesReference(source);
+            out.writeBytesReference(compress ? compressor.compress(source) : source);
             out.writeOptionalString(routing);
             if (format < FORMAT_NO_PARENT) {
                 out.writeOptionalString(null); // _parent
@@ -1724,11 +1753,20 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     }
 
     public static void writeOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op) throws IOException {
+        writeOperationNoSize(out, op, null);
+    }
+
+    /**
+     * Writes the operation and its checksum, the checksum covering the source of an index operation as compressed by the
+     * given compressor if any
+     */
+    public static void writeOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op, @Nullable Compressor compressor)
+        throws IOException {
         // This BufferedChecksumStreamOutput remains unclosed on purpose,
         // because closing it closes the underlying stream, which we don't
         // want to do here.
         out.resetDigest();
-        Translog.Operation.writeOperation(out, op);
+        Translog.Operation.writeOperation(out, op, compressor);
         long checksum = out.getChecksum();
         out.writeInt((int) checksum);
     }
@@ -33,11 +33,14 @@ package org.opensearch.index.translog;
 
 import org.opensearch.common.io.Channels;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
+import org.opensearch.core.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * A snapshot of translog operations
@@ -51,6 +54,9 @@ final class TranslogSnapshot extends BaseTranslogReader {
     protected final long length;
 
     private final ByteBuffer reusableBuffer;
+    private boolean mmap;
+    // the mapping of the snapshot's part of the generation, mapped on the first read
+    private MappedByteBuffer mapped;
     private long position;
     private int skippedOperations;
     private int readOperations;
@@ -60,7 +66,18 @@ final class TranslogSnapshot extends BaseTranslogReader {
      * Create a snapshot of translog file channel.
      */
     TranslogSnapshot(final BaseTranslogReader reader, final long length) {
+        this(reader, length, false);
+    }
+
+    /**
+     * Create a snapshot of translog file channel, which reads the operations through a memory mapping of the channel
+     * if {@code mmap} is set. Unlike a positional read, reading an operation from the mapping neither copies it into
+     * a buffer nor makes a system call, and the sequential reads of a snapshot benefit from the read-ahead of the
+     * operating system. Generations larger than what a single mapping can address are always read from the channel.
+     */
+    TranslogSnapshot(final BaseTranslogReader reader, final long length, final boolean mmap) {
         super(reader.generation, reader.channel, reader.path, reader.header);
+        this.mmap = mmap && length <= Integer.MAX_VALUE;
         this.length = length;
         this.totalOperations = reader.totalOperations();
         this.checkpoint = reader.getCheckpoint();
@@ -97,7 +114,13 @@ final class TranslogSnapshot extends BaseTranslogReader {
 
     private Translog.Operation readOperation() throws IOException {
         final int opSize = readSize(reusableBuffer, position);
-        reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        if (mmap) {
+            // the checksum stream reads the operation straight from the mapped bytes
+            final ByteBuffer slice = mapped.slice(Math.toIntExact(position), opSize);
+            reuse = new BufferedChecksumStreamInput(new ByteBufferStreamInput(slice), path.toString(), reuse);
+        } else {
+            reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        }
         Translog.Operation op = read(reuse);
         position += opSize;
         readOperations++;
@@ -139,12 +162,39 @@ final class TranslogSnapshot extends BaseTranslogReader {
                         + "]"
                 );
             }
-            Channels.readFromFileChannelWithEofException(channel, position, buffer);
+            if (mmap && map()) {
+                readMappedBytes(buffer, position);
+            } else {
+                Channels.readFromFileChannelWithEofException(channel, position, buffer);
+            }
         } catch (EOFException e) {
             throw new TranslogCorruptedException(path.toString(), "translog truncated", e);
         }
     }
 
+    /**
+     * Maps the snapshot's part of the generation unless already mapped, and returns whether the reads use the mapping
+     */
+    private boolean map() throws IOException {
+        if (mapped == null) {
+            if (channel.size() < length) {
+                // the generation is truncated, the reads of the channel fail where it ends rather than reading past it
+                mmap = false;
+                return false;
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+        return true;
+    }
+
+    private void readMappedBytes(ByteBuffer buffer, long position) throws IOException {
+        final int remaining = buffer.remaining();
+        if (position + remaining > length) {
+            throw new EOFException("read past EOF. pos [" + position + "] length: [" + remaining + "] end: [" + length + "]");
+        }
+        buffer.put(mapped.slice(Math.toIntExact(position), remaining));
+    }
+
     @Override
     public String toString() {
         return "TranslogSnapshot{"
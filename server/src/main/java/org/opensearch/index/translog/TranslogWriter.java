@@ -512,7 +512,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     }
 
     @Override
-    TranslogSnapshot newSnapshot() {
+    TranslogSnapshot newSnapshot(boolean mmap) {
         // make sure to acquire the sync lock first, to prevent dead locks with threads calling
         // syncUpTo() , where the sync lock is acquired first, following by the synchronize(this)
         // After the sync lock we acquire the write lock to avoid deadlocks with threads writing where
@@ -530,7 +530,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     assert buffer == null;
                     assert checkChannelPositionWhileHandlingException(totalOffset);
                     assert totalOffset == lastSyncedCheckpoint.offset;
-                    return super.newSnapshot();
+                    return super.newSnapshot(mmap);
                 }
             }
         }
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
@@ -57,9 +58,13 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -113,6 +118,42 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         Property.NodeScope
     );
 
+    /** How the shards whose indexing buffers are written to disk are picked when over budget (default: size). */
+    public static final Setting<BufferAllocation> SHARD_BUFFER_ALLOCATION_SETTING = new Setting<>(
+        "indices.memory.shard_buffer_allocation",
+        BufferAllocation.SIZE.toString(),
+        BufferAllocation::fromString,
+        Property.NodeScope
+    );
+
+    /**
+     * How the indexing buffer is shared across the actively indexing shards
+     *
+     * @opensearch.internal
+     */
+    public enum BufferAllocation {
+        /** The shards with the largest indexing buffers are written to disk first */
+        SIZE,
+        /**
+         * Each shard is given a share of the indexing buffer proportional to its recent write rate, and the shards that
+         * exceed their share the most are written to disk first. Hot shards keep larger buffers and write fewer, larger
+         * segments that are cheaper to merge, while the buffers of shards that barely index are reclaimed.
+         */
+        WRITE_RATE;
+
+        public static BufferAllocation fromString(String value) {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // the weight of the bytes written since the previous check in the write rate of a shard
+    private static final double WRITE_RATE_ALPHA = 0.3;
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
@@ -121,6 +162,10 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     private final TimeValue inactiveTime;
     private final TimeValue interval;
+    private final BufferAllocation bufferAllocation;
+
+    /** The bytes recently written by each shard, only tracked with {@link BufferAllocation#WRITE_RATE} */
+    private final ConcurrentMap<ShardId, ShardWriteRate> writeRates = new ConcurrentHashMap<>();
 
     /** Contains shards currently being throttled because we can't write segments quickly enough */
     private final Set<IndexShard> throttled = new HashSet<>();
@@ -158,16 +203,19 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         this.inactiveTime = SHARD_INACTIVE_TIME_SETTING.get(settings);
         // we need to have this relatively small to free up heap quickly enough
         this.interval = SHARD_MEMORY_INTERVAL_TIME_SETTING.get(settings);
+        this.bufferAllocation = SHARD_BUFFER_ALLOCATION_SETTING.get(settings);
 
         this.statusChecker = new ShardsIndicesStatusChecker();
 
         logger.debug(
-            "using indexing buffer size [{}] with {} [{}], {} [{}]",
+            "using indexing buffer size [{}] with {} [{}], {} [{}], {} [{}]",
             this.indexingBuffer,
             SHARD_INACTIVE_TIME_SETTING.getKey(),
             this.inactiveTime,
             SHARD_MEMORY_INTERVAL_TIME_SETTING.getKey(),
-            this.interval
+            this.interval,
+            SHARD_BUFFER_ALLOCATION_SETTING.getKey(),
+            this.bufferAllocation
         );
         this.scheduler = scheduleTask(threadPool);
 
@@ -245,21 +293,44 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     @Override
     public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
-        recordOperationBytes(index, result);
+        recordOperationBytes(shardId, index, result);
     }
 
     @Override
     public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
-        recordOperationBytes(delete, result);
+        recordOperationBytes(shardId, delete, result);
     }
 
     /** called by IndexShard to record estimated bytes written to translog for the operation */
-    private void recordOperationBytes(Engine.Operation operation, Engine.Result result) {
+    private void recordOperationBytes(ShardId shardId, Engine.Operation operation, Engine.Result result) {
         if (result.getResultType() == Engine.Result.Type.SUCCESS) {
+            shardBytesWritten(shardId, operation.estimatedSizeInBytes());
             statusChecker.bytesWritten(operation.estimatedSizeInBytes());
         }
     }
 
+    /** records the bytes written by a shard towards its write rate */
+    void shardBytesWritten(ShardId shardId, long bytes) {
+        if (bufferAllocation == BufferAllocation.WRITE_RATE) {
+            writeRates.computeIfAbsent(shardId, k -> new ShardWriteRate()).bytesWritten.add(bytes);
+        }
+    }
+
+    /**
+     * The bytes a shard wrote since the last check, and the moving average of the bytes it wrote between checks
+     *
+     * @opensearch.internal
+     */
+    private static final class ShardWriteRate {
+        final LongAdder bytesWritten = new LongAdder();
+        final ExponentiallyWeightedMovingAverage rate = new ExponentiallyWeightedMovingAverage(WRITE_RATE_ALPHA, 0);
+
+        double update() {
+            rate.addValue(bytesWritten.sumThenReset());
+            return rate.getAverage();
+        }
+    }
+
     /**
      * The bytes used by a shard and a reference to the shard
      *
@@ -267,17 +338,20 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
      */
     private static final class ShardAndBytesUsed implements Comparable<ShardAndBytesUsed> {
         final long bytesUsed;
+        // the bytes used above the share of the indexing buffer of the shard, the bytes used if the shards have no share
+        final long bytesOverShare;
         final IndexShard shard;
 
-        ShardAndBytesUsed(long bytesUsed, IndexShard shard) {
+        ShardAndBytesUsed(long bytesUsed, long bytesOverShare, IndexShard shard) {
             this.bytesUsed = bytesUsed;
+            this.bytesOverShare = bytesOverShare;
             this.shard = shard;
         }
 
         @Override
         public int compareTo(ShardAndBytesUsed other) {
-            // Sort larger shards first:
-            return Long.compare(other.bytesUsed, bytesUsed);
+            // Sort the shards the most over their share first:
+            return Long.compare(other.bytesOverShare, bytesOverShare);
         }
     }
 
@@ -337,11 +411,21 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
             // to disk:
             long totalBytesUsed = 0;
             long totalBytesWriting = 0;
+            double totalWriteRate = 0;
+            final Set<ShardId> shardIds = new HashSet<>();
             for (IndexShard shard : availableShards()) {
 
                 // Give shard a chance to transition to inactive so we can flush:
                 checkIdle(shard, inactiveTime.nanos());
 
+                if (bufferAllocation == BufferAllocation.WRITE_RATE) {
+                    shardIds.add(shard.shardId());
+                    final ShardWriteRate writeRate = writeRates.get(shard.shardId());
+                    if (writeRate != null) {
+                        totalWriteRate += writeRate.update();
+                    }
+                }
+
                 // How many bytes this shard is currently (async'd) moving from heap to disk:
                 long shardWritingBytes = getShardWritingBytes(shard);
 
@@ -359,6 +443,10 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
                 totalBytesUsed += shardBytesUsed;
             }
+            if (bufferAllocation == BufferAllocation.WRITE_RATE) {
+                // Forget the shards that were closed or relocated:
+                writeRates.keySet().retainAll(shardIds);
+            }
 
             if (logger.isTraceEnabled()) {
                 logger.trace(
@@ -407,7 +495,14 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                                 logger.trace("shard [{}] is using [{}] heap, not writing any bytes", shard.shardId(), shardBytesUsed);
                             }
                         }
-                        queue.add(new ShardAndBytesUsed(shardBytesUsed, shard));
+                        long bytesOverShare = shardBytesUsed;
+                        if (totalWriteRate > 0) {
+                            // The share of the indexing buffer of the shard is proportional to its recent write rate:
+                            final ShardWriteRate writeRate = writeRates.get(shard.shardId());
+                            final double share = writeRate == null ? 0 : writeRate.rate.getAverage() / totalWriteRate;
+                            bytesOverShare -= (long) (share * indexingBuffer.getBytes());
+                        }
+                        queue.add(new ShardAndBytesUsed(shardBytesUsed, bytesOverShare, shard));
                     }
                 }
 
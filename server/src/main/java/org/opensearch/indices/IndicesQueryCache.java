@@ -34,35 +34,72 @@ package org.opensearch.indices;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.ConstantScoreScorerSupplier;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.ShardCoreKeyMap;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.cache.query.QueryCacheStats;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
 
 /**
  * The query cache for indices
+ * <p>
+ * If a store is configured for the {@link CacheType#INDICES_QUERY_CACHE} cache type, the doc id sets that the on-heap
+ * cache computes are also written, serialized, to a second tier created through the {@link CacheService}. The second tier
+ * can hold far more entries, off the heap or on disk when it is for instance a tiered spillover cache, and is looked up
+ * when the on-heap cache misses.
  *
  * @opensearch.api
  */
@@ -90,8 +127,32 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         false,
         Property.NodeScope
     );
+    // the heap that the keys of the doc id sets in the second tier and the queries they reference may use, if a store is
+    // configured for it, since the keys are kept per segment to invalidate the doc id sets of the segment when it is closed
+    public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_TIER_KEYS_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.queries.cache.tier.keys_size",
+        "1%",
+        Property.NodeScope
+    );
 
     private final LRUQueryCache cache;
+    @Nullable
+    private final ICache<TierKey, BytesReference> tier;
+    private final long maxKeysRamBytesUsed;
+    private final AtomicLong keysRamBytesUsed = new AtomicLong();
+    // the ids of the segments that key the doc id sets of the second tier, which are never reused
+    private final Map<Object, Segment> segmentsByCoreKey = new ConcurrentHashMap<>();
+    private final Map<Long, Segment> segmentsById = new ConcurrentHashMap<>();
+    private final AtomicLong nextSegmentId = new AtomicLong();
+    // the queries of the doc id sets in the second tier, which is keyed on their ids. They are compared with equals like in the
+    // on-heap cache, and are referenced until the last of their doc id sets leaves the second tier. The ids are never reused.
+    private final Map<Query, TierQuery> tierQueries = new ConcurrentHashMap<>();
+    private final Map<Long, TierQuery> tierQueriesById = new ConcurrentHashMap<>();
+    private final AtomicLong nextQueryId = new AtomicLong();
+    // the query that the on-heap cache missed while this thread created a scorer supplier or counted
+    private final ThreadLocal<Query> missed = new ThreadLocal<>();
+    // the scorer supplier whose doc id set the on-heap cache computes on this thread
+    private final ThreadLocal<TierWritingScorerSupplier> computing = new ThreadLocal<>();
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
     private volatile long sharedRamBytesUsed;
@@ -102,6 +163,15 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     private final Map<Object, StatsAndCount> stats2 = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public IndicesQueryCache(Settings settings) {
+        this(settings, null, null, null);
+    }
+
+    public IndicesQueryCache(
+        Settings settings,
+        @Nullable CacheService cacheService,
+        @Nullable ClusterSettings clusterSettings,
+        @Nullable NodeEnvironment nodeEnvironment
+    ) {
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
         logger.debug("using [node] query cache with size [{}] max filter count [{}]", size, count);
@@ -111,6 +181,38 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes());
         }
         sharedRamBytesUsed = 0;
+        maxKeysRamBytesUsed = INDICES_CACHE_QUERY_TIER_KEYS_SIZE_SETTING.get(settings).getBytes();
+        if (cacheService != null && CacheService.storeNamePresent(CacheType.INDICES_QUERY_CACHE, settings)) {
+            logger.debug("using [{}] as the second tier of the [node] query cache", CacheType.INDICES_QUERY_CACHE.getSettingPrefix());
+            tier = cacheService.createCache(getTierConfig(settings, clusterSettings, nodeEnvironment), CacheType.INDICES_QUERY_CACHE);
+        } else {
+            tier = null;
+        }
+    }
+
+    private CacheConfig<TierKey, BytesReference> getTierConfig(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        NodeEnvironment nodeEnvironment
+    ) {
+        ToLongBiFunction<ICacheKey<TierKey>, BytesReference> weigher = (k, v) -> k.ramBytesUsed(k.key.ramBytesUsed()) + v.ramBytesUsed();
+        CacheConfig.Builder<TierKey, BytesReference> configBuilder = new CacheConfig.Builder<TierKey, BytesReference>().setSettings(
+            settings
+        )
+            .setWeigher(weigher)
+            .setValueType(BytesReference.class)
+            .setKeyType(TierKey.class)
+            .setRemovalListener(this::onTierRemoval)
+            .setDimensionNames(List.of(IndicesRequestCache.INDEX_DIMENSION_NAME, IndicesRequestCache.SHARD_ID_DIMENSION_NAME))
+            // the time it took to compute the doc id set lets the tiered spillover cache only spill the costly ones to disk
+            .setCachedResultParser(bytes -> new CachedQueryResult.PolicyValues(tookTimeNanos(bytes)))
+            .setKeySerializer(new TierKeySerializer())
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setClusterSettings(clusterSettings);
+        if (nodeEnvironment != null) {
+            configBuilder.setStoragePath(nodeEnvironment.nodePaths()[0].path.toString() + "/query_cache");
+        }
+        return configBuilder.build();
     }
 
     /** Get usage statistics for the given shard. */
@@ -150,16 +252,18 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         final Weight in = cache.doCache(weight, policy);
         // We wrap the weight to track the readers it sees and map them with
         // the shards they belong to
-        return new CachingWeightWrapper(in);
+        return new CachingWeightWrapper(in, policy);
     }
 
     private class CachingWeightWrapper extends Weight {
 
         private final Weight in;
+        private final QueryCachingPolicy policy;
 
-        protected CachingWeightWrapper(Weight in) {
+        protected CachingWeightWrapper(Weight in, QueryCachingPolicy policy) {
             super(in.getQuery());
             this.in = in;
+            this.policy = policy;
         }
 
         @Override
@@ -171,13 +275,57 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.scorerSupplier(context);
+            if (tier == null) {
+                return in.scorerSupplier(context);
+            }
+            // the scorer suppliers of nested cached queries are created while this one is, so the missed query is saved
+            final Query previous = missed.get();
+            missed.set(null);
+            final ScorerSupplier supplier;
+            final Query query;
+            try {
+                supplier = in.scorerSupplier(context);
+                query = missed.get();
+            } finally {
+                missed.set(previous);
+            }
+            if (query == null || policy.shouldCache(query) == false) {
+                return supplier;
+            }
+            final Segment segment = getSegment(context);
+            final ICacheKey<TierKey> key = getTierKey(segment, query);
+            final BytesReference cached = key == null ? null : tier.get(key);
+            if (cached != null) {
+                return deserializeScorerSupplier(cached, context.reader().maxDoc());
+            }
+            if (supplier == null) {
+                return null;
+            }
+            return new TierWritingScorerSupplier(supplier, segment, query);
         }
 
         @Override
         public int count(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.count(context);
+            if (tier == null) {
+                return in.count(context);
+            }
+            final Query previous = missed.get();
+            missed.set(null);
+            final int count;
+            final Query query;
+            try {
+                count = in.count(context);
+                query = missed.get();
+            } finally {
+                missed.set(previous);
+            }
+            if (query == null || count != -1) {
+                return count;
+            }
+            final ICacheKey<TierKey> key = getTierKey(getSegment(context), query);
+            final BytesReference cached = key == null ? null : tier.get(key);
+            return cached == null ? -1 : deserializeCount(cached);
         }
 
         @Override
@@ -186,11 +334,406 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
     }
 
+    /**
+     * Sets the segment and the query of the doc id set that the on-heap cache computes while the scorer is created, so that it
+     * is also written to the second tier
+     */
+    private class TierWritingScorerSupplier extends ScorerSupplier {
+
+        private final ScorerSupplier in;
+        private final Segment segment;
+        private final Query query;
+
+        TierWritingScorerSupplier(ScorerSupplier in, Segment segment, Query query) {
+            this.in = in;
+            this.segment = segment;
+            this.query = query;
+        }
+
+        @Override
+        public Scorer get(long leadCost) throws IOException {
+            final TierWritingScorerSupplier previous = computing.get();
+            computing.set(this);
+            try {
+                return in.get(leadCost);
+            } finally {
+                computing.set(previous);
+            }
+        }
+
+        @Override
+        public BulkScorer bulkScorer() throws IOException {
+            final TierWritingScorerSupplier previous = computing.get();
+            computing.set(this);
+            try {
+                return in.bulkScorer();
+            } finally {
+                computing.set(previous);
+            }
+        }
+
+        @Override
+        public long cost() {
+            return in.cost();
+        }
+
+        @Override
+        public void setTopLevelScoringClause() throws IOException {
+            in.setTopLevelScoringClause();
+        }
+    }
+
+    private Segment getSegment(LeafReaderContext context) {
+        final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+        final Object coreKey = cacheHelper.getKey();
+        Segment segment = segmentsByCoreKey.get(coreKey);
+        if (segment == null) {
+            final ShardId shardId = shardKeyMap.getShardId(coreKey);
+            final Segment created = new Segment(nextSegmentId.incrementAndGet(), List.of(shardId.getIndexName(), shardId.toString()));
+            segment = segmentsByCoreKey.putIfAbsent(coreKey, created);
+            if (segment == null) {
+                segment = created;
+                segmentsById.put(segment.id, segment);
+                cacheHelper.addClosedListener(this::onSegmentClose);
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the second tier key of the doc id set of the given query on the given segment, or null if the second tier holds
+     * no doc id set of the query
+     */
+    @Nullable
+    private ICacheKey<TierKey> getTierKey(Segment segment, Query query) {
+        final TierQuery tierQuery = tierQueries.get(query);
+        return tierQuery == null ? null : new ICacheKey<>(new TierKey(tierQuery.id, segment.id), segment.dimensions);
+    }
+
+    /**
+     * Tracks the key of a doc id set that is about to be written to the second tier with its segment, and references its
+     * query until the key is untracked, unless the keys and the queries that are tracked already use all the heap they may use
+     *
+     * @return the key to write the doc id set with, or null if it cannot be written to the second tier
+     */
+    @Nullable
+    private ICacheKey<TierKey> track(Segment segment, Query query) {
+        final TierQuery tierQuery = acquire(query);
+        if (tierQuery == null) {
+            return null;
+        }
+        final TierKey key = new TierKey(tierQuery.id, segment.id);
+        if (reserve(TierKey.RAM_BYTES_USED) == false) {
+            release(tierQuery);
+            return null;
+        }
+        if (segment.keys.add(key) == false) {
+            // the key is tracked already, and references the query already
+            keysRamBytesUsed.addAndGet(-TierKey.RAM_BYTES_USED);
+            release(tierQuery);
+        }
+        return new ICacheKey<>(key, segment.dimensions);
+    }
+
+    private void untrack(Segment segment, TierKey key) {
+        if (segment.keys.remove(key)) {
+            keysRamBytesUsed.addAndGet(-TierKey.RAM_BYTES_USED);
+            final TierQuery tierQuery = tierQueriesById.get(key.queryId);
+            if (tierQuery != null) {
+                release(tierQuery);
+            }
+        }
+    }
+
+    @Nullable
+    private TierQuery acquire(Query query) {
+        return tierQueries.compute(query, (q, tierQuery) -> {
+            if (tierQuery == null) {
+                final long ramBytesUsed = TierQuery.BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(q);
+                if (reserve(ramBytesUsed) == false) {
+                    return null;
+                }
+                tierQuery = new TierQuery(nextQueryId.incrementAndGet(), q, ramBytesUsed);
+                tierQueriesById.put(tierQuery.id, tierQuery);
+            }
+            tierQuery.refCount++;
+            return tierQuery;
+        });
+    }
+
+    private void release(TierQuery tierQuery) {
+        tierQueries.computeIfPresent(tierQuery.query, (q, current) -> {
+            if (current != tierQuery || --current.refCount > 0) {
+                return current;
+            }
+            tierQueriesById.remove(current.id);
+            keysRamBytesUsed.addAndGet(-current.ramBytesUsed);
+            return null;
+        });
+    }
+
+    private boolean reserve(long ramBytesUsed) {
+        if (keysRamBytesUsed.addAndGet(ramBytesUsed) > maxKeysRamBytesUsed) {
+            keysRamBytesUsed.addAndGet(-ramBytesUsed);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the heap used by the keys of the second tier and by the queries they reference
+     */
+    long getTierKeysRamBytesUsed() {
+        return keysRamBytesUsed.get();
+    }
+
+    private void onSegmentClose(Object coreKey) {
+        final Segment segment = segmentsByCoreKey.remove(coreKey);
+        if (segment != null) {
+            segmentsById.remove(segment.id);
+            clearTier(segment);
+        }
+    }
+
+    private void clearTier(Segment segment) {
+        for (TierKey key : segment.keys) {
+            untrack(segment, key);
+            tier.invalidate(new ICacheKey<>(key, segment.dimensions));
+        }
+    }
+
+    private void onTierRemoval(RemovalNotification<ICacheKey<TierKey>, BytesReference> notification) {
+        if (notification.getRemovalReason() == RemovalReason.REPLACED) {
+            return;
+        }
+        final TierKey key = notification.getKey().key;
+        final Segment segment = segmentsById.get(key.segmentId);
+        if (segment != null) {
+            untrack(segment, key);
+        }
+    }
+
+    /**
+     * Serializes a doc id set, as a bit set if it is dense and as the deltas between its doc ids otherwise
+     */
+    private static BytesReference serialize(@Nullable DocIdSetIterator iterator, int count, long tookTimeNanos, int maxDoc)
+        throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeVLong(tookTimeNanos);
+        if (iterator == null) {
+            count = 0;
+        }
+        out.writeVInt(count);
+        if (count > 0) {
+            // a delta takes at least a byte while the bit set takes a bit per document
+            final boolean dense = count > maxDoc >>> 3;
+            out.writeBoolean(dense);
+            if (dense) {
+                final FixedBitSet bits = new FixedBitSet(maxDoc);
+                bits.or(iterator);
+                for (long word : bits.getBits()) {
+                    out.writeLong(word);
+                }
+            } else {
+                int previous = -1;
+                for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                    out.writeVInt(doc - previous);
+                    previous = doc;
+                }
+            }
+        }
+        return out.bytes();
+    }
+
+    private static long tookTimeNanos(BytesReference bytes) {
+        try {
+            return bytes.streamInput().readVLong();
+        } catch (IOException e) {
+            // never spilled by the took time policy
+            return -1;
+        }
+    }
+
+    private static int deserializeCount(BytesReference bytes) throws IOException {
+        final StreamInput in = bytes.streamInput();
+        in.readVLong();
+        return in.readVInt();
+    }
+
+    @Nullable
+    private static ScorerSupplier deserializeScorerSupplier(BytesReference bytes, int maxDoc) throws IOException {
+        final StreamInput in = bytes.streamInput();
+        in.readVLong();
+        final int count = in.readVInt();
+        if (count == 0) {
+            return null;
+        }
+        final DocIdSetIterator iterator;
+        if (in.readBoolean()) {
+            final long[] words = new long[FixedBitSet.bits2words(maxDoc)];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            iterator = new BitSetIterator(new FixedBitSet(words, maxDoc), count);
+        } else {
+            iterator = new DeltaDocIdSetIterator(in, count);
+        }
+        return ConstantScoreScorerSupplier.fromIterator(iterator, 0f, ScoreMode.COMPLETE_NO_SCORES, maxDoc);
+    }
+
+    /**
+     * Reads the doc ids of a sparse doc id set from their serialized deltas as it iterates
+     */
+    private static final class DeltaDocIdSetIterator extends DocIdSetIterator {
+
+        private final StreamInput in;
+        private final int count;
+        private int read;
+        private int doc = -1;
+
+        DeltaDocIdSetIterator(StreamInput in, int count) {
+            this.in = in;
+            this.count = count;
+        }
+
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            if (read == count) {
+                return doc = NO_MORE_DOCS;
+            }
+            read++;
+            return doc += in.readVInt();
+        }
+
+        @Override
+        public int advance(int target) throws IOException {
+            return slowAdvance(target);
+        }
+
+        @Override
+        public long cost() {
+            return count;
+        }
+    }
+
+    /**
+     * A segment whose doc id sets are in the second tier
+     */
+    private static final class Segment {
+        final long id;
+        final List<String> dimensions;
+        final Set<TierKey> keys = ConcurrentHashMap.newKeySet();
+
+        Segment(long id, List<String> dimensions) {
+            this.id = id;
+            this.dimensions = dimensions;
+        }
+    }
+
+    /**
+     * A query whose doc id sets are in the second tier, with the number of keys of the second tier that reference it
+     */
+    private static final class TierQuery {
+        static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(TierQuery.class);
+
+        final long id;
+        final Query query;
+        final long ramBytesUsed;
+        // only updated while the query is locked in the map of the queries
+        int refCount;
+
+        TierQuery(long id, Query query, long ramBytesUsed) {
+            this.id = id;
+            this.query = query;
+            this.ramBytesUsed = ramBytesUsed;
+        }
+    }
+
+    /**
+     * The key of a doc id set in the second tier, made of the id of its query and of the id of its segment
+     *
+     * @opensearch.internal
+     */
+    static final class TierKey implements Accountable {
+        static final long RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(TierKey.class);
+
+        final long queryId;
+        final long segmentId;
+
+        TierKey(long queryId, long segmentId) {
+            this.queryId = queryId;
+            this.segmentId = segmentId;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return RAM_BYTES_USED;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TierKey key = (TierKey) o;
+            return queryId == key.queryId && segmentId == key.segmentId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(queryId) + Long.hashCode(segmentId);
+        }
+    }
+
+    /**
+     * Serializes the keys of the second tier, for the stores that keep them off the heap
+     *
+     * @opensearch.internal
+     */
+    static final class TierKeySerializer implements Serializer<TierKey, byte[]> {
+
+        @Override
+        public byte[] serialize(TierKey object) {
+            if (object == null) {
+                return null;
+            }
+            return ByteBuffer.allocate(2 * Long.BYTES).putLong(object.segmentId).putLong(object.queryId).array();
+        }
+
+        @Override
+        public TierKey deserialize(byte[] bytes) {
+            if (bytes == null) {
+                return null;
+            }
+            if (bytes.length != 2 * Long.BYTES) {
+                throw new OpenSearchException("Unable to deserialize byte[] of length [" + bytes.length + "] to IndicesQueryCache.TierKey");
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final long segmentId = buffer.getLong();
+            return new TierKey(buffer.getLong(), segmentId);
+        }
+
+        @Override
+        public boolean equals(TierKey object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+
     /** Clear all entries that belong to the given index. */
     public void clearIndex(String index) {
         final Set<Object> coreCacheKeys = shardKeyMap.getCoreKeysForIndex(index);
         for (Object coreKey : coreCacheKeys) {
             cache.clearCoreCacheKey(coreKey);
+            if (tier != null) {
+                final Segment segment = segmentsByCoreKey.get(coreKey);
+                if (segment != null) {
+                    clearTier(segment);
+                }
+            }
         }
 
         // This cache stores two things: filters, and doc id sets. Calling
@@ -212,6 +755,14 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         // we only know that there are no more doc id sets, but we still track
         // recently used queries, which we want to reclaim.
         cache.clear();
+        if (tier != null) {
+            tier.invalidateAll();
+            try {
+                tier.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     /**
@@ -284,6 +835,12 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     public void onClose(ShardId shardId) {
         assert empty(shardStats.get(shardId));
         shardStats.remove(shardId);
+        if (tier != null) {
+            // the shard is closed, so the second tier drops its stats
+            final ICacheKey<TierKey> key = new ICacheKey<>(null, List.of(shardId.getIndexName(), shardId.toString()));
+            key.setDropStatsForDimensions(true);
+            tier.invalidate(key);
+        }
     }
 
     private class OpenSearchLRUQueryCache extends LRUQueryCache {
@@ -296,6 +853,24 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super(maxSize, maxRamBytesUsed);
         }
 
+        @Override
+        protected CacheAndCount cacheImpl(BulkScorer scorer, int maxDoc) throws IOException {
+            final TierWritingScorerSupplier writer = computing.get();
+            final long startTime = System.nanoTime();
+            final CacheAndCount cached = super.cacheImpl(scorer, maxDoc);
+            // the doc id sets of closed segments are not written
+            if (writer != null && segmentsById.get(writer.segment.id) == writer.segment) {
+                // the doc id set is serialized and written on the search thread that computed it, like the request cache writes
+                // the results it computes: serializing it costs about as much as the copy that the on-heap cache just made, and
+                // the tiered spillover cache only writes to disk what its on-heap tier evicts
+                final ICacheKey<TierKey> key = track(writer.segment, writer.query);
+                if (key != null) {
+                    tier.put(key, serialize(cached.iterator(), cached.count(), System.nanoTime() - startTime, maxDoc));
+                }
+            }
+            return cached;
+        }
+
         private Stats getStats(Object coreKey) {
             final ShardId shardId = shardKeyMap.getShardId(coreKey);
             if (shardId == null) {
@@ -391,6 +966,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onMiss(readerCoreKey, filter);
             final Stats shardStats = getOrCreateStats(readerCoreKey);
             shardStats.missCount += 1;
+            if (tier != null) {
+                missed.set(filter);
+            }
         }
     }
 }
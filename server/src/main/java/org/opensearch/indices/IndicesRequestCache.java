@@ -36,11 +36,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
@@ -86,6 +88,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToLongBiFunction;
 
@@ -171,9 +174,22 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.Dynamic
     );
 
+    /**
+     * Whether the cacheable requests with size 0 that only run aggregations are computed and cached per segment, so that a
+     * refresh only requires the aggregations of the new segments to be computed before they are reduced with the cached ones.
+     */
+    public static final Setting<Boolean> INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING = Setting.boolSetting(
+        "indices.requests.cache.segment_level.enabled",
+        false,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
     private final static long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
+    // the ids of the segments that have entries in the cache, since their reader cache keys have none
+    private final ConcurrentMap<IndexReader.CacheKey, String> segmentIds = ConcurrentCollections.newConcurrentMap();
     private final TimeValue expire;
     private final ICache<Key, BytesReference> cache;
     private final ClusterService clusterService;
@@ -317,6 +333,42 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
             .getReaderCacheHelper();
         String readerCacheKeyId = delegatingCacheHelper.getDelegatingCacheKey().getId();
         assert readerCacheKeyId != null;
+        return getOrCompute(
+            cacheEntity,
+            loader,
+            readerCacheKeyId,
+            cacheKey,
+            cleanupKey -> OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey)
+        );
+    }
+
+    /**
+     * Same as {@link #getOrCompute(IndicesService.IndexShardCacheEntity, CheckedSupplier, DirectoryReader, BytesReference)} for a
+     * value computed on a single segment, which stays in the cache until the reader of the segment is closed, for instance after
+     * it is merged away or documents of it are deleted.
+     */
+    BytesReference getOrCompute(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        LeafReader reader,
+        BytesReference cacheKey
+    ) throws Exception {
+        final IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+        assert cacheHelper != null;
+        final String readerCacheKeyId = segmentIds.computeIfAbsent(cacheHelper.getKey(), key -> {
+            cacheHelper.addClosedListener(segmentIds::remove);
+            return UUIDs.randomBase64UUID();
+        });
+        return getOrCompute(cacheEntity, loader, readerCacheKeyId, cacheKey, cacheHelper::addClosedListener);
+    }
+
+    private BytesReference getOrCompute(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        String readerCacheKeyId,
+        BytesReference cacheKey,
+        Consumer<CleanupKey> closeListenerRegistration
+    ) throws Exception {
         IndexShard indexShard = ((IndexShard) cacheEntity.getCacheIdentity());
         final Key key = new Key(indexShard.shardId(), cacheKey, readerCacheKeyId, System.identityHashCode(indexShard));
         Loader cacheLoader = new Loader(cacheEntity, loader);
@@ -328,7 +380,7 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
                 Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
                 if (previous == null) {
-                    OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey);
+                    closeListenerRegistration.accept(cleanupKey);
                 }
             }
             cacheCleanupManager.updateStaleCountOnCacheInsert(cleanupKey);
@@ -354,6 +406,20 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         cache.invalidate(getICacheKey(new Key(indexShard.shardId(), cacheKey, readerCacheKeyId, System.identityHashCode(indexShard))));
     }
 
+    /**
+     * Invalidates the cache entry for the given key computed on a single segment
+     * @param cacheEntity the cache entity to invalidate for
+     * @param reader the reader of the segment to invalidate the cache entry for
+     * @param cacheKey the cache key to invalidate
+     */
+    void invalidate(IndicesService.IndexShardCacheEntity cacheEntity, LeafReader reader, BytesReference cacheKey) {
+        final String readerCacheKeyId = segmentIds.get(reader.getReaderCacheHelper().getKey());
+        if (readerCacheKeyId != null) {
+            IndexShard indexShard = (IndexShard) cacheEntity.getCacheIdentity();
+            cache.invalidate(getICacheKey(new Key(indexShard.shardId(), cacheKey, readerCacheKeyId, System.identityHashCode(indexShard))));
+        }
+    }
+
     /**
      * Loader for the request cache
      *
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -170,6 +171,7 @@ import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.PerSegmentQueryPhase;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.threadpool.ThreadPool;
@@ -217,6 +219,7 @@ import static org.opensearch.index.TieredMergePolicyProvider.DEFAULT_MAX_MERGE_A
 import static org.opensearch.index.TieredMergePolicyProvider.MIN_DEFAULT_MAX_MERGE_AT_ONCE;
 import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
 import static org.opensearch.indices.IndicesRequestCache.INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING;
+import static org.opensearch.indices.IndicesRequestCache.INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING;
 import static org.opensearch.search.SearchService.ALLOW_EXPENSIVE_QUERIES;
 
 /**
@@ -415,6 +418,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final Consumer<IndexShard> replicator;
     private final Function<ShardId, ReplicationStats> segmentReplicationStatsProvider;
     private volatile int maxSizeInRequestCache;
+    private volatile boolean segmentLevelRequestCache;
     private volatile int defaultMaxMergeAtOnce;
 
     @Override
@@ -476,7 +480,7 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
-        this.indicesQueryCache = new IndicesQueryCache(settings);
+        this.indicesQueryCache = new IndicesQueryCache(settings, cacheService, clusterService.getClusterSettings(), nodeEnv);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(
@@ -587,6 +591,9 @@ public class IndicesService extends AbstractLifecycleComponent
         this.maxSizeInRequestCache = INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING.get(clusterService.getSettings());
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING, this::setMaxSizeInRequestCache);
+        this.segmentLevelRequestCache = INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(INDICES_REQUEST_CACHE_SEGMENT_LEVEL_SETTING, enabled -> this.segmentLevelRequestCache = enabled);
 
         this.defaultMaxMergeAtOnce = CLUSTER_DEFAULT_INDEX_MAX_MERGE_AT_ONCE_SETTING.get(clusterService.getSettings());
         clusterService.getClusterSettings()
@@ -1959,7 +1966,11 @@ public class IndicesService extends AbstractLifecycleComponent
         boolean[] loadedFromCache = new boolean[] { true };
         BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, request.cacheKey(), out -> {
             long beforeQueryPhase = System.nanoTime();
-            queryPhase.execute(context);
+            if (segmentLevelRequestCache && PerSegmentQueryPhase.canExecute(queryPhase, context)) {
+                PerSegmentQueryPhase.execute(context, new SegmentCache(context.indexShard(), request.cacheKey()), namedWriteableRegistry);
+            } else {
+                queryPhase.execute(context);
+            }
             // Write relevant info for cache tier policies before the whole QuerySearchResult, so we don't have to read
             // the whole QSR into memory when we decide whether to allow it into a particular cache tier based on took time/other info
             CachedQueryResult cachedQueryResult = new CachedQueryResult(context.queryResult(), System.nanoTime() - beforeQueryPhase);
@@ -2066,6 +2077,29 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * The results of the segments of a shard for a request that is executed one segment at a time, cached in the request cache
+     */
+    private final class SegmentCache implements PerSegmentQueryPhase.SegmentResultCache {
+        private final IndexShardCacheEntity cacheEntity;
+        private final BytesReference cacheKey;
+
+        SegmentCache(IndexShard indexShard, BytesReference cacheKey) {
+            this.cacheEntity = new IndexShardCacheEntity(indexShard);
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public BytesReference getOrCompute(LeafReaderContext leaf, CheckedSupplier<BytesReference, IOException> loader) throws Exception {
+            return indicesRequestCache.getOrCompute(cacheEntity, loader, leaf.reader(), cacheKey);
+        }
+
+        @Override
+        public void invalidate(LeafReaderContext leaf) {
+            indicesRequestCache.invalidate(cacheEntity, leaf.reader(), cacheKey);
+        }
+    }
+
     @FunctionalInterface
     interface IndexDeletionAllowedPredicate {
         boolean apply(Index index, IndexSettings indexSettings);
@@ -46,6 +46,7 @@ import org.opensearch.action.ActionModule.DynamicActionRegistry;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.admin.cluster.snapshots.status.TransportNodesSnapshotsStatus;
 import org.opensearch.action.admin.indices.view.ViewService;
+import org.opensearch.action.search.AggregationSpillSettings;
 import org.opensearch.action.search.SearchExecutionStatsCollector;
 import org.opensearch.action.search.SearchPhaseController;
 import org.opensearch.action.search.SearchRequestOperationsCompositeListenerFactory;
@@ -1600,7 +1601,13 @@ public class Node implements Closeable {
                     b.bind(StreamSearchTransportService.class).toProvider((Providers.of(null)));
                 }
                 b.bind(SearchPhaseController.class)
-                    .toInstance(new SearchPhaseController(namedWriteableRegistry, searchService::aggReduceContextBuilder));
+                    .toInstance(
+                        new SearchPhaseController(
+                            namedWriteableRegistry,
+                            searchService::aggReduceContextBuilder,
+                            new AggregationSpillSettings(clusterService.getClusterSettings(), environment.tmpDir())
+                        )
+                    );
                 b.bind(Transport.class).toInstance(transport);
                 b.bind(TransportService.class).toInstance(transportService);
                 if (streamTransportService.isPresent()) {
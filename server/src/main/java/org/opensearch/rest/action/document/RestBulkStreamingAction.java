@@ -21,6 +21,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.support.XContentHttpChunk;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContent;
@@ -37,9 +39,11 @@ import org.opensearch.transport.client.node.NodeClient;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import reactor.core.publisher.Flux;
@@ -126,6 +130,13 @@ public class RestBulkStreamingAction extends BaseRestHandler {
             // Set the content type and the status code before sending the response stream over
             channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(mediaType.mediaTypeWithoutParameters())));
 
+            // The chunks received since the end of the last complete item: a chunk may end in the middle of an item, whose
+            // remainder arrives with the next chunks
+            final byte marker = mediaType.xContent().streamSeparator();
+            final List<BytesReference> pending = new ArrayList<>();
+            // The number of lines of the body before the pending chunks, so that the parsing errors report the lines of the body
+            final AtomicInteger lineOffset = new AtomicInteger();
+
             // TODOs:
             // - eliminate serialization inefficiencies
             createBufferedFlux(batchInterval, batchSize, hasBatchSize, channel).zipWith(Flux.fromStream(Stream.generate(() -> {
@@ -142,16 +153,30 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                 for (final HttpChunk chunk : chunks) {
                     isLast |= chunk.isLast();
                     try (chunk) {
-                        bulkRequest.add(
-                            chunk.content(),
-                            defaultIndex,
-                            defaultRouting,
-                            defaultFetchSourceContext,
-                            defaultPipeline,
-                            defaultRequireAlias,
-                            allowExplicitIndex,
-                            request.getMediaType()
-                        );
+                        final BytesReference content = chunk.content();
+                        pending.add(content);
+                        if (chunk.isLast() || content.indexOf(marker, 0) != -1) {
+                            // no item can be complete before the chunk that ends its last line, and the sources of the
+                            // complete items are slices of the chunks rather than copies
+                            final BytesReference data = CompositeBytesReference.of(pending.toArray(new BytesReference[0]));
+                            final int consumed = bulkRequest.addCompleteItems(
+                                data,
+                                lineOffset.get(),
+                                chunk.isLast(),
+                                defaultIndex,
+                                defaultRouting,
+                                defaultFetchSourceContext,
+                                defaultPipeline,
+                                defaultRequireAlias,
+                                allowExplicitIndex,
+                                request.getMediaType()
+                            );
+                            pending.clear();
+                            if (consumed < data.length()) {
+                                pending.add(data.slice(consumed, data.length() - consumed));
+                            }
+                            lineOffset.addAndGet(countLines(data, consumed, marker));
+                        }
                     } catch (final IOException ex) {
                         throw new UncheckedIOException(ex);
                     }
@@ -162,6 +187,10 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                 final CompletableFuture<BulkResponse> f = new CompletableFuture<>();
 
                 if (tuple.v2().requests().isEmpty()) {
+                    if (tuple.v1() == false) {
+                        // the chunks received so far end in the middle of the first item
+                        return Mono.empty();
+                    }
                     // this is the last request with no items
                     f.complete(EMPTY);
                 } else {
@@ -234,6 +263,17 @@ public class RestBulkStreamingAction extends BaseRestHandler {
         return true;
     }
 
+    /**
+     * Counts the lines of the first {@code length} bytes of the data, which end with a line
+     */
+    private static int countLines(BytesReference data, int length, byte marker) {
+        int lines = 0;
+        for (int from = 0; from < length; from = data.indexOf(marker, from) + 1) {
+            lines++;
+        }
+        return lines;
+    }
+
     private Flux<List<HttpChunk>> createBufferedFlux(
         final TimeValue batchInterval,
         final int batchSize,
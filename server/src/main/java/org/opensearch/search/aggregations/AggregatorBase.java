@@ -196,7 +196,10 @@ public abstract class AggregatorBase extends Aggregator {
 
     /**
      * Get a {@link LeafBucketCollector} for the given ctx, which should
-     * delegate to the given collector.
+     * delegate to the given collector. Aggregators that can process several
+     * docs of the same bucket at once should also override
+     * {@link LeafBucketCollector#collect(int[], int, long)}, which is what
+     * batches of docs from the searcher end up calling.
      */
     protected abstract LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException;
 
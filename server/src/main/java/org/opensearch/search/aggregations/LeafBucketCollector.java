@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations;
 
+import org.apache.lucene.search.CheckedIntConsumer;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
@@ -47,6 +49,12 @@ import java.util.stream.StreamSupport;
  */
 public abstract class LeafBucketCollector implements LeafCollector {
 
+    /**
+     * Maximum number of docs buffered from a {@link DocIdStream} before they are handed to
+     * {@link #collect(int[], int, long)}.
+     */
+    public static final int BATCH_SIZE = 256;
+
     public static final LeafBucketCollector NO_OP_COLLECTOR = new LeafBucketCollector() {
         @Override
         public void setScorer(Scorable arg0) throws IOException {
@@ -57,8 +65,24 @@ public abstract class LeafBucketCollector implements LeafCollector {
         public void collect(int doc, long bucket) {
             // no-op
         }
+
+        @Override
+        public void collect(int[] docs, int count, long bucket) {
+            // no-op
+        }
+
+        @Override
+        public void collect(DocIdStream stream, long bucket) {
+            // no-op
+        }
     };
 
+    // the buffer of collect(DocIdStream, long), allocated on first use and reused by the later calls
+    private int[] docBuffer;
+    private int docBufferCount;
+    private long docBufferOwningBucketOrd;
+    private CheckedIntConsumer<IOException> bufferDoc;
+
     public static LeafBucketCollector wrap(Iterable<LeafBucketCollector> collectors) {
         final Stream<LeafBucketCollector> actualCollectors = StreamSupport.stream(collectors.spliterator(), false)
             .filter(c -> c != NO_OP_COLLECTOR);
@@ -85,6 +109,13 @@ public abstract class LeafBucketCollector implements LeafCollector {
                         }
                     }
 
+                    @Override
+                    public void collect(int[] docs, int count, long bucket) throws IOException {
+                        for (LeafBucketCollector c : colls) {
+                            c.collect(docs, count, bucket);
+                        }
+                    }
+
                 };
         }
     }
@@ -123,6 +154,54 @@ public abstract class LeafBucketCollector implements LeafCollector {
         collect(doc, 0);
     }
 
+    /**
+     * Collect the first {@code count} docs of {@code docs}, in increasing
+     * order, in the bucket owned by {@code owningBucketOrd}.
+     * <p>
+     * The default implementation calls {@link #collect(int, long)} for every
+     * doc. Collectors that can read the doc values of a batch in a tight loop
+     * and update the owning bucket once per batch rather than once per doc
+     * should override it. The array may be reused by the caller once this
+     * method returns.
+     */
+    public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+        for (int i = 0; i < count; i++) {
+            collect(docs[i], owningBucketOrd);
+        }
+    }
+
+    /**
+     * Collect all docs of the {@code stream} in the bucket owned by
+     * {@code owningBucketOrd}, handing them to
+     * {@link #collect(int[], int, long)} in batches of up to
+     * {@link #BATCH_SIZE} docs.
+     */
+    public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+        if (docBuffer == null) {
+            docBuffer = new int[BATCH_SIZE];
+            bufferDoc = doc -> {
+                docBuffer[docBufferCount++] = doc;
+                if (docBufferCount == docBuffer.length) {
+                    docBufferCount = 0;
+                    collect(docBuffer, docBuffer.length, docBufferOwningBucketOrd);
+                }
+            };
+        }
+        docBufferCount = 0;
+        docBufferOwningBucketOrd = owningBucketOrd;
+        stream.forEach(bufferDoc);
+        if (docBufferCount > 0) {
+            final int count = docBufferCount;
+            docBufferCount = 0;
+            collect(docBuffer, count, owningBucketOrd);
+        }
+    }
+
+    @Override
+    public final void collect(DocIdStream stream) throws IOException {
+        collect(stream, 0);
+    }
+
     @Override
     public void setScorer(Scorable scorer) throws IOException {
         // no-op by default
@@ -151,6 +151,13 @@ public class MultiBucketCollector extends BucketCollector {
         }
     }
 
+    @Override
+    public void reset() {
+        for (BucketCollector collector : collectors) {
+            collector.reset();
+        }
+    }
+
     @Override
     public String toString() {
         return Arrays.toString(collectors);
@@ -275,5 +282,24 @@ public class MultiBucketCollector extends BucketCollector {
                 }
             }
         }
+
+        @Override
+        public void collect(int[] docs, int count, long bucket) throws IOException {
+            final LeafBucketCollector[] collectors = this.collectors;
+            int numCollectors = this.numCollectors;
+            for (int i = 0; i < numCollectors;) {
+                final LeafBucketCollector collector = collectors[i];
+                try {
+                    collector.collect(docs, count, bucket);
+                    ++i;
+                } catch (CollectionTerminatedException e) {
+                    removeCollector(i);
+                    numCollectors = this.numCollectors;
+                    if (numCollectors == 0) {
+                        throw new CollectionTerminatedException();
+                    }
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
+
+import java.util.List;
+
+/**
+ * A partially reduced multi bucket aggregation that the coordinating node can write to disk in slices of buckets
+ * sorted by key, and merge back with other spilled results in key order.
+ * <p>
+ * Once merged, a bucket holds the counts of every shard, so the buckets that can not make it to the final result
+ * can be dropped early and the memory needed by the merge stays bounded.
+ *
+ * @opensearch.internal
+ */
+public interface SpillableAggregation {
+
+    /**
+     * Whether the buckets of this partial result are sorted by key, which is required to spill it.
+     */
+    boolean isSortedByKey();
+
+    /**
+     * Compares the keys of two buckets of this aggregation in the order the buckets are sorted in.
+     */
+    int compareKeys(MultiBucketsAggregation.Bucket first, MultiBucketsAggregation.Bucket second);
+
+    /**
+     * Returns a partial result with the buckets from {@code from} (inclusive) to {@code to} (exclusive). The counts
+     * that are not attached to a bucket are only kept by the slice that starts with the first bucket so that they
+     * are not counted twice when the slices are reduced back together.
+     */
+    InternalAggregation slice(int from, int to);
+
+    /**
+     * Reduces slices of spilled partial results of this aggregation. The caller makes sure that the keys of the
+     * slices are less than or equal to the keys that are not read yet so that the reduced buckets are complete.
+     */
+    InternalAggregation mergeSlices(List<InternalAggregation> slices, InternalAggregation.ReduceContext reduceContext);
+
+    /**
+     * Concatenates partial results of this aggregation whose buckets are complete and hold increasing, disjoint key
+     * ranges, and drops the buckets that can not make it to the final result.
+     */
+    InternalAggregation reduceDisjoint(List<InternalAggregation> partials);
+}
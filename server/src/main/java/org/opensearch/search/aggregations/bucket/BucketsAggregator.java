@@ -130,6 +130,31 @@ public abstract class BucketsAggregator extends AggregatorBase {
         subCollector.collect(doc, bucketOrd);
     }
 
+    /**
+     * Utility method to collect a batch of docs in the given bucket (identified by the bucket ordinal)
+     */
+    public final void collectBucket(LeafBucketCollector subCollector, int[] docs, int count, long bucketOrd) throws IOException {
+        grow(bucketOrd + 1);
+        collectExistingBucket(subCollector, docs, count, bucketOrd);
+    }
+
+    /**
+     * Same as {@link #collectBucket(LeafBucketCollector, int[], int, long)}, but doesn't check if the docCounts needs to be re-sized.
+     */
+    public final void collectExistingBucket(LeafBucketCollector subCollector, int[] docs, int count, long bucketOrd) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        long docCount = 0;
+        for (int i = 0; i < count; i++) {
+            docCount += docCountProvider.getDocCount(docs[i]);
+        }
+        if (docCounts.increment(bucketOrd, docCount) == docCount) {
+            multiBucketConsumer.accept(0);
+        }
+        subCollector.collect(docs, count, bucketOrd);
+    }
+
     /**
      * Utility method to collect doc count in the given bucket (identified by the bucket ordinal)
      * After collecting doc count, invoke collectStarTreeEntry() for sub-collectors to update their relevant buckets
@@ -259,6 +259,20 @@ public final class CompositeAggregator extends BucketsAggregator {
         }
     }
 
+    @Override
+    public void doReset() {
+        super.doReset();
+        queue.reset();
+        entries.clear();
+        if (bucketOrds != null) {
+            bucketOrds.close();
+            bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), CardinalityUpperBound.ONE);
+        }
+        if (deferredCollectors != null) {
+            deferredCollectors.reset();
+        }
+    }
+
     @Override
     protected void doPreCollection() {
         List<BucketCollector> collectors = Arrays.asList(subAggregators);
@@ -276,6 +290,8 @@ public final class CompositeAggregator extends BucketsAggregator {
         checkCancelled();
         // Composite aggregator must be at the top of the aggregation tree
         assert owningBucketOrds.length == 1 && owningBucketOrds[0] == 0L;
+        // streamed batches are built without a post collection phase
+        finishLeaf();
         if (deferredCollectors != NO_OP_COLLECTOR) {
             // Replay all documents that contain at least one top bucket (collected during the first pass).
             runDeferredCollections();
@@ -350,6 +350,14 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
         return true;
     }
 
+    /**
+     * Removes all keys from the queue so that it can be filled again.
+     */
+    void reset() {
+        clear();
+        map.clear();
+    }
+
     @Override
     public void close() {
         Releasables.close(docCounts);
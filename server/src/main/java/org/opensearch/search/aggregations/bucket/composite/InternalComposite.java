@@ -42,6 +42,8 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.KeyComparable;
+import org.opensearch.search.aggregations.SpillableAggregation;
+import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 
 import java.io.IOException;
@@ -63,7 +65,8 @@ import java.util.Set;
  */
 public class InternalComposite extends InternalMultiBucketAggregation<InternalComposite, InternalComposite.InternalBucket>
     implements
-        CompositeAggregation {
+        CompositeAggregation,
+        SpillableAggregation {
 
     private final int size;
     private final List<InternalBucket> buckets;
@@ -268,6 +271,55 @@ public class InternalComposite extends InternalMultiBucketAggregation<InternalCo
         );
     }
 
+    @Override
+    public boolean isSortedByKey() {
+        return true;
+    }
+
+    @Override
+    public int compareKeys(MultiBucketsAggregation.Bucket first, MultiBucketsAggregation.Bucket second) {
+        return ((InternalBucket) first).compareKey((InternalBucket) second);
+    }
+
+    @Override
+    public InternalAggregation slice(int from, int to) {
+        return create(buckets.subList(from, to));
+    }
+
+    @Override
+    public InternalAggregation mergeSlices(List<InternalAggregation> slices, ReduceContext reduceContext) {
+        return reduce(slices, reduceContext);
+    }
+
+    @Override
+    public InternalAggregation reduceDisjoint(List<InternalAggregation> partials) {
+        boolean earlyTerminated = false;
+        List<InternalBucket> result = new ArrayList<>();
+        for (InternalAggregation partial : partials) {
+            InternalComposite composite = (InternalComposite) partial;
+            earlyTerminated |= composite.earlyTerminated;
+            for (InternalBucket bucket : composite.buckets) {
+                if (result.size() < size) {
+                    result.add(bucket);
+                }
+            }
+        }
+        List<DocValueFormat> reducedFormats = result.isEmpty() ? formats : result.get(result.size() - 1).formats;
+        CompositeKey lastKey = result.isEmpty() ? null : result.get(result.size() - 1).getRawKey();
+        return new InternalComposite(
+            name,
+            size,
+            sourceNames,
+            reducedFormats,
+            result,
+            lastKey,
+            reverseMuls,
+            missingOrders,
+            earlyTerminated,
+            metadata
+        );
+    }
+
     @Override
     protected InternalBucket reduceBucket(List<InternalBucket> buckets, ReduceContext context) {
         assert buckets.size() > 0;
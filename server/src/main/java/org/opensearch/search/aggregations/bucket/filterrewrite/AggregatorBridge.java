@@ -140,6 +140,9 @@ public abstract class AggregatorBridge {
      * @return {@code true} if the segment matches all documents, {@code false} otherwise
      */
     public static boolean segmentMatchAll(SearchContext ctx, LeafReaderContext leafCtx) throws IOException {
+        if (ctx.query() == null) {
+            return false;
+        }
         Weight weight = ctx.query().rewrite(ctx.searcher()).createWeight(ctx.searcher(), ScoreMode.COMPLETE_NO_SCORES, 1f);
         return weight != null && weight.count(leafCtx) == leafCtx.reader().numDocs();
     }
@@ -82,6 +82,7 @@ final class PointTreeTraversal {
             logger.debug("Early terminate since no more range to collect");
         }
         collector.finalizePreviousRange();
+        collector.finish();
         return collector.getResult();
     }
 
@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.filterrewrite;
+
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * For terms aggregation on low cardinality integral numeric fields
+ * <p>
+ * Every distinct value of the field becomes a single value range, so the doc count of each term is read
+ * from the point tree instead of iterating the doc values of the matching documents. The distinct values are
+ * collected from the point tree too, and the optimization is skipped once there are more than
+ * {@link SearchContext#maxAggRewriteFilters()} of them.
+ */
+public abstract class TermsAggregatorBridge extends AggregatorBridge {
+
+    int maxRewriteFilters;
+
+    protected boolean canOptimize(ValuesSource valuesSource, MappedFieldType fieldType) {
+        if (!(valuesSource instanceof ValuesSource.Numeric.FieldData)) return false;
+        ValuesSource.Numeric numericValuesSource = (ValuesSource.Numeric) valuesSource;
+        if (numericValuesSource.isFloatingPoint() || numericValuesSource.isBigInteger()) return false;
+
+        if (fieldType == null || fieldType.isSearchable() == false) return false;
+        if (fieldType.unwrap() instanceof NumberFieldMapper.NumberFieldType) {
+            switch (((NumberFieldMapper.NumberFieldType) fieldType.unwrap()).numberType()) {
+                case LONG:
+                case INTEGER:
+                case SHORT:
+                case BYTE:
+                    this.fieldType = fieldType;
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the ranges at shard level when the top level query only restricts the values of the aggregated field,
+     * in which case the ranges can be used on every segment whether the segment matches all documents or not
+     */
+    protected void buildRanges(SearchContext context) throws IOException {
+        this.maxRewriteFilters = context.maxAggRewriteFilters();
+        if (context.query() == null) {
+            return;
+        }
+        final Query cq = Helper.unwrapIntoConcreteQuery(context.query());
+        byte[] lowerBound = null;
+        byte[] upperBound = null;
+        if (cq instanceof PointRangeQuery) {
+            final PointRangeQuery prq = (PointRangeQuery) cq;
+            if (prq.getField().equals(fieldType.name()) == false || prq.getNumDims() != 1) {
+                return;
+            }
+            lowerBound = prq.getLowerPoint();
+            upperBound = prq.getUpperPoint();
+        } else if (cq instanceof FieldExistsQuery) {
+            if (((FieldExistsQuery) cq).getField().equals(fieldType.name()) == false) {
+                return;
+            }
+        } else if (cq instanceof MatchAllDocsQuery == false) {
+            return;
+        }
+
+        final TreeSet<Long> values = new TreeSet<>();
+        int bytesPerDim = 0;
+        for (LeafReaderContext leaf : context.searcher().getIndexReader().leaves()) {
+            final PointValues pointValues = leaf.reader().getPointValues(fieldType.name());
+            if (pointValues == null) {
+                continue;
+            }
+            bytesPerDim = pointValues.getBytesPerDimension();
+            if (lowerBound != null && lowerBound.length != bytesPerDim) {
+                return;
+            }
+            if (collectValues(pointValues.getPointTree(), bytesPerDim, lowerBound, upperBound, values) == false) {
+                return;
+            }
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+        setRanges.accept(buildRanges(values, bytesPerDim));
+    }
+
+    @Override
+    final Ranges tryBuildRangesFromSegment(LeafReaderContext leaf) throws IOException {
+        final PointValues pointValues = leaf.reader().getPointValues(fieldType.name());
+        if (pointValues == null) {
+            return null;
+        }
+        final TreeSet<Long> values = new TreeSet<>();
+        final int bytesPerDim = pointValues.getBytesPerDimension();
+        if (collectValues(pointValues.getPointTree(), bytesPerDim, null, null, values) == false || values.isEmpty()) {
+            return null;
+        }
+        return buildRanges(values, bytesPerDim);
+    }
+
+    /**
+     * Collects the distinct values of the point tree within the given inclusive bounds
+     *
+     * @return false if there are more distinct values than the optimization allows
+     */
+    private boolean collectValues(PointValues.PointTree tree, int bytesPerDim, byte[] lowerBound, byte[] upperBound, TreeSet<Long> values)
+        throws IOException {
+        final byte[] min = tree.getMinPackedValue();
+        final byte[] max = tree.getMaxPackedValue();
+        if ((lowerBound != null && Arrays.compareUnsigned(max, lowerBound) < 0)
+            || (upperBound != null && Arrays.compareUnsigned(min, upperBound) > 0)) {
+            return true;
+        }
+        if (Arrays.equals(min, max)) {
+            // every point below this node has the same value, no need to visit them
+            values.add(decode(min, bytesPerDim));
+        } else if (tree.moveToChild()) {
+            do {
+                if (collectValues(tree, bytesPerDim, lowerBound, upperBound, values) == false) {
+                    return false;
+                }
+            } while (tree.moveToSibling());
+            tree.moveToParent();
+        } else {
+            tree.visitDocValues(new PointValues.IntersectVisitor() {
+                private byte[] previous;
+
+                @Override
+                public void visit(int docID) {
+                    throw new UnsupportedOperationException("this visitor only visits doc values");
+                }
+
+                @Override
+                public void visit(int docID, byte[] packedValue) {
+                    if (previous != null && Arrays.equals(previous, packedValue)) {
+                        return;
+                    }
+                    if ((lowerBound == null || Arrays.compareUnsigned(packedValue, lowerBound) >= 0)
+                        && (upperBound == null || Arrays.compareUnsigned(packedValue, upperBound) <= 0)) {
+                        values.add(decode(packedValue, bytesPerDim));
+                    }
+                    previous = packedValue.clone();
+                }
+
+                @Override
+                public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                    return PointValues.Relation.CELL_CROSSES_QUERY;
+                }
+            });
+        }
+        if (values.size() > maxRewriteFilters) {
+            logger.debug("Max number of range filters reached [{}], skip the optimization", maxRewriteFilters);
+            return false;
+        }
+        return true;
+    }
+
+    private static Ranges buildRanges(TreeSet<Long> values, int bytesPerDim) {
+        final long maxValue = bytesPerDim == Integer.BYTES ? Integer.MAX_VALUE : Long.MAX_VALUE;
+        if (values.last() == maxValue) {
+            // the exclusive upper bound of the last range cannot be encoded
+            return null;
+        }
+        byte[][] lowers = new byte[values.size()][];
+        byte[][] uppers = new byte[values.size()][];
+        int i = 0;
+        for (long value : values) {
+            lowers[i] = encode(value, bytesPerDim);
+            uppers[i] = encode(value + 1, bytesPerDim);
+            i++;
+        }
+        return new Ranges(lowers, uppers);
+    }
+
+    private static byte[] encode(long value, int bytesPerDim) {
+        byte[] packed = new byte[bytesPerDim];
+        if (bytesPerDim == Integer.BYTES) {
+            IntPoint.encodeDimension((int) value, packed, 0);
+        } else {
+            LongPoint.encodeDimension(value, packed, 0);
+        }
+        return packed;
+    }
+
+    private static long decode(byte[] packed, int bytesPerDim) {
+        return bytesPerDim == Integer.BYTES ? IntPoint.decodeDimension(packed, 0) : LongPoint.decodeDimension(packed, 0);
+    }
+
+    @Override
+    final FilterRewriteOptimizationContext.OptimizeResult tryOptimize(
+        PointValues values,
+        BiConsumer<Long, Long> incrementDocCount,
+        Ranges ranges,
+        FilterRewriteOptimizationContext.SubAggCollectorParam subAggCollectorParam
+    ) throws IOException {
+        int size = Integer.MAX_VALUE;
+
+        Function<Integer, Long> getBucketOrd = (activeIndex) -> bucketOrdProducer().apply(
+            decode(ranges.lowers[activeIndex], ranges.byteLen)
+        );
+
+        return getResult(values, incrementDocCount, ranges, getBucketOrd, size, subAggCollectorParam);
+    }
+
+    /**
+     * Provides a function to produce bucket ordinals from the term
+     */
+    protected abstract Function<Long, Long> bucketOrdProducer();
+}
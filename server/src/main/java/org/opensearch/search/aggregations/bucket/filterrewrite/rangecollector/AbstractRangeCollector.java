@@ -11,6 +11,7 @@ package org.opensearch.search.aggregations.bucket.filterrewrite.rangecollector;
 import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
 import org.opensearch.search.aggregations.bucket.filterrewrite.Ranges;
 
+import java.io.IOException;
 import java.util.function.BiConsumer;
 
 /**
@@ -50,6 +51,9 @@ public abstract class AbstractRangeCollector implements RangeCollector {
         return visitedRange > maxNumNonZeroRange;
     }
 
+    @Override
+    public void finish() throws IOException {}
+
     @Override
     public boolean withinLowerBound(byte[] value) {
         return Ranges.withinLowerBound(value, ranges.getLowers()[activeIndex]);
@@ -50,6 +50,11 @@ public interface RangeCollector {
      */
     void finalizePreviousRange();
 
+    /**
+     * Hook point when the traversal of the segment is done, after the last range has been finalized
+     */
+    void finish() throws IOException;
+
     /**
      * Iterate to find the next range that could include the given value.
      *
@@ -11,9 +11,11 @@ package org.opensearch.search.aggregations.bucket.filterrewrite.rangecollector;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.DocIdSetIterator;
-import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.packed.PackedInts;
 import org.opensearch.search.aggregations.BucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
@@ -27,6 +29,11 @@ import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
 
 /**
  * Range collector implementation that supports sub-aggregations by collecting doc IDs.
+ * <p>
+ * The doc IDs of all the ranges are collected during the traversal along with the range each of them falls in,
+ * and are replayed to a single leaf collector of the sub-aggregators in doc ID order once the traversal is done.
+ * This way any sub-aggregator, including the ones reading doc values with forward only iterators or recording
+ * the collected documents for deferred collection, sees the segment exactly once.
  */
 public class SubAggRangeCollector extends SimpleRangeCollector {
 
@@ -38,7 +45,9 @@ public class SubAggRangeCollector extends SimpleRangeCollector {
     private final LeafReaderContext leafCtx;
 
     private final FixedBitSet bitSet;
-    private final BitDocIdSet bitDocIdSet;
+    // index of the range each collected doc falls in
+    private final PackedInts.Mutable docRanges;
+    private final FixedBitSet rangesWithDocs;
 
     public SubAggRangeCollector(
         Ranges ranges,
@@ -55,7 +64,8 @@ public class SubAggRangeCollector extends SimpleRangeCollector {
         this.leafCtx = subAggCollectorParam.leafCtx();
         int numDocs = leafCtx.reader().maxDoc();
         bitSet = new FixedBitSet(numDocs);
-        bitDocIdSet = new BitDocIdSet(bitSet);
+        docRanges = PackedInts.getMutable(numDocs, PackedInts.bitsRequired(ranges.getSize() - 1), PackedInts.COMPACT);
+        rangesWithDocs = new FixedBitSet(ranges.getSize());
     }
 
     @Override
@@ -66,34 +76,55 @@ public class SubAggRangeCollector extends SimpleRangeCollector {
     @Override
     public void collectDocId(int docId) {
         bitSet.set(docId);
+        docRanges.set(docId, activeIndex);
+        rangesWithDocs.set(activeIndex);
     }
 
     @Override
     public void collectDocIdSet(DocIdSetIterator iter) throws IOException {
-        bitSet.or(iter);
+        for (int doc = iter.nextDoc(); doc != NO_MORE_DOCS; doc = iter.nextDoc()) {
+            collectDocId(doc);
+        }
     }
 
     @Override
-    public void finalizePreviousRange() {
-        super.finalizePreviousRange();
+    public void finish() throws IOException {
+        final int numCollectedDocs = bitSet.cardinality();
+        if (numCollectedDocs == 0) {
+            return;
+        }
 
-        long bucketOrd = getBucketOrd.apply(activeIndex);
-        logger.trace("finalize range {} with bucket ordinal {}", activeIndex, bucketOrd);
+        // resolve the bucket ordinals only after every range has been counted
+        final long[] bucketOrds = new long[ranges.getSize()];
+        final DocIdSetIterator rangeIterator = new BitSetIterator(rangesWithDocs, 0);
+        for (int i = rangeIterator.nextDoc(); i != NO_MORE_DOCS; i = rangeIterator.nextDoc()) {
+            bucketOrds[i] = getBucketOrd.apply(i);
+            logger.trace("collect sub aggregation for range {} with bucket ordinal {}", i, bucketOrds[i]);
+        }
 
-        // trigger the sub agg collection for this range
+        final LeafBucketCollector sub;
         try {
-            DocIdSetIterator iterator = bitDocIdSet.iterator();
-            // build a new leaf collector for each bucket
-            LeafBucketCollector sub = collectableSubAggregators.getLeafCollector(leafCtx);
-            while (iterator.nextDoc() != NO_MORE_DOCS) {
-                int currentDoc = iterator.docID();
-                sub.collect(currentDoc, bucketOrd);
+            sub = collectableSubAggregators.getLeafCollector(leafCtx);
+        } catch (CollectionTerminatedException e) {
+            // none of the sub-aggregators needs the documents of this segment
+            return;
+        }
+        // consecutive docs usually fall in the same range, hand them to the sub-aggregators in batches
+        final int[] docs = new int[Math.min(numCollectedDocs, LeafBucketCollector.BATCH_SIZE)];
+        int count = 0;
+        long batchBucketOrd = -1;
+        DocIdSetIterator iterator = new BitSetIterator(bitSet, numCollectedDocs);
+        for (int doc = iterator.nextDoc(); doc != NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            final long bucketOrd = bucketOrds[(int) docRanges.get(doc)];
+            if (count == docs.length || (count > 0 && bucketOrd != batchBucketOrd)) {
+                sub.collect(docs, count, batchBucketOrd);
+                count = 0;
             }
-            logger.trace("collected sub aggregation for bucket {}", bucketOrd);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            batchBucketOrd = bucketOrd;
+            docs[count++] = doc;
+        }
+        if (count > 0) {
+            sub.collect(docs, count, batchBucketOrd);
         }
-
-        bitSet.clear();
     }
 }
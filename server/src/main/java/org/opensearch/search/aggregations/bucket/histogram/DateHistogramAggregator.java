@@ -100,7 +100,8 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     private final long minDocCount;
     private final LongBounds extendedBounds;
     private final LongBounds hardBounds;
-    private final LongKeyedBucketOrds bucketOrds;
+    private final CardinalityUpperBound cardinality;
+    private LongKeyedBucketOrds bucketOrds;
     private final String starTreeDateDimension;
     private boolean starTreeDateRoundingRequired = true;
 
@@ -136,6 +137,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
         this.formatter = valuesSourceConfig.format();
 
+        this.cardinality = cardinality;
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
 
         DateHistogramAggregatorBridge bridge = new DateHistogramAggregatorBridge() {
@@ -264,10 +266,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
             return null;
         }
 
-        CompositeDataCubeFieldType compositeMappedFieldType = (CompositeDataCubeFieldType) context.mapperService()
-            .getCompositeFieldTypes()
-            .iterator()
-            .next();
+        CompositeDataCubeFieldType compositeMappedFieldType = context.getQueryShardContext()
+            .getStarTreeQueryContext()
+            .getStarTreeFieldType();
         DateDimension starTreeDateDimension = (DateDimension) compositeMappedFieldType.getDimensions()
             .stream()
             .filter(dim -> dim.getField().equals(fieldName))
@@ -375,6 +376,13 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         );
     }
 
+    @Override
+    public void doReset() {
+        super.doReset();
+        bucketOrds.close();
+        bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+    }
+
     @Override
     public void doClose() {
         Releasables.close(bucketOrds);
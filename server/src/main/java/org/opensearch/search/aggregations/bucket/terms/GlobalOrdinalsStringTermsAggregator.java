@@ -40,13 +40,21 @@ import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermRangeQuery;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.IntArray;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -80,6 +88,7 @@ import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -164,7 +173,9 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     }
 
     /**
-     Read doc frequencies directly from indexed terms in the segment to skip iterating through individual documents
+     Read doc frequencies directly from indexed terms in the segment to skip iterating through individual documents.
+     The top-level query must either match all live documents of the segment or be a range query over this field,
+     in which case every document must hold a single term. Deleted documents are subtracted from the doc frequencies.
      @param ctx The LeafReaderContext to collect terms from
      @param ordCountConsumer A consumer to accept collected term frequencies
      @return A LeafBucketCollector implementation with collection termination, since collection is complete
@@ -174,15 +185,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         if (weight == null) {
             // Weight not assigned - cannot use this optimization
             return false;
-        } else {
-            if (weight.count(ctx) == 0) {
-                // No documents matches top level query on this segment, we can skip the segment entirely
-                return true;
-            } else if (weight.count(ctx) != ctx.reader().maxDoc()) {
-                // weight.count(ctx) == ctx.reader().maxDoc() implies there are no deleted documents and
-                // top-level query matches all docs in the segment
-                return false;
-            }
+        }
+        final int matchingDocs = weight.count(ctx);
+        if (matchingDocs == 0) {
+            // No documents matches top level query on this segment, we can skip the segment entirely
+            return true;
         }
 
         Terms segmentTerms = ctx.reader().terms(this.fieldName);
@@ -191,12 +198,39 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return false;
         }
 
+        TermRangeQuery rangeQuery = null;
+        if (matchingDocs != ctx.reader().numDocs()) {
+            // The top-level query doesn't match all live docs in the segment. A range query over the aggregated field
+            // still matches exactly the documents of the terms in range, as long as every document holds a single term.
+            rangeQuery = getTermRangeQuery(context.query(), fieldName);
+            if (rangeQuery == null || segmentTerms.getDocCount() != segmentTerms.getSumDocFreq()) {
+                return false;
+            }
+        }
+
         NumericDocValues docCountValues = DocValues.getNumeric(ctx.reader(), DocCountFieldMapper.NAME);
         if (docCountValues.nextDoc() != NO_MORE_DOCS) {
             // This segment has at least one document with the _doc_count field.
             return false;
         }
 
+        // Doc frequencies include deleted documents, count the terms of the deleted documents to subtract them
+        try (DeletedDocCounts deletedDocCounts = new DeletedDocCounts(context.bigArrays())) {
+            if (ctx.reader().hasDeletions()) {
+                countDeletedDocs(ctx, deletedDocCounts);
+            }
+            collectFromTermFrequencies(ctx, segmentTerms, rangeQuery, deletedDocCounts, ordCountConsumer);
+        }
+        return true;
+    }
+
+    private void collectFromTermFrequencies(
+        LeafReaderContext ctx,
+        Terms segmentTerms,
+        TermRangeQuery rangeQuery,
+        DeletedDocCounts deletedDocCounts,
+        BiConsumer<Long, Integer> ordCountConsumer
+    ) throws IOException {
         TermsEnum indexTermsEnum = segmentTerms.iterator();
         BytesRef indexTerm = indexTermsEnum.next();
         final SortedSetDocValues globalOrds = this.getGlobalOrds(ctx);
@@ -208,8 +242,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         while (indexTerm != null && ordinalTerm != null) {
             int compare = indexTerm.compareTo(ordinalTerm);
             if (compare == 0) {
-                if (acceptedGlobalOrdinals.test(globalOrdinalTermsEnum.ord())) {
-                    ordCountConsumer.accept(globalOrdinalTermsEnum.ord(), indexTermsEnum.docFreq());
+                long ord = globalOrdinalTermsEnum.ord();
+                if (acceptedGlobalOrdinals.test(ord) && (rangeQuery == null || isInRange(rangeQuery, indexTerm))) {
+                    int docCount = indexTermsEnum.docFreq() - deletedDocCounts.get(ord);
+                    if (docCount > 0) {
+                        ordCountConsumer.accept(ord, docCount);
+                    }
                 }
                 indexTerm = indexTermsEnum.next();
                 ordinalTerm = globalOrdinalTermsEnum.next();
@@ -219,6 +257,120 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
                 ordinalTerm = globalOrdinalTermsEnum.next();
             }
         }
+    }
+
+    /**
+     * Counts the documents of each global ordinal among the deleted documents of the segment, visiting the deleted
+     * documents only
+     */
+    private void countDeletedDocs(LeafReaderContext ctx, DeletedDocCounts deletedDocCounts) throws IOException {
+        final Bits liveDocs = ctx.reader().getLiveDocs();
+        final SortedSetDocValues globalOrds = this.getGlobalOrds(ctx);
+        final int maxDoc = ctx.reader().maxDoc();
+        if (liveDocs instanceof FixedBitSet) {
+            final long[] bits = ((FixedBitSet) liveDocs).getBits();
+            final int numWords = FixedBitSet.bits2words(maxDoc);
+            for (int word = 0; word < numWords; word++) {
+                long deleted = ~bits[word];
+                if (word == numWords - 1 && (maxDoc & 0x3F) != 0) {
+                    // ignore the bits past maxDoc in the last word
+                    deleted &= -1L >>> (64 - (maxDoc & 0x3F));
+                }
+                while (deleted != 0) {
+                    countDeletedDoc(globalOrds, (word << 6) + Long.numberOfTrailingZeros(deleted), deletedDocCounts);
+                    deleted &= deleted - 1;
+                }
+            }
+        } else {
+            for (int doc = 0; doc < maxDoc; doc++) {
+                if (liveDocs.get(doc) == false) {
+                    countDeletedDoc(globalOrds, doc, deletedDocCounts);
+                }
+            }
+        }
+    }
+
+    private static void countDeletedDoc(SortedSetDocValues globalOrds, int doc, DeletedDocCounts deletedDocCounts) throws IOException {
+        if (globalOrds.advanceExact(doc)) {
+            for (int i = 0; i < globalOrds.docValueCount(); i++) {
+                deletedDocCounts.increment(globalOrds.nextOrd());
+            }
+        }
+    }
+
+    /**
+     * The number of deleted documents of each global ordinal of a segment
+     */
+    private static final class DeletedDocCounts implements Releasable {
+        private final BigArrays bigArrays;
+        private final LongHash ords;
+        private IntArray counts;
+
+        DeletedDocCounts(BigArrays bigArrays) {
+            this.bigArrays = bigArrays;
+            boolean success = false;
+            try {
+                this.ords = new LongHash(1, bigArrays);
+                this.counts = bigArrays.newIntArray(1, true);
+                success = true;
+            } finally {
+                if (success == false) {
+                    close();
+                }
+            }
+        }
+
+        void increment(long ord) {
+            long id = ords.add(ord);
+            if (id < 0) {
+                id = -1 - id;
+            } else {
+                counts = bigArrays.grow(counts, id + 1);
+            }
+            counts.increment(id, 1);
+        }
+
+        int get(long ord) {
+            final long id = ords.find(ord);
+            return id < 0 ? 0 : counts.get(id);
+        }
+
+        @Override
+        public void close() {
+            Releasables.close(ords, counts);
+        }
+    }
+
+    /**
+     * Returns the top level query as a range query over the given field, if it is one
+     *
+     * @return null if the top level query is anything else
+     */
+    private static TermRangeQuery getTermRangeQuery(Query query, String fieldName) {
+        while (query instanceof ConstantScoreQuery || query instanceof IndexOrDocValuesQuery) {
+            query = query instanceof ConstantScoreQuery
+                ? ((ConstantScoreQuery) query).getQuery()
+                : ((IndexOrDocValuesQuery) query).getIndexQuery();
+        }
+        if (query instanceof TermRangeQuery && ((TermRangeQuery) query).getField().equals(fieldName)) {
+            return (TermRangeQuery) query;
+        }
+        return null;
+    }
+
+    private static boolean isInRange(TermRangeQuery rangeQuery, BytesRef term) {
+        if (rangeQuery.getLowerTerm() != null) {
+            int compare = term.compareTo(rangeQuery.getLowerTerm());
+            if (compare < 0 || (compare == 0 && rangeQuery.includesLower() == false)) {
+                return false;
+            }
+        }
+        if (rangeQuery.getUpperTerm() != null) {
+            int compare = term.compareTo(rangeQuery.getUpperTerm());
+            if (compare > 0 || (compare == 0 && rangeQuery.includesUpper() == false)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -45,6 +45,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.KeyComparable;
+import org.opensearch.search.aggregations.SpillableAggregation;
 import org.opensearch.search.aggregations.bucket.IteratorAndCurrent;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
@@ -70,7 +71,8 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends InternalTerms.AbstractInternalBucket> extends
     InternalMultiBucketAggregation<A, B>
     implements
-        Terms {
+        Terms,
+        SpillableAggregation {
 
     protected static final ParseField DOC_COUNT_ERROR_UPPER_BOUND_FIELD_NAME = new ParseField("doc_count_error_upper_bound");
     protected static final ParseField SUM_OF_OTHER_DOC_COUNTS = new ParseField("sum_other_doc_count");
@@ -559,6 +561,69 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         return createBucket(docCount, subAggs, docCountError, buckets.get(0));
     }
 
+    @Override
+    public boolean isSortedByKey() {
+        return isKeyOrder(reduceOrder);
+    }
+
+    @Override
+    public int compareKeys(MultiBucketsAggregation.Bucket first, MultiBucketsAggregation.Bucket second) {
+        return InternalOrder.key(isKeyAsc(reduceOrder)).comparator().compare(first, second);
+    }
+
+    @Override
+    public InternalAggregation slice(int from, int to) {
+        return create(
+            name,
+            getBuckets().subList(from, to),
+            reduceOrder,
+            from == 0 ? getDocCountError() : 0,
+            from == 0 ? getSumOfOtherDocCounts() : 0
+        );
+    }
+
+    @Override
+    public InternalAggregation mergeSlices(List<InternalAggregation> slices, ReduceContext reduceContext) {
+        long docCountError = 0;
+        long otherDocCount = 0;
+        for (InternalAggregation slice : slices) {
+            InternalTerms<?, ?> terms = (InternalTerms<?, ?>) slice;
+            otherDocCount += terms.getSumOfOtherDocCounts();
+            docCountError = docCountError == -1 || terms.getDocCountError() == -1 ? -1 : docCountError + terms.getDocCountError();
+        }
+        // unlike a regular reduce, the slices do not need their doc count error to be estimated again
+        List<B> buckets = reduceMergeSort(slices, InternalOrder.key(isKeyAsc(reduceOrder)), reduceContext);
+        return create(name, buckets, reduceOrder, docCountError, otherDocCount);
+    }
+
+    @Override
+    public InternalAggregation reduceDisjoint(List<InternalAggregation> partials) {
+        long docCountError = 0;
+        long otherDocCount = 0;
+        final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(Math.max(1, requiredSize), order.comparator());
+        for (InternalAggregation partial : partials) {
+            @SuppressWarnings("unchecked")
+            InternalTerms<A, B> terms = (InternalTerms<A, B>) partial;
+            otherDocCount += terms.getSumOfOtherDocCounts();
+            docCountError = docCountError == -1 || terms.getDocCountError() == -1 ? -1 : docCountError + terms.getDocCountError();
+            for (B bucket : terms.getBuckets()) {
+                // same as the final reduce, buckets under the min doc count are not part of the other doc count
+                if (bucket.getDocCount() >= minDocCount) {
+                    B removed = ordered.insertWithOverflow(bucket);
+                    if (removed != null) {
+                        otherDocCount += removed.getDocCount();
+                    }
+                }
+            }
+        }
+        List<B> buckets = new ArrayList<>(ordered.size());
+        while (ordered.size() > 0) {
+            buckets.add(ordered.pop());
+        }
+        buckets.sort(InternalOrder.key(isKeyAsc(reduceOrder)).comparator());
+        return create(name, buckets, reduceOrder, docCountError, otherDocCount);
+    }
+
     protected abstract void setDocCountError(long docCountError);
 
     protected abstract int getShardSize();
@@ -146,6 +146,7 @@ public class MultiTermsAggregationFactory extends AggregatorFactory {
             configs.stream()
                 .map(config -> queryShardContext.getValuesSourceRegistry().getAggregator(REGISTRY_KEY, config.v1()).build(config))
                 .collect(Collectors.toList()),
+            getFields(),
             configs.stream().map(c -> c.v1().format()).collect(Collectors.toList()),
             order,
             collectMode,
@@ -157,6 +158,21 @@ public class MultiTermsAggregationFactory extends AggregatorFactory {
         );
     }
 
+    /**
+     * Returns the field of every term, {@code null} for terms that are not read from a field.
+     */
+    public List<String> getFields() {
+        return configs.stream().map(c -> c.v1().fieldContext() == null ? null : c.v1().fieldContext().field()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if every term is read as-is from its field, without scripts, missing values or include/exclude filters.
+     */
+    public boolean hasOnlyFieldTerms() {
+        return configs.stream()
+            .allMatch(c -> c.v1().fieldContext() != null && c.v1().script() == null && c.v1().missing() == null && c.v2() == null);
+    }
+
     @Override
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
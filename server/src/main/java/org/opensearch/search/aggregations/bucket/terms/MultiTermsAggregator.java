@@ -14,6 +14,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -23,8 +24,14 @@ import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -33,12 +40,17 @@ import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.DeferableBucketAggregator;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.support.AggregationPath;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.math.BigInteger;
@@ -59,10 +71,11 @@ import static org.opensearch.search.aggregations.bucket.terms.TermsAggregator.de
  *
  * @opensearch.internal
  */
-public class MultiTermsAggregator extends DeferableBucketAggregator {
+public class MultiTermsAggregator extends DeferableBucketAggregator implements StarTreePreComputeCollector {
 
     private final BytesKeyedBucketOrds bucketOrds;
     private final MultiTermsValuesSource multiTermsValue;
+    private final List<String> fieldNames;
     private final boolean showTermDocCountError;
     private final List<DocValueFormat> formats;
     private final TermsAggregator.BucketCountThresholds bucketCountThresholds;
@@ -76,6 +89,7 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
         AggregatorFactories factories,
         boolean showTermDocCountError,
         List<InternalValuesSource> internalValuesSources,
+        List<String> fieldNames,
         List<DocValueFormat> formats,
         BucketOrder order,
         SubAggCollectionMode collectMode,
@@ -88,6 +102,7 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
         super(name, factories, context, parent, metadata);
         this.bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
         this.multiTermsValue = new MultiTermsValuesSource(internalValuesSources);
+        this.fieldNames = fieldNames;
         this.showTermDocCountError = showTermDocCountError;
         this.formats = formats;
         this.bucketCountThresholds = bucketCountThresholds;
@@ -226,6 +241,112 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
         };
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        CompositeIndexFieldInfo supportedStarTree = StarTreeQueryHelper.getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            StarTreeBucketCollector starTreeBucketCollector = getStarTreeBucketCollector(ctx, supportedStarTree, null);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public List<DimensionFilter> getDimensionFilters() {
+        List<DimensionFilter> dimensionFilters = StarTreeQueryHelper.collectDimensionFilters(
+            new MatchAllFilter(fieldNames.get(0)),
+            subAggregators
+        );
+        for (int i = 1; i < fieldNames.size(); i++) {
+            dimensionFilters.add(new MatchAllFilter(fieldNames.get(i)));
+        }
+        return dimensionFilters;
+    }
+
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parent
+    ) throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        List<InternalValuesSourceCollector> collectors = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            collectors.add(getStarTreeValuesCollector(starTreeValues, fieldName));
+        }
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+        return new StarTreeBucketCollector(
+            starTreeValues,
+            parent == null ? StarTreeQueryHelper.getStarTreeResult(starTreeValues, context, getDimensionFilters()) : null
+        ) {
+            @Override
+            public void setSubCollectors() throws IOException {
+                for (Aggregator aggregator : subAggregators) {
+                    this.subCollectors.add(((StarTreePreComputeCollector) aggregator).getStarTreeBucketCollector(ctx, starTree, this));
+                }
+            }
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (docCountsIterator.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                long docCount = docCountsIterator.nextValue();
+                List<List<TermValue<?>>> collectedValues = new ArrayList<>(collectors.size());
+                for (InternalValuesSourceCollector collector : collectors) {
+                    collectedValues.add(collector.apply(starTreeEntry));
+                }
+                multiTermsValue.collectCompositeKeys(
+                    collectedValues,
+                    owningBucketOrd,
+                    bucketOrds,
+                    bucketOrd -> collectStarTreeBucket(this, docCount, bucketOrd, starTreeEntry)
+                );
+            }
+        };
+    }
+
+    /**
+     * Reads the term values of a star-tree dimension the same way the matching {@link InternalValuesSource} reads them
+     * from doc values, so that both paths build identical composite keys.
+     */
+    private InternalValuesSourceCollector getStarTreeValuesCollector(StarTreeValues starTreeValues, String fieldName) {
+        StarTreeValuesIterator valuesIterator = starTreeValues.getDimensionValuesIterator(fieldName);
+        if (valuesIterator instanceof SortedSetStarTreeValuesIterator ordsIterator) {
+            return entry -> {
+                if (ordsIterator.advanceExact(entry) == false) {
+                    return Collections.emptyList();
+                }
+                int valuesCount = ordsIterator.docValueCount();
+                List<TermValue<?>> termValues = new ArrayList<>(valuesCount);
+                for (int i = 0; i < valuesCount; i++) {
+                    BytesRef bytes = ordsIterator.lookupOrd(ordsIterator.nextOrd());
+                    termValues.add(TermValue.of(valuesCount > 1 ? BytesRef.deepCopyOf(bytes) : bytes));
+                }
+                return termValues;
+            };
+        }
+        SortedNumericStarTreeValuesIterator numericIterator = (SortedNumericStarTreeValuesIterator) valuesIterator;
+        NumberFieldMapper.NumberFieldType fieldType = (NumberFieldMapper.NumberFieldType) context.mapperService().fieldType(fieldName);
+        return entry -> {
+            if (numericIterator.advanceExact(entry) == false) {
+                return Collections.emptyList();
+            }
+            int valuesCount = numericIterator.entryValueCount();
+            List<TermValue<?>> termValues = new ArrayList<>(valuesCount);
+            for (int i = 0; i < valuesCount; i++) {
+                long value = numericIterator.nextValue();
+                switch (fieldType.numberType()) {
+                    case HALF_FLOAT, FLOAT, DOUBLE -> termValues.add(TermValue.of(fieldType.toDoubleValue(value)));
+                    case UNSIGNED_LONG -> termValues.add(TermValue.of(Numbers.toUnsignedBigInteger(value)));
+                    default -> termValues.add(TermValue.of(value));
+                }
+            }
+            return termValues;
+        };
+    }
+
     @Override
     protected void doClose() {
         Releasables.close(bucketOrds, multiTermsValue);
@@ -250,7 +371,9 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
 
     @Override
     protected boolean shouldDefer(Aggregator aggregator) {
-        return collectMode == Aggregator.SubAggCollectionMode.BREADTH_FIRST && !aggsUsedForSorting.contains(aggregator);
+        return context.getQueryShardContext().getStarTreeQueryContext() == null
+            && collectMode == Aggregator.SubAggCollectionMode.BREADTH_FIRST
+            && !aggsUsedForSorting.contains(aggregator);
     }
 
     private void collectZeroDocEntriesIfNeeded(long owningBucketOrd) throws IOException {
@@ -426,6 +549,42 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
             };
         }
 
+        /**
+         * Generates the composite keys of the given field values, the same way they are generated for a doc, and passes
+         * the bucket ordinal of every key to the consumer.
+         */
+        void collectCompositeKeys(
+            List<List<TermValue<?>>> collectedValues,
+            long owningBucketOrd,
+            BytesKeyedBucketOrds bucketOrds,
+            CheckedConsumer<Long, IOException> bucketOrdConsumer
+        ) throws IOException {
+            scratch.seek(0);
+            scratch.writeVInt(collectedValues.size()); // number of fields per composite key
+            collectCompositeKeys(collectedValues, 0, owningBucketOrd, bucketOrds, bucketOrdConsumer);
+        }
+
+        private void collectCompositeKeys(
+            List<List<TermValue<?>>> collectedValues,
+            int index,
+            long owningBucketOrd,
+            BytesKeyedBucketOrds bucketOrds,
+            CheckedConsumer<Long, IOException> bucketOrdConsumer
+        ) throws IOException {
+            if (collectedValues.size() == index) {
+                bucketOrdConsumer.accept(bucketOrds.add(owningBucketOrd, scratch.bytes().toBytesRef()));
+                return;
+            }
+
+            long position = scratch.position();
+            List<TermValue<?>> values = collectedValues.get(index);
+            for (int i = 0; i < values.size(); i++) {
+                values.get(i).writeTo(scratch); // encode the value
+                collectCompositeKeys(collectedValues, index + 1, owningBucketOrd, bucketOrds, bucketOrdConsumer); // dfs
+                scratch.seek(position); // backtrack
+            }
+        }
+
         @Override
         public void close() {
             scratch.close();
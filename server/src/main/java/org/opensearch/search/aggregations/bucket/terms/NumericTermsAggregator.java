@@ -60,6 +60,8 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.StarTreeBucketCollector;
 import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
+import org.opensearch.search.aggregations.bucket.filterrewrite.TermsAggregatorBridge;
 import org.opensearch.search.aggregations.bucket.terms.IncludeExclude.LongFilter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds.BucketOrdsEnum;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForLong;
@@ -82,6 +84,7 @@ import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
+import static org.opensearch.search.aggregations.bucket.filterrewrite.AggregatorBridge.segmentMatchAll;
 
 /**
  * Aggregate all docs that contain numeric terms
@@ -91,11 +94,14 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 public class NumericTermsAggregator extends TermsAggregator implements StarTreePreComputeCollector {
     private final ResultStrategy<?, ?> resultStrategy;
     private final ValuesSource.Numeric valuesSource;
-    private final LongKeyedBucketOrds bucketOrds;
+    private final CardinalityUpperBound cardinality;
+    private LongKeyedBucketOrds bucketOrds;
     private final LongFilter longFilter;
     private final String fieldName;
     private String resultSelectionStrategy;
 
+    private final FilterRewriteOptimizationContext filterRewriteOptimizationContext;
+
     public NumericTermsAggregator(
         String name,
         AggregatorFactories factories,
@@ -115,11 +121,40 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
         this.resultStrategy = resultStrategy.apply(this); // ResultStrategy needs a reference to the Aggregator to do its job.
         this.valuesSource = valuesSource;
         this.longFilter = longFilter;
+        this.cardinality = cardinality;
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
         this.fieldName = (this.valuesSource instanceof ValuesSource.Numeric.FieldData)
             ? ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName()
             : null;
         this.resultSelectionStrategy = Strings.EMPTY;
+
+        TermsAggregatorBridge bridge = new TermsAggregatorBridge() {
+            @Override
+            protected boolean canOptimize() {
+                if (subAggregators.length > 0 || longFilter != null) {
+                    return false;
+                }
+                // significant terms need to see every matching document to count the subset size
+                if (!(NumericTermsAggregator.this.resultStrategy instanceof LongTermsResults)) {
+                    return false;
+                }
+                return canOptimize(valuesSource, fieldName == null ? null : context.mapperService().fieldType(fieldName));
+            }
+
+            @Override
+            protected void prepare() throws IOException {
+                buildRanges(context);
+            }
+
+            @Override
+            protected Function<Long, Long> bucketOrdProducer() {
+                return (key) -> {
+                    long bucketOrd = bucketOrds.add(0, key);
+                    return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+                };
+            }
+        };
+        filterRewriteOptimizationContext = new FilterRewriteOptimizationContext(bridge, parent, subAggregators.length, context);
     }
 
     @Override
@@ -167,7 +202,12 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
             StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
             return true;
         }
-        return false;
+        return filterRewriteOptimizationContext.tryOptimize(
+            ctx,
+            this::incrementBucketDocCount,
+            segmentMatchAll(context, ctx),
+            collectableSubAggregators
+        );
     }
 
     @Override
@@ -231,6 +271,14 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
         return resultStrategy.buildEmptyResult();
     }
 
+    @Override
+    public void doReset() {
+        super.doReset();
+        // every streamed batch starts over with the terms of the next segments
+        bucketOrds.close();
+        bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+    }
+
     @Override
     public void doClose() {
         Releasables.close(super::doClose, bucketOrds, resultStrategy);
@@ -242,6 +290,7 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
         add.accept("result_strategy", resultStrategy.describe());
         add.accept("total_buckets", bucketOrds.size());
         add.accept("result_selection_strategy", resultSelectionStrategy);
+        filterRewriteOptimizationContext.populateDebugInfo(add);
     }
 
     public String getResultSelectionStrategy() {
@@ -262,7 +311,10 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
                 checkCancelled();
                 collectZeroDocEntriesIfNeeded(owningBucketOrds[ordIdx]);
                 long bucketsInOrd = bucketOrds.bucketsInOrd(owningBucketOrds[ordIdx]);
-                int size = (int) Math.min(bucketsInOrd, localBucketCountThresholds.getRequiredSize());
+                // a streamed batch only holds part of the shard's terms, so it can't be trimmed to the shard size
+                int size = context.isStreamSearch()
+                    ? (int) Math.min(bucketsInOrd, Integer.MAX_VALUE)
+                    : (int) Math.min(bucketsInOrd, localBucketCountThresholds.getRequiredSize());
                 BucketOrdsEnum ordsEnum = bucketOrds.ordsEnum(owningBucketOrds[ordIdx]);
                 Supplier<B> emptyBucketBuilder = emptyBucketBuilder(owningBucketOrds[ordIdx]);
 
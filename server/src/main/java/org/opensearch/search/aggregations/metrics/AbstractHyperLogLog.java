@@ -5901,6 +5901,21 @@ public abstract class AbstractHyperLogLog extends AbstractCardinalityAlgorithm {
         }
     }
 
+    /**
+     * Compute the run length of the register <code>register</code> at precision <code>toPrecision</code> given its run length
+     * <code>runLen</code> at the higher precision <code>fromPrecision</code>. The low order bits of the register become the
+     * leading bits of the hash at the lower precision.
+     */
+    static int foldRunLen(int register, int runLen, int fromPrecision, int toPrecision) {
+        assert toPrecision <= fromPrecision;
+        final int shift = fromPrecision - toPrecision;
+        final int low = register & ((1 << shift) - 1);
+        if (low == 0) {
+            return shift + runLen;
+        }
+        return 1 + Integer.numberOfLeadingZeros(low) - (Integer.SIZE - shift);
+    }
+
     static int decodeIndex(int encoded, int p) {
         long index;
         if ((encoded & 1) == 1) {
@@ -102,6 +102,21 @@ public abstract class AbstractLinearCounting extends AbstractCardinalityAlgorith
         return (int) encoded;
     }
 
+    /**
+     * Re-encode a hash that was encoded with precision <code>fromPrecision</code> so that it matches the encoding
+     * {@link #encodeHash(long, int)} would have produced with the lower precision <code>toPrecision</code>.
+     */
+    static int recodeHash(int encoded, int fromPrecision, int toPrecision) {
+        assert toPrecision <= fromPrecision;
+        if ((encoded & 1) == 1) {
+            final long e = encoded >>> 7;
+            if ((e & mask(P2 - toPrecision)) != 0) {
+                return (int) (e << 1);
+            }
+        }
+        return encoded;
+    }
+
     /**
      * Iterator over the hash values
      *
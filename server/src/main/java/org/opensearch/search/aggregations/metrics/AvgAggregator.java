@@ -227,6 +227,15 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
         return new InternalAvg(name, 0.0, 0L, format, metadata());
     }
 
+    @Override
+    public void doReset() {
+        if (counts != null) {
+            counts.fill(0, counts.size(), 0);
+            sums.fill(0, sums.size(), 0);
+            compensations.fill(0, compensations.size(), 0);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(counts, sums, compensations);
@@ -32,13 +32,13 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -52,7 +52,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory {
 
     /**
      * Execution mode for cardinality agg
@@ -124,6 +124,19 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
         return true;
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.CARDINALITY;
+    }
+
+    /**
+     * The star-tree sketches can be folded into any precision that is lower than the precision they were built with.
+     */
+    @Override
+    public boolean supportsStarTreePrecomputation() {
+        return precision() <= CardinalitySketch.PRECISION;
+    }
+
     private int precision() {
         return precisionThreshold == null
             ? HyperLogLogPlusPlus.DEFAULT_PRECISION
@@ -0,0 +1,265 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.common.util.BigArrays;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A compact, mergeable HyperLogLog++ sketch with a fixed precision of {@link #PRECISION}, meant to be stored per
+ * pre-aggregated document (e.g. per star-tree document) and replayed into a {@link HyperLogLogPlusPlus} at query time.
+ * <p>
+ * The sketch starts sparse, keeping the sorted set of hashes encoded the same way linear counting encodes them, and
+ * switches to dense HyperLogLog registers once the sparse form would take more space than the registers.
+ * <p>
+ * As doc values, the sketch is represented as a set of longs: sparse entries are the unsigned encoded hash, dense
+ * entries carry the {@link #DENSE_FLAG} bit followed by the register index and its run length.
+ *
+ * @opensearch.internal
+ */
+public final class CardinalitySketch {
+
+    public static final int PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    private static final int M = 1 << PRECISION;
+    // sparse entries are ints, so the sparse form is larger than the registers past M / 4 entries
+    private static final int SPARSE_THRESHOLD = M / Integer.BYTES;
+    private static final long DENSE_FLAG = 1L << Integer.SIZE;
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+
+    private int[] hashes;
+    private int size;
+    private byte[] runLens;
+
+    public CardinalitySketch() {
+        this.hashes = new int[0];
+    }
+
+    private CardinalitySketch(int[] hashes, int size, byte[] runLens) {
+        this.hashes = hashes;
+        this.size = size;
+        this.runLens = runLens;
+    }
+
+    /**
+     * Adds the given (already mixed) 64 bits hash to the sketch.
+     */
+    public void collect(long hash) {
+        addEncoded(AbstractLinearCounting.encodeHash(hash, PRECISION));
+    }
+
+    /**
+     * Merges the other sketch into this one.
+     */
+    public void merge(CardinalitySketch other) {
+        if (other.runLens != null) {
+            densify();
+            for (int i = 0; i < M; i++) {
+                if (other.runLens[i] > runLens[i]) {
+                    runLens[i] = other.runLens[i];
+                }
+            }
+        } else if (runLens != null) {
+            for (int i = 0; i < other.size; i++) {
+                addEncoded(other.hashes[i]);
+            }
+        } else {
+            mergeSparse(other);
+        }
+    }
+
+    public CardinalitySketch copy() {
+        return new CardinalitySketch(
+            Arrays.copyOf(hashes, size),
+            size,
+            runLens == null ? null : Arrays.copyOf(runLens, runLens.length)
+        );
+    }
+
+    public boolean isEmpty() {
+        return runLens == null && size == 0;
+    }
+
+    /**
+     * Returns the estimated number of distinct values added to the sketch.
+     */
+    public long cardinality() {
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(PRECISION, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            toDocValues(value -> collectDocValue(counts, 0, value));
+            return counts.cardinality(0);
+        }
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)} will write.
+     */
+    public int getSerializedSizeInBytes() {
+        if (runLens != null) {
+            return Byte.BYTES + M;
+        }
+        return Byte.BYTES + Integer.BYTES + size * Integer.BYTES;
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        if (runLens != null) {
+            buffer.put(DENSE);
+            buffer.put(runLens);
+        } else {
+            buffer.put(SPARSE);
+            buffer.putInt(size);
+            for (int i = 0; i < size; i++) {
+                buffer.putInt(hashes[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a sketch written by {@link #writeTo(ByteBuffer)} at the given offset.
+     */
+    public static CardinalitySketch readFrom(RandomAccessInput input, long offset) throws IOException {
+        final byte type = input.readByte(offset);
+        offset += Byte.BYTES;
+        if (type == DENSE) {
+            final byte[] runLens = new byte[M];
+            input.readBytes(offset, runLens, 0, M);
+            return new CardinalitySketch(new int[0], 0, runLens);
+        }
+        final int size = input.readInt(offset);
+        offset += Integer.BYTES;
+        final int[] hashes = new int[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = input.readInt(offset);
+            offset += Integer.BYTES;
+        }
+        return new CardinalitySketch(hashes, size, null);
+    }
+
+    /**
+     * Emits the doc values representation of this sketch.
+     */
+    public void toDocValues(LongConsumer consumer) {
+        if (runLens != null) {
+            for (int i = 0; i < M; i++) {
+                if (runLens[i] != 0) {
+                    consumer.accept(DENSE_FLAG | ((long) i << Byte.SIZE) | runLens[i]);
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(Integer.toUnsignedLong(hashes[i]));
+            }
+        }
+    }
+
+    /**
+     * Adds a single value produced by {@link #toDocValues(LongConsumer)} to this sketch.
+     */
+    public void addDocValue(long value) {
+        if ((value & DENSE_FLAG) != 0) {
+            densify();
+            final int register = (int) ((value & ~DENSE_FLAG) >>> Byte.SIZE);
+            final byte runLen = (byte) (value & 0xFF);
+            if (runLen > runLens[register]) {
+                runLens[register] = runLen;
+            }
+        } else {
+            addEncoded((int) value);
+        }
+    }
+
+    /**
+     * Replays a single value produced by {@link #toDocValues(LongConsumer)} into the given bucket of the counts.
+     * The precision of the counts must not be greater than {@link #PRECISION}.
+     */
+    public static void collectDocValue(HyperLogLogPlusPlus counts, long bucketOrd, long value) {
+        if ((value & DENSE_FLAG) != 0) {
+            final int register = (int) ((value & ~DENSE_FLAG) >>> Byte.SIZE);
+            counts.collectRunLen(bucketOrd, register, (int) (value & 0xFF), PRECISION);
+        } else {
+            counts.collectEncoded(bucketOrd, (int) value, PRECISION);
+        }
+    }
+
+    private void addEncoded(int encoded) {
+        if (runLens != null) {
+            addEncodedToRegisters(encoded);
+            return;
+        }
+        final int index = Arrays.binarySearch(hashes, 0, size, encoded);
+        if (index >= 0) {
+            return;
+        }
+        if (size == SPARSE_THRESHOLD) {
+            densify();
+            addEncodedToRegisters(encoded);
+            return;
+        }
+        final int insertionPoint = -index - 1;
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, Math.min(SPARSE_THRESHOLD, Math.max(8, size << 1)));
+        }
+        System.arraycopy(hashes, insertionPoint, hashes, insertionPoint + 1, size - insertionPoint);
+        hashes[insertionPoint] = encoded;
+        size++;
+    }
+
+    private void mergeSparse(CardinalitySketch other) {
+        final int[] merged = new int[size + other.size];
+        int i = 0, j = 0, k = 0;
+        while (i < size && j < other.size) {
+            final int cmp = Integer.compare(hashes[i], other.hashes[j]);
+            if (cmp < 0) {
+                merged[k++] = hashes[i++];
+            } else if (cmp > 0) {
+                merged[k++] = other.hashes[j++];
+            } else {
+                merged[k++] = hashes[i++];
+                j++;
+            }
+        }
+        while (i < size) {
+            merged[k++] = hashes[i++];
+        }
+        while (j < other.size) {
+            merged[k++] = other.hashes[j++];
+        }
+        hashes = merged;
+        size = k;
+        if (size > SPARSE_THRESHOLD) {
+            densify();
+        }
+    }
+
+    private void densify() {
+        if (runLens != null) {
+            return;
+        }
+        runLens = new byte[M];
+        for (int i = 0; i < size; i++) {
+            addEncodedToRegisters(hashes[i]);
+        }
+        hashes = new int[0];
+        size = 0;
+    }
+
+    private void addEncodedToRegisters(int encoded) {
+        final int register = AbstractHyperLogLog.decodeIndex(encoded, PRECISION);
+        final byte runLen = (byte) AbstractHyperLogLog.decodeRunLen(encoded, PRECISION);
+        if (runLen > runLens[register]) {
+            runLens[register] = runLen;
+        }
+    }
+}
@@ -160,10 +160,46 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
     }
 
     protected void addRunLen(long bucketOrd, int register, int runLen) {
+        hll.ensureCapacity(bucketOrd + 1);
         if (algorithm.get(bucketOrd) == LINEAR_COUNTING) {
             upgradeToHll(bucketOrd);
         }
-        hll.addRunLen(0, register, runLen);
+        hll.addRunLen(bucketOrd, register, runLen);
+    }
+
+    /**
+     * Collect a hash that has already been encoded by linear counting with a precision that is greater than or equal to the
+     * precision of this counter, e.g. a hash read back from a pre-aggregated sketch.
+     */
+    public void collectEncoded(long bucketOrd, int encoded, int encodedPrecision) {
+        if (encodedPrecision < precision()) {
+            throw new IllegalArgumentException("Cannot collect hashes encoded with precision [" + encodedPrecision + "] < " + precision());
+        }
+        hll.ensureCapacity(bucketOrd + 1);
+        encoded = AbstractLinearCounting.recodeHash(encoded, encodedPrecision, precision());
+        if (algorithm.get(bucketOrd) == LINEAR_COUNTING) {
+            final int newSize = lc.addEncoded(bucketOrd, encoded);
+            if (newSize > lc.threshold) {
+                upgradeToHll(bucketOrd);
+            }
+        } else {
+            hll.collectEncoded(bucketOrd, encoded);
+        }
+    }
+
+    /**
+     * Collect the run length of a register from a HyperLogLog with a precision that is greater than or equal to the
+     * precision of this counter, e.g. a register read back from a pre-aggregated sketch.
+     */
+    public void collectRunLen(long bucketOrd, int register, int runLen, int registerPrecision) {
+        if (registerPrecision < precision()) {
+            throw new IllegalArgumentException("Cannot collect registers with precision [" + registerPrecision + "] < " + precision());
+        }
+        if (registerPrecision > precision()) {
+            runLen = AbstractHyperLogLog.foldRunLen(register, runLen, registerPrecision, precision());
+            register = register >>> (registerPrecision - precision());
+        }
+        addRunLen(bucketOrd, register, runLen);
     }
 
     void upgradeToHll(long bucketOrd) {
@@ -170,6 +170,22 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
                 }
             }
 
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                if (bucket >= maxes.size()) {
+                    long from = maxes.size();
+                    maxes = bigArrays.grow(maxes, bucket + 1);
+                    maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                }
+                double max = maxes.get(bucket);
+                for (int i = 0; i < count; i++) {
+                    if (values.advanceExact(docs[i])) {
+                        max = Math.max(max, values.doubleValue());
+                    }
+                }
+                maxes.set(bucket, max);
+            }
+
         };
     }
 
@@ -278,6 +294,8 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
 
     @Override
     public void doReset() {
-        maxes.fill(0, maxes.size(), Double.NEGATIVE_INFINITY);
+        if (maxes != null) {
+            maxes.fill(0, maxes.size(), Double.NEGATIVE_INFINITY);
+        }
     }
 }
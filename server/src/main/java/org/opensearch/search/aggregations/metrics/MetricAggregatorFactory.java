@@ -34,4 +34,12 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
     }
 
     public abstract MetricStat getMetricStat();
+
+    /**
+     * Returns whether the pre-aggregated values of {@link #getMetricStat()} in the star-tree can answer this aggregation,
+     * e.g. sketch based metrics are only precomputed for some of the options of the aggregation.
+     */
+    public boolean supportsStarTreePrecomputation() {
+        return true;
+    }
 }
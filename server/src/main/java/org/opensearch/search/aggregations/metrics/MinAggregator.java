@@ -169,6 +169,22 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
                     mins.set(bucket, min);
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                if (bucket >= mins.size()) {
+                    long from = mins.size();
+                    mins = bigArrays.grow(mins, bucket + 1);
+                    mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+                }
+                double min = mins.get(bucket);
+                for (int i = 0; i < count; i++) {
+                    if (values.advanceExact(docs[i])) {
+                        min = Math.min(min, values.doubleValue());
+                    }
+                }
+                mins.set(bucket, min);
+            }
         };
     }
 
@@ -200,6 +216,13 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         return new InternalMin(name, Double.POSITIVE_INFINITY, format, metadata());
     }
 
+    @Override
+    public void doReset() {
+        if (mins != null) {
+            mins.fill(0, mins.size(), Double.POSITIVE_INFINITY);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(mins);
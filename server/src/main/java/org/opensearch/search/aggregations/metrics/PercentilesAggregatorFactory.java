@@ -32,13 +32,13 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -53,7 +53,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
+class PercentilesAggregatorFactory extends MetricAggregatorFactory {
 
     private final double[] percents;
     private final PercentilesConfig percentilesConfig;
@@ -108,4 +108,19 @@ class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.PERCENTILES;
+    }
+
+    /**
+     * The star-tree stores TDigests built with the default compression, they cannot answer HDR percentiles or
+     * percentiles requested with a higher accuracy.
+     */
+    @Override
+    public boolean supportsStarTreePrecomputation() {
+        return percentilesConfig instanceof PercentilesConfig.TDigest
+            && ((PercentilesConfig.TDigest) percentilesConfig).getCompression() <= PercentilesConfig.TDigest.DEFAULT_COMPRESSION;
+    }
 }
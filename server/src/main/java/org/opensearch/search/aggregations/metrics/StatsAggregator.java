@@ -141,6 +141,44 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
                     maxes.set(bucket, max);
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                if (bucket >= counts.size()) {
+                    final long from = counts.size();
+                    final long overSize = BigArrays.overSize(bucket + 1);
+                    counts = bigArrays.resize(counts, overSize);
+                    sums = bigArrays.resize(sums, overSize);
+                    compensations = bigArrays.resize(compensations, overSize);
+                    mins = bigArrays.resize(mins, overSize);
+                    maxes = bigArrays.resize(maxes, overSize);
+                    mins.fill(from, overSize, Double.POSITIVE_INFINITY);
+                    maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
+                }
+
+                // accumulate the whole batch in locals and only write the bucket back once
+                long valuesCount = 0;
+                double min = mins.get(bucket);
+                double max = maxes.get(bucket);
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                for (int i = 0; i < count; i++) {
+                    if (values.advanceExact(docs[i])) {
+                        final int docValuesCount = values.docValueCount();
+                        valuesCount += docValuesCount;
+                        for (int j = 0; j < docValuesCount; j++) {
+                            double value = values.nextValue();
+                            kahanSummation.add(value);
+                            min = Math.min(min, value);
+                            max = Math.max(max, value);
+                        }
+                    }
+                }
+                counts.increment(bucket, valuesCount);
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+                mins.set(bucket, min);
+                maxes.set(bucket, max);
+            }
         };
     }
 
@@ -201,6 +239,17 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         return new InternalStats(name, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, format, metadata());
     }
 
+    @Override
+    public void doReset() {
+        if (counts != null) {
+            counts.fill(0, counts.size(), 0);
+            sums.fill(0, sums.size(), 0);
+            compensations.fill(0, compensations.size(), 0);
+            mins.fill(0, mins.size(), Double.POSITIVE_INFINITY);
+            maxes.fill(0, maxes.size(), Double.NEGATIVE_INFINITY);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(counts, maxes, mins, sums, compensations);
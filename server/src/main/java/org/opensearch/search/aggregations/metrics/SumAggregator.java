@@ -142,6 +142,25 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
                     sums.set(bucket, kahanSummation.value());
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+
+                // keep the running sum of the whole batch in the summation and only write it back once
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                for (int i = 0; i < count; i++) {
+                    if (values.advanceExact(docs[i])) {
+                        final int valuesCount = values.docValueCount();
+                        for (int j = 0; j < valuesCount; j++) {
+                            kahanSummation.add(values.nextValue());
+                        }
+                    }
+                }
+                compensations.set(bucket, kahanSummation.delta());
+                sums.set(bucket, kahanSummation.value());
+            }
         };
     }
 
@@ -211,6 +230,14 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
         return new InternalSum(name, 0.0, format, metadata());
     }
 
+    @Override
+    public void doReset() {
+        if (sums != null) {
+            sums.fill(0, sums.size(), 0);
+            compensations.fill(0, compensations.size(), 0);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(sums, compensations);
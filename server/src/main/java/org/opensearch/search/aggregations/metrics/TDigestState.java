@@ -31,11 +31,13 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.util.NumericUtils;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.function.LongConsumer;
 
 import com.tdunning.math.stats.AVLTreeDigest;
 import com.tdunning.math.stats.Centroid;
@@ -78,6 +80,28 @@ public class TDigestState extends AVLTreeDigest {
         return state;
     }
 
+    /**
+     * Emits every centroid of the digest encoded on a single long: the sortable bits of the mean, narrowed to a float,
+     * in the upper 32 bits and the count in the lower 32 bits. Used to store digests as sorted numeric doc values.
+     */
+    public void encodeCentroids(LongConsumer consumer) {
+        compress();
+        for (Centroid centroid : centroids()) {
+            consumer.accept(encodeCentroid(centroid.mean(), centroid.count()));
+        }
+    }
+
+    /**
+     * Adds a centroid encoded by {@link #encodeCentroids(LongConsumer)} to the digest.
+     */
+    public void addEncodedCentroid(long encoded) {
+        add(NumericUtils.sortableIntToFloat((int) (encoded >>> 32)), (int) encoded);
+    }
+
+    static long encodeCentroid(double mean, int count) {
+        return ((long) NumericUtils.floatToSortableInt((float) mean) << 32) | Integer.toUnsignedLong(count);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null || obj instanceof TDigestState == false) {
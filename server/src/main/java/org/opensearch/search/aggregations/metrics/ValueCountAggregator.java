@@ -186,6 +186,13 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue i
         return new InternalValueCount(name, 0L, metadata());
     }
 
+    @Override
+    public void doReset() {
+        if (counts != null) {
+            counts.fill(0, counts.size(), 0);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(counts);
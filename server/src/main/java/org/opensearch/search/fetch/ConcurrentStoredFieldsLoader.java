@@ -0,0 +1,262 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Reads the stored fields of the documents to fetch on the concurrent segment search executor, one task per segment, ahead
+ * of the sequential execution of the fetch sub phases.
+ * <p>
+ * Each task reads the documents of its segment in doc id order and records the stored fields that a visitor of its own
+ * needs. The fetch phase then replays the recorded fields into its visitor instead of reading them, so the hits are still
+ * built and returned in the same order.
+ * <p>
+ * The recorded fields, which include the source of the documents, are accounted for in the request circuit breaker until the
+ * loader is closed, once the hits are built.
+ *
+ * @opensearch.internal
+ */
+final class ConcurrentStoredFieldsLoader implements Releasable {
+
+    /**
+     * The minimum number of documents to fetch for their stored fields to be read concurrently, below which forking the
+     * reads costs more than it saves
+     */
+    static final int MIN_DOCS = 64;
+
+    private final Map<Integer, SegmentLoader> segments;
+    private final CircuitBreaker breaker;
+
+    private ConcurrentStoredFieldsLoader(Map<Integer, SegmentLoader> segments, CircuitBreaker breaker) {
+        this.segments = segments;
+        this.breaker = breaker;
+    }
+
+    /**
+     * Reads the stored fields of the given documents, sorted by doc id, and returns the loader to replay them from, or null
+     * if the stored fields are read by the fetch phase itself
+     */
+    @Nullable
+    static ConcurrentStoredFieldsLoader load(SearchContext context, FetchPhase.DocIdToIndex[] docs, Supplier<FieldsVisitor> visitors)
+        throws IOException {
+        if (docs.length < MIN_DOCS || context.shouldUseConcurrentSearch() == false || context.mapperService().hasNested()) {
+            return null;
+        }
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final CircuitBreaker breaker = context.bigArrays().breakerService().getBreaker(CircuitBreaker.REQUEST);
+        final Map<Integer, SegmentLoader> segments = new HashMap<>();
+        int from = 0;
+        while (from < docs.length) {
+            final int ord = ReaderUtil.subIndex(docs[from].docId, leaves);
+            final LeafReaderContext leaf = leaves.get(ord);
+            final int maxDoc = leaf.docBase + leaf.reader().maxDoc();
+            int to = from;
+            while (to < docs.length && docs[to].docId < maxDoc) {
+                to++;
+            }
+            final int[] docIds = new int[to - from];
+            for (int i = 0; i < docIds.length; i++) {
+                docIds[i] = docs[from + i].docId - leaf.docBase;
+            }
+            segments.put(ord, new SegmentLoader(context, leaf, docIds, visitors.get(), breaker));
+            from = to;
+        }
+        if (segments.size() < 2) {
+            return null;
+        }
+        final ConcurrentStoredFieldsLoader loader = new ConcurrentStoredFieldsLoader(segments, breaker);
+        boolean success = false;
+        try {
+            context.searcher().getTaskExecutor().invokeAll(new ArrayList<>(segments.values()));
+            success = true;
+        } finally {
+            if (success == false) {
+                loader.close();
+            }
+        }
+        return loader;
+    }
+
+    /**
+     * Returns the reader that replays the stored fields of the documents of the given segment
+     */
+    CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader(int ord) {
+        final SegmentLoader segment = segments.get(ord);
+        assert segment != null : "no documents to fetch in segment [" + ord + "]";
+        return segment::replay;
+    }
+
+    /**
+     * Releases the bytes of the recorded fields from the request circuit breaker
+     */
+    @Override
+    public void close() {
+        long ramBytesUsed = 0;
+        for (SegmentLoader segment : segments.values()) {
+            ramBytesUsed += segment.ramBytesUsed;
+        }
+        breaker.addWithoutBreaking(-ramBytesUsed);
+    }
+
+    /**
+     * Reads the stored fields of the documents to fetch of a single segment
+     */
+    private static final class SegmentLoader implements Callable<Void> {
+        private final SearchContext context;
+        private final LeafReaderContext leaf;
+        private final int[] docIds;
+        private final FieldsVisitor visitor;
+        private final RecordedFields[] fields;
+        private final CircuitBreaker breaker;
+        // the bytes of the recorded fields that were added to the breaker
+        private long ramBytesUsed;
+
+        SegmentLoader(SearchContext context, LeafReaderContext leaf, int[] docIds, FieldsVisitor visitor, CircuitBreaker breaker) {
+            this.context = context;
+            this.leaf = leaf;
+            this.docIds = docIds;
+            this.visitor = visitor;
+            this.fields = new RecordedFields[docIds.length];
+            this.breaker = breaker;
+        }
+
+        @Override
+        public Void call() throws IOException {
+            final CheckedBiConsumer<Integer, StoredFieldVisitor, IOException> fieldReader;
+            if (leaf.reader() instanceof SequentialStoredFieldsLeafReader
+                && docIds.length >= 10
+                && docIds[docIds.length - 1] - docIds[0] == docIds.length - 1) {
+                // see FetchPhase#execute for why adjacent documents are read through the merge instance
+                fieldReader = ((SequentialStoredFieldsLeafReader) leaf.reader()).getSequentialStoredFieldsReader()::document;
+            } else {
+                fieldReader = leaf.reader().storedFields()::document;
+            }
+            for (int i = 0; i < docIds.length; i++) {
+                if (context.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+                }
+                visitor.reset();
+                fields[i] = new RecordedFields(visitor);
+                fieldReader.accept(docIds[i], fields[i]);
+                breaker.addEstimateBytesAndMaybeBreak(fields[i].ramBytesUsed, "<fetch stored fields>");
+                ramBytesUsed += fields[i].ramBytesUsed;
+            }
+            return null;
+        }
+
+        void replay(int docId, FieldsVisitor fieldsVisitor) {
+            final int index = Arrays.binarySearch(docIds, docId);
+            assert index >= 0 : "document [" + docId + "] was not loaded";
+            fields[index].replay(fieldsVisitor);
+        }
+    }
+
+    /**
+     * Records the stored fields of a document that the given visitor needs
+     */
+    private static final class RecordedFields extends StoredFieldVisitor {
+        private final StoredFieldVisitor visitor;
+        private final List<FieldInfo> fieldInfos = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+        private long ramBytesUsed;
+
+        RecordedFields(StoredFieldVisitor visitor) {
+            this.visitor = visitor;
+        }
+
+        @Override
+        public Status needsField(FieldInfo fieldInfo) throws IOException {
+            return visitor.needsField(fieldInfo);
+        }
+
+        @Override
+        public void binaryField(FieldInfo fieldInfo, byte[] value) {
+            record(fieldInfo, value);
+        }
+
+        @Override
+        public void stringField(FieldInfo fieldInfo, String value) {
+            record(fieldInfo, value);
+        }
+
+        @Override
+        public void intField(FieldInfo fieldInfo, int value) {
+            record(fieldInfo, value);
+        }
+
+        @Override
+        public void longField(FieldInfo fieldInfo, long value) {
+            record(fieldInfo, value);
+        }
+
+        @Override
+        public void floatField(FieldInfo fieldInfo, float value) {
+            record(fieldInfo, value);
+        }
+
+        @Override
+        public void doubleField(FieldInfo fieldInfo, double value) {
+            record(fieldInfo, value);
+        }
+
+        private void record(FieldInfo fieldInfo, Object value) {
+            fieldInfos.add(fieldInfo);
+            values.add(value);
+            ramBytesUsed += RamUsageEstimator.NUM_BYTES_OBJECT_REF * 2 + RamUsageEstimator.sizeOfObject(value);
+        }
+
+        void replay(FieldsVisitor fieldsVisitor) {
+            for (int i = 0; i < fieldInfos.size(); i++) {
+                final FieldInfo fieldInfo = fieldInfos.get(i);
+                final Object value = values.get(i);
+                final Status status = fieldsVisitor.needsField(fieldInfo);
+                if (status == Status.STOP) {
+                    return;
+                } else if (status == Status.NO) {
+                    continue;
+                }
+                if (value instanceof byte[]) {
+                    fieldsVisitor.binaryField(fieldInfo, (byte[]) value);
+                } else if (value instanceof String) {
+                    fieldsVisitor.stringField(fieldInfo, (String) value);
+                } else if (value instanceof Integer) {
+                    fieldsVisitor.intField(fieldInfo, (Integer) value);
+                } else if (value instanceof Long) {
+                    fieldsVisitor.longField(fieldInfo, (Long) value);
+                } else if (value instanceof Float) {
+                    fieldsVisitor.floatField(fieldInfo, (Float) value);
+                } else {
+                    fieldsVisitor.doubleField(fieldInfo, (Double) value);
+                }
+            }
+        }
+    }
+}
@@ -45,6 +45,7 @@ import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.xcontent.XContentHelper;
@@ -171,68 +172,88 @@ public class FetchPhase {
             }
         }
 
-        int currentReaderIndex = -1;
-        LeafReaderContext currentReaderContext = null;
-        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
-            if (context.isCancelled()) {
-                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-            }
-            int docId = docs[index].docId;
+        ConcurrentStoredFieldsLoader storedFieldsLoader = null;
+        if (fieldsVisitor != null && breakdown == null) {
             try {
-                int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
-                if (currentReaderIndex != readerIndex) {
-                    currentReaderContext = profile(
-                        breakdown,
-                        FetchTimingType.GET_NEXT_READER,
-                        () -> context.searcher().getIndexReader().leaves().get(readerIndex)
-                    );
-                    currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) currentReaderContext.reader();
-                        fieldReader = lf.getSequentialStoredFieldsReader()::document;
-                    } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
+                storedFieldsLoader = ConcurrentStoredFieldsLoader.load(
+                    context,
+                    docs,
+                    () -> createStoredFieldsVisitor(context, new HashMap<>())
+                );
+            } catch (IOException e) {
+                throw new FetchPhaseExecutionException(context.shardTarget(), "Error loading stored fields", e);
+            }
+        }
+
+        try {
+            int currentReaderIndex = -1;
+            LeafReaderContext currentReaderContext = null;
+            CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
+            boolean hasSequentialDocs = hasSequentialDocs(docs);
+            for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+                if (context.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+                }
+                int docId = docs[index].docId;
+                try {
+                    int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
+                    if (currentReaderIndex != readerIndex) {
+                        currentReaderContext = profile(
+                            breakdown,
+                            FetchTimingType.GET_NEXT_READER,
+                            () -> context.searcher().getIndexReader().leaves().get(readerIndex)
+                        );
+                        currentReaderIndex = readerIndex;
+                        if (storedFieldsLoader != null) {
+                            fieldReader = storedFieldsLoader.fieldReader(readerIndex);
+                        } else if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
+                            && hasSequentialDocs
+                            && docs.length >= 10) {
+                            // All the docs to fetch are adjacent but Lucene stored fields are optimized
+                            // for random access and don't optimize for sequential access - except for merging.
+                            // So we do a little hack here and pretend we're going to do merges in order to
+                            // get better sequential access.
+                            SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) currentReaderContext.reader();
+                            fieldReader = lf.getSequentialStoredFieldsReader()::document;
+                        } else {
+                            fieldReader = currentReaderContext.reader().storedFields()::document;
+                        }
+                        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                            FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
+                            LeafReaderContext readerCtx = currentReaderContext;
+                            profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
+                                p.v1().setNextReader(readerCtx);
+                                return null;
+                            });
+                        }
                     }
+                    assert currentReaderContext != null;
+                    HitContext hit = prepareHitContext(
+                        context,
+                        fetchContext.searchLookup(),
+                        fieldsVisitor,
+                        docId,
+                        storedToRequestedFields,
+                        currentReaderContext,
+                        fieldReader,
+                        breakdown
+                    );
+
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                        LeafReaderContext readerCtx = currentReaderContext;
-                        profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
-                            p.v1().setNextReader(readerCtx);
+                        profile(pbd, FetchTimingType.PROCESS, () -> {
+                            p.v1().process(hit);
                             return null;
                         });
                     }
+                    hits[docs[index].index] = hit.hit();
+                } catch (Exception e) {
+                    throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
                 }
-                assert currentReaderContext != null;
-                HitContext hit = prepareHitContext(
-                    context,
-                    fetchContext.searchLookup(),
-                    fieldsVisitor,
-                    docId,
-                    storedToRequestedFields,
-                    currentReaderContext,
-                    fieldReader,
-                    breakdown
-                );
-
-                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                    FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                    profile(pbd, FetchTimingType.PROCESS, () -> {
-                        p.v1().process(hit);
-                        return null;
-                    });
-                }
-                hits[docs[index].index] = hit.hit();
-            } catch (Exception e) {
-                throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
+        } finally {
+            // the concurrently read stored fields are released once the hits are built
+            Releasables.close(storedFieldsLoader);
         }
         if (context.isCancelled()) {
             throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
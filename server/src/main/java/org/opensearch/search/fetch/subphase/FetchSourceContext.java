@@ -33,6 +33,7 @@
 package org.opensearch.search.fetch.subphase;
 
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.ParseField;
@@ -70,6 +71,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -275,4 +277,15 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter function that copies the matching fields of the source read by the
+     * parser to the builder, without parsing the source into a map.
+     */
+    public CheckedBiConsumer<XContentParser, XContentBuilder, IOException> getStreamFilter() {
+        if (streamFilter == null) {
+            streamFilter = XContentMapValues.filterStream(includes, excludes);
+        }
+        return streamFilter;
+    }
 }
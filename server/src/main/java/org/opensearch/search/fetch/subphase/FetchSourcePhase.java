@@ -61,6 +61,8 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
         String index = fetchContext.getIndexName();
         assert fetchSourceContext.fetchSource();
+        // the fields and highlight phases parse the source into a map anyway, which can then be filtered
+        boolean filterSourceRef = fetchContext.fetchFieldsContext() == null && fetchContext.highlight() == null;
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -70,12 +72,12 @@ public final class FetchSourcePhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) {
-                hitExecute(index, fetchSourceContext, hitContext);
+                hitExecute(index, fetchSourceContext, filterSourceRef, hitContext);
             }
         };
     }
 
-    private void hitExecute(String index, FetchSourceContext fetchSourceContext, HitContext hitContext) {
+    private void hitExecute(String index, FetchSourceContext fetchSourceContext, boolean filterSourceRef, HitContext hitContext) {
 
         final boolean nestedHit = hitContext.hit().getNestedIdentity() != null;
         SourceLookup source = hitContext.sourceLookup();
@@ -96,6 +98,19 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If this is a parent document whose source was not parsed, then copy the matching fields from the source bytes.
+        if (nestedHit == false && filterSourceRef) {
+            try {
+                BytesReference filtered = source.filterSourceRef(fetchSourceContext);
+                if (filtered != null) {
+                    hitContext.hit().sourceRef(filtered);
+                    return;
+                }
+            } catch (IOException e) {
+                throw new OpenSearchException("Error filtering source", e);
+            }
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
@@ -38,12 +38,19 @@ import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
@@ -200,6 +207,36 @@ public class SourceLookup implements Map {
         return context.getFilter().apply(loadSourceIfNeeded());
     }
 
+    /**
+     * Returns the source filtered by the given context, in the content type of the source, or null if the source has to
+     * be parsed into a map to be filtered. The matching fields are copied from the source bytes to the filtered source
+     * without building the map.
+     */
+    @Nullable
+    public BytesReference filterSourceRef(FetchSourceContext context) throws IOException {
+        if (source != null || sourceAsBytes == null || CompressorRegistry.compressor(sourceAsBytes) != null) {
+            // the map is already loaded, or the source is compressed and has to be decompressed to detect its content type
+            return null;
+        }
+        final MediaType contentType = MediaTypeRegistry.xContentType(sourceAsBytes);
+        if (contentType == null) {
+            return null;
+        }
+        final BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, sourceAsBytes.length()));
+        final XContentBuilder builder = new XContentBuilder(contentType.xContent(), streamOutput);
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                sourceAsBytes,
+                contentType
+            )
+        ) {
+            context.getStreamFilter().accept(parser, builder);
+        }
+        return BytesReference.bytes(builder);
+    }
+
     @Override
     public Object get(Object key) {
         return loadSourceIfNeeded().get(key);
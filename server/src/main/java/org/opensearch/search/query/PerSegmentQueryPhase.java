@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregationProcessor;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.ConcurrentAggregationProcessor;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.NonGlobalAggCollectorManager;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTermsAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTextAggregatorFactory;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Executes the query phase of a size 0 request that only runs aggregations one segment at a time, so that the hit count and
+ * the aggregations of each segment can be cached on their own and only the segments that are not cached yet are searched.
+ * <p>
+ * The aggregations of the segments are partially reduced the way the coordinating node reduces the results of several shards.
+ * Aggregations that trim their buckets, like the terms aggregations trimming to their shard size, are trimmed per segment and
+ * are not as accurate as when they are computed for the whole shard.
+ *
+ * @opensearch.internal
+ */
+public final class PerSegmentQueryPhase {
+
+    private PerSegmentQueryPhase() {}
+
+    /**
+     * The cache of the serialized results of the segments
+     *
+     * @opensearch.internal
+     */
+    public interface SegmentResultCache {
+
+        /**
+         * Returns the cached result of the given segment, computing it with the given loader if it is not cached
+         */
+        BytesReference getOrCompute(LeafReaderContext leaf, CheckedSupplier<BytesReference, IOException> loader) throws Exception;
+
+        /**
+         * Removes the result of the given segment from the cache
+         */
+        void invalidate(LeafReaderContext leaf);
+    }
+
+    /**
+     * Can the query phase of the request be executed one segment at a time? Only the requests that run nothing else than
+     * aggregations that support concurrent segment search are, since each segment is searched like the slice of a concurrent
+     * segment search, and only with the query phase searcher of the search module, since a plugin's searcher would be skipped.
+     */
+    public static boolean canExecute(QueryPhase queryPhase, SearchContext context) {
+        final QueryPhaseSearcher queryPhaseSearcher = queryPhase.getQueryPhaseSearcher();
+        if (queryPhaseSearcher != QueryPhase.DEFAULT_QUERY_PHASE_SEARCHER
+            && queryPhaseSearcher.getClass() != QueryPhaseSearcherWrapper.class) {
+            return false;
+        }
+        if (context.size() != 0
+            || context.aggregations() == null
+            || context.aggregations().factories().hasGlobalAggregator()
+            || context.aggregations().factories().allFactoriesSupportConcurrentSearch() == false
+            || hasSignificantTermsAggregator(context.aggregations().factories())) {
+            return false;
+        }
+        if (context.suggest() != null
+            || context.sort() != null
+            || context.parsedPostFilter() != null
+            || context.minimumScore() != null
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || context.searchAfter() != null
+            || context.collapse() != null
+            || context.rescore().isEmpty() == false
+            || context.isStreamSearch()
+            || context.getProfilers() != null
+            || context.queryCollectorManagers().isEmpty() == false
+            || context.getQueryShardContext().getStarTreeQueryContext() != null) {
+            return false;
+        }
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        return leaves.isEmpty() == false && leaves.stream().allMatch(leaf -> leaf.reader().getReaderCacheHelper() != null);
+    }
+
+    /**
+     * The significant terms and significant text aggregations count the documents of the whole shard as their superset, and
+     * their per segment results would be summed once per segment by the partial reduce, so they are only computed per shard.
+     */
+    private static boolean hasSignificantTermsAggregator(AggregatorFactories factories) {
+        for (AggregatorFactory factory : factories.getFactories()) {
+            if (factory instanceof SignificantTermsAggregatorFactory
+                || factory instanceof SignificantTextAggregatorFactory
+                || hasSignificantTermsAggregator(factory.getSubFactories())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes the query phase of a request that {@link #canExecute can be executed one segment at a time}, loading the hit
+     * count and the aggregations of each segment from the cache, computing them if needed, before reducing them.
+     */
+    public static void execute(SearchContext context, SegmentResultCache cache, NamedWriteableRegistry namedWriteableRegistry)
+        throws QueryPhaseExecutionException {
+        final AggregationProcessor aggregationProcessor = new ConcurrentAggregationProcessor();
+        aggregationProcessor.preProcess(context);
+        final ContextIndexSearcher searcher = context.searcher();
+        final QuerySearchResult result = context.queryResult();
+        result.searchTimedOut(false);
+        result.from(context.from());
+        result.size(context.size());
+        final boolean trackTotalHits = context.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED;
+        final NonGlobalAggCollectorManager collectorManager = (NonGlobalAggCollectorManager) context.queryCollectorManagers()
+            .get(NonGlobalAggCollectorManager.class);
+        final List<InternalAggregations> aggregations = new ArrayList<>();
+        long totalHits = 0;
+        final boolean timeoutSet = context.timeout() != null && context.timeout().equals(SearchService.NO_TIMEOUT) == false;
+        final Runnable timeoutRunnable = timeoutSet ? searcher.addQueryCancellation(QueryPhase.createQueryTimeoutChecker(context)) : null;
+        final Runnable cancellation;
+        if (context.lowLevelCancellation()) {
+            cancellation = searcher.addQueryCancellation(() -> {
+                SearchShardTask task = context.getTask();
+                if (task != null && task.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + task.getReasonCancelled());
+                }
+            });
+        } else {
+            cancellation = null;
+        }
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                final BytesReference value = cache.getOrCompute(leaf, () -> {
+                    final long beforeCollection = System.nanoTime();
+                    final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+                    final Collector aggregationCollector = collectorManager.newCollector();
+                    final Collector collector = trackTotalHits
+                        ? MultiCollector.wrap(hitCountCollector, aggregationCollector)
+                        : aggregationCollector;
+                    searcher.search(context.query(), new SingleLeafCollector(collector, leaf));
+                    context.bucketCollectorProcessor().processPostCollection(aggregationCollector);
+                    final InternalAggregations leafAggregations = InternalAggregations.from(
+                        context.bucketCollectorProcessor().toInternalAggregations(List.of(aggregationCollector))
+                    );
+                    try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                        // the took time comes first for the cache tier policies, like in the shard level results
+                        new CachedQueryResult.PolicyValues(System.nanoTime() - beforeCollection).writeTo(out);
+                        out.writeVLong(hitCountCollector.getTotalHits());
+                        leafAggregations.writeTo(out);
+                        return out.bytes();
+                    }
+                });
+                if (context.isSearchTimedOut()) {
+                    // the result of the segment is partial, like the shard level result that is invalidated by the caller
+                    cache.invalidate(leaf);
+                    break;
+                }
+                try (StreamInput in = new NamedWriteableAwareStreamInput(value.streamInput(), namedWriteableRegistry)) {
+                    new CachedQueryResult.PolicyValues(in);
+                    totalHits += in.readVLong();
+                    aggregations.add(InternalAggregations.readFrom(in));
+                }
+            }
+            if (context.isSearchTimedOut()) {
+                if (context.request().allowPartialSearchResults() == false) {
+                    throw new QueryPhaseExecutionException(context.shardTarget(), "Time exceeded");
+                }
+                result.searchTimedOut(true);
+            }
+            final TotalHits hits = trackTotalHits
+                ? new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO)
+                : new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+            result.topDocs(new TopDocsAndMaxScore(new TopDocs(hits, Lucene.EMPTY_SCORE_DOCS), Float.NaN), new DocValueFormat[0]);
+            // the buckets of all the segments count towards the limit of the shard, the consumer is reset once they are reduced
+            // like after the slices of a concurrent segment search
+            context.aggregations().multiBucketConsumer().reset();
+            // the per segment aggregations are deserialized, so they are partially reduced like the results of several shards on
+            // the coordinating node rather than like the per slice ones of a concurrent segment search
+            final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+            reduceContext.setSliceLevel(false);
+            result.aggregations(InternalAggregations.reduce(aggregations, reduceContext));
+        } catch (Exception e) {
+            throw new QueryPhaseExecutionException(context.shardTarget(), "Failed to execute main query", e);
+        } finally {
+            if (timeoutRunnable != null) {
+                searcher.removeQueryCancellation(timeoutRunnable);
+            }
+            if (cancellation != null) {
+                searcher.removeQueryCancellation(cancellation);
+            }
+        }
+        aggregationProcessor.postProcess(context);
+    }
+
+    /**
+     * Collects the documents of a single segment, skipping the other segments of the searcher
+     */
+    private static final class SingleLeafCollector extends FilterCollector {
+        private final LeafReaderContext leaf;
+
+        SingleLeafCollector(Collector in, LeafReaderContext leaf) {
+            super(in);
+            this.leaf = leaf;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            if (context != leaf) {
+                throw new CollectionTerminatedException();
+            }
+            return super.getLeafCollector(context);
+        }
+    }
+}
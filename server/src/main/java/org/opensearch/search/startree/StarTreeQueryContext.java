@@ -23,16 +23,21 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
+import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.StarTreeFilter;
 import org.opensearch.search.startree.filter.provider.StarTreeFilterProvider;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -41,7 +46,12 @@ import java.util.stream.Collectors;
 @ExperimentalApi
 public class StarTreeQueryContext {
 
-    private final CompositeDataCubeFieldType compositeMappedFieldType;
+    /**
+     * Star-tree fields of the index which can be used to serve the request, the most appropriate one is selected
+     * while consolidating the filters.
+     */
+    private final List<CompositeDataCubeFieldType> candidateFieldTypes;
+    private CompositeDataCubeFieldType compositeMappedFieldType;
 
     /**
      * Cache for leaf results
@@ -58,8 +68,14 @@ public class StarTreeQueryContext {
 
     public StarTreeQueryContext(SearchContext context, QueryBuilder baseQueryBuilder) {
         this.baseQueryBuilder = baseQueryBuilder;
-        // TODO : We need to select the most appropriate one from multiple star tree field types.
-        compositeMappedFieldType = (CompositeDataCubeFieldType) context.mapperService().getCompositeFieldTypes().iterator().next();
+        candidateFieldTypes = context.mapperService()
+            .getCompositeFieldTypes()
+            .stream()
+            .filter(CompositeDataCubeFieldType.class::isInstance)
+            .map(CompositeDataCubeFieldType.class::cast)
+            .sorted(Comparator.comparing(CompositeDataCubeFieldType::name))
+            .toList();
+        compositeMappedFieldType = candidateFieldTypes.isEmpty() ? null : candidateFieldTypes.get(0);
         // need to cache star tree values only for multiple aggregations
         boolean cacheStarTreeValues = context.aggregations().factories().getFactories().length > 1;
         int cacheSize = cacheStarTreeValues ? context.indexShard().segments(false).size() : -1;
@@ -72,6 +88,7 @@ public class StarTreeQueryContext {
 
     // TODO : Make changes to change visibility into package private. Handle the same in @org.opensearch.search.SearchServiceStarTreeTests
     public StarTreeQueryContext(CompositeDataCubeFieldType compositeMappedFieldType, QueryBuilder baseQueryBuilder, int cacheSize) {
+        this.candidateFieldTypes = List.of(compositeMappedFieldType);
         this.compositeMappedFieldType = compositeMappedFieldType;
         this.baseQueryBuilder = baseQueryBuilder;
         if (cacheSize > -1) {
@@ -85,6 +102,10 @@ public class StarTreeQueryContext {
         return new CompositeIndexFieldInfo(compositeMappedFieldType.name(), compositeMappedFieldType.getCompositeIndexType());
     }
 
+    public CompositeDataCubeFieldType getStarTreeFieldType() {
+        return compositeMappedFieldType;
+    }
+
     public FixedBitSet maybeGetCachedNodeIdsForSegment(int ordinal) {
         return perSegmentNodeIdsCache != null ? perSegmentNodeIdsCache[ordinal] : null;
     }
@@ -100,29 +121,113 @@ public class StarTreeQueryContext {
     }
 
     /**
-     * Generates the Base StarTreeFilter and then recursively merges
+     * Selects the star-tree to serve the request with, generates its Base StarTreeFilter and then recursively merges
      * any aggregation specific STF.
+     * <p>
+     * When the index has multiple star-tree fields, every star-tree supporting the aggregations and the query is
+     * considered and the one whose dimension split order resolves the filtered and grouped dimensions with the
+     * shallowest traversal is selected.
      * @return true if recursively all filters were consolidated, else false.
      */
     public boolean consolidateAllFilters(SearchContext context) {
-        // Validate the fields and metrics required by aggregations are supported in star tree
+        CompositeDataCubeFieldType selectedFieldType = null;
+        StarTreeFilter selectedStarTreeFilter = null;
+        int selectedTraversalDepth = Integer.MAX_VALUE;
+        Set<String> groupByFields = new HashSet<>();
         for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
-            if (validateNestedAggregationStructure(compositeMappedFieldType, aggregatorFactory)) {
+            collectGroupByFields(aggregatorFactory, groupByFields);
+        }
+        for (CompositeDataCubeFieldType candidateFieldType : candidateFieldTypes) {
+            StarTreeFilter starTreeFilter = getStarTreeFilterIfSupported(context, candidateFieldType);
+            if (starTreeFilter == null) {
                 continue;
             }
-            // invalid query shape
+            int traversalDepth = getTraversalDepth(candidateFieldType, starTreeFilter, groupByFields);
+            if (traversalDepth < selectedTraversalDepth
+                || (traversalDepth == selectedTraversalDepth
+                    && candidateFieldType.getDimensions().size() < selectedFieldType.getDimensions().size())) {
+                selectedFieldType = candidateFieldType;
+                selectedStarTreeFilter = starTreeFilter;
+                selectedTraversalDepth = traversalDepth;
+            }
+        }
+        if (selectedFieldType == null) {
             return false;
         }
-
-        // Generate the base Star Tree Filter
+        compositeMappedFieldType = selectedFieldType;
         if (baseQueryBuilder != null) {
-            baseStarTreeFilter = getStarTreeFilter(context, baseQueryBuilder, compositeMappedFieldType);
-            return baseStarTreeFilter != null; // Base Query is not supported by star tree filter.
+            baseStarTreeFilter = selectedStarTreeFilter;
         }
         // TODO : Generate StarTreeFilter specific to aggregations by merging base and their parents.
         return true;
     }
 
+    /**
+     * Returns the base StarTreeFilter of the request for the given star-tree, or null when the star-tree cannot serve
+     * the request
+     */
+    private StarTreeFilter getStarTreeFilterIfSupported(SearchContext context, CompositeDataCubeFieldType compositeFieldType) {
+        // Validate the fields and metrics required by aggregations are supported in star tree
+        for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
+            if (validateNestedAggregationStructure(compositeFieldType, aggregatorFactory) == false) {
+                // invalid query shape
+                return null;
+            }
+        }
+
+        // Generate the base Star Tree Filter, null if Base Query is not supported by star tree filter.
+        if (baseQueryBuilder != null) {
+            return getStarTreeFilter(context, baseQueryBuilder, compositeFieldType);
+        }
+        return new StarTreeFilter(Collections.emptyMap());
+    }
+
+    /**
+     * Returns the number of dimensions, in the split order of the star-tree, a traversal goes through before all the
+     * dimensions filtered or grouped by the request are resolved. Dimensions the request does not use above that depth
+     * are resolved through star nodes.
+     */
+    private static int getTraversalDepth(
+        CompositeDataCubeFieldType compositeFieldType,
+        StarTreeFilter starTreeFilter,
+        Set<String> groupByFields
+    ) {
+        List<Dimension> dimensions = compositeFieldType.getDimensions();
+        int traversalDepth = 0;
+        for (int i = 0; i < dimensions.size(); i++) {
+            String field = dimensions.get(i).getField();
+            if (groupByFields.contains(field) || starTreeFilter.getDimensions().contains(field)) {
+                traversalDepth = i + 1;
+            }
+        }
+        return traversalDepth;
+    }
+
+    /**
+     * Collects the fields the aggregation and its sub-aggregations group the documents by
+     */
+    private static void collectGroupByFields(AggregatorFactory aggregatorFactory, Set<String> groupByFields) {
+        switch (aggregatorFactory) {
+            case MetricAggregatorFactory metricAggregatorFactory -> {
+                return;
+            }
+            case MultiTermsAggregationFactory multiTermsAggregationFactory -> groupByFields.addAll(
+                multiTermsAggregationFactory.getFields()
+            );
+            case ValuesSourceAggregatorFactory valuesSourceAggregatorFactory -> {
+                if (valuesSourceAggregatorFactory.getField() != null) {
+                    groupByFields.add(valuesSourceAggregatorFactory.getField());
+                }
+            }
+            case null, default -> {
+                return;
+            }
+        }
+        for (AggregatorFactory subFactory : aggregatorFactory.getSubFactories().getFactories()) {
+            collectGroupByFields(subFactory, groupByFields);
+        }
+    }
+
     public StarTreeFilter getBaseQueryStarTreeFilter() {
         if (baseStarTreeFilter == null) {
             return new StarTreeFilter(Collections.emptyMap());
@@ -144,7 +249,10 @@ public class StarTreeQueryContext {
             MetricStat metricStat = ((MetricAggregatorFactory) aggregatorFactory).getMetricStat();
             field = ((MetricAggregatorFactory) aggregatorFactory).getField();
 
-            return field != null && supportedMetrics.containsKey(field) && supportedMetrics.get(field).contains(metricStat);
+            return field != null
+                && supportedMetrics.containsKey(field)
+                && supportedMetrics.get(field).contains(metricStat)
+                && ((MetricAggregatorFactory) aggregatorFactory).supportsStarTreePrecomputation();
         }
         return false;
     }
@@ -189,6 +297,26 @@ public class StarTreeQueryContext {
         return true;
     }
 
+    private static boolean validateMultiTermsAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        AggregatorFactory aggregatorFactory
+    ) {
+        if (!(aggregatorFactory instanceof MultiTermsAggregationFactory multiTermsAggregationFactory)
+            || multiTermsAggregationFactory.hasOnlyFieldTerms() == false) {
+            return false;
+        }
+
+        // Validate every request field is part of dimensions, date dimensions only hold rounded values
+        for (String field : multiTermsAggregationFactory.getFields()) {
+            Dimension dimension = StarTreeQueryHelper.getMatchingDimensionOrNull(field, compositeIndexFieldInfo.getDimensions());
+            if (dimension == null || dimension instanceof DateDimension) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private StarTreeFilter getStarTreeFilter(
         SearchContext context,
         QueryBuilder queryBuilder,
@@ -264,6 +392,10 @@ public class StarTreeQueryContext {
                 compositeIndexFieldInfo,
                 rangeAggregatorFactory
             );
+            case MultiTermsAggregationFactory multiTermsAggregationFactory -> isValid = validateMultiTermsAggregationSupport(
+                compositeIndexFieldInfo,
+                multiTermsAggregationFactory
+            );
             case MetricAggregatorFactory metricAggregatorFactory -> {
                 isValid = validateStarTreeMetricSupport(compositeIndexFieldInfo, metricAggregatorFactory);
                 return isValid && metricAggregatorFactory.getSubFactories().getFactories().length == 0;
@@ -174,8 +174,10 @@ public class StarTreeQueryHelper {
                 if (!metricValuesIterator.advanceExact(starTreeEntryBit)) {
                     return; // Skip if no entries for this document
                 }
-                long metricValue = metricValuesIterator.nextValue();
-                updateBucket.accept(bucket, metricValue);
+                // Sketch metrics are stored as multiple values per entry
+                for (int i = 0, count = metricValuesIterator.entryValueCount(); i < count; i++) {
+                    updateBucket.accept(bucket, metricValuesIterator.nextValue());
+                }
             }
         };
     }
@@ -117,7 +117,8 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
                     // Get the appropriate mapper for this dimension
                     DimensionFilterMapper mapper = DimensionFilterMapper.Factory.fromMappedFieldType(
                         context.mapperService().fieldType(dimension),
-                        context
+                        context,
+                        compositeFieldType
                     );
                     if (mapper == null) {
                         return null; // Unsupported field type
@@ -203,7 +204,8 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
 
         DimensionFilterMapper mapper = DimensionFilterMapper.Factory.fromMappedFieldType(
             context.mapperService().fieldType(commonDimension),
-            context
+            context,
+            compositeFieldType
         );
         return new StarTreeFilter(Map.of(commonDimension, mapper.getFinalDimensionFilters(dimensionToFilters.get(commonDimension))));
     }
@@ -22,11 +22,13 @@ import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.compositeindex.datacube.DimensionDataType;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper.KeywordFieldType;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper.NumberFieldType;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryContext;
 import org.opensearch.search.startree.filter.DimensionFilter;
 import org.opensearch.search.startree.filter.ExactMatchDimFilter;
 import org.opensearch.search.startree.filter.MatchNoneFilter;
@@ -168,10 +170,31 @@ public interface DimensionFilterMapper {
             new IpFieldMapper()
         );
 
+        /**
+         * Returns the mapper for the field of the star-tree selected for the request
+         */
         public static DimensionFilterMapper fromMappedFieldType(MappedFieldType mappedFieldType, SearchContext searchContext) {
+            if (mappedFieldType != null && DateFieldMapper.CONTENT_TYPE.equals(mappedFieldType.typeName())) {
+                StarTreeQueryContext starTreeQueryContext = searchContext.getQueryShardContext().getStarTreeQueryContext();
+                CompositeDataCubeFieldType compositeFieldType = starTreeQueryContext != null
+                    ? starTreeQueryContext.getStarTreeFieldType()
+                    : (CompositeDataCubeFieldType) searchContext.mapperService().getCompositeFieldTypes().iterator().next();
+                return new StarDateFieldMapper(searchContext, compositeFieldType);
+            }
+            return fromMappedFieldType(mappedFieldType, searchContext, null);
+        }
+
+        /**
+         * Returns the mapper for the field of the given star-tree
+         */
+        public static DimensionFilterMapper fromMappedFieldType(
+            MappedFieldType mappedFieldType,
+            SearchContext searchContext,
+            CompositeDataCubeFieldType compositeFieldType
+        ) {
             if (mappedFieldType != null) {
                 if (DateFieldMapper.CONTENT_TYPE.equals(mappedFieldType.typeName())) {
-                    return new StarDateFieldMapper(searchContext);
+                    return new StarDateFieldMapper(searchContext, compositeFieldType);
                 }
                 return DIMENSION_FILTER_MAPPINGS.get(mappedFieldType.typeName());
             }
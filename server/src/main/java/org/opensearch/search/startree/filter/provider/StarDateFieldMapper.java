@@ -35,12 +35,9 @@ class StarDateFieldMapper implements DimensionFilterMapper {
     DateDimension dateDimension;
     List<String> sortedSubDimensions;
 
-    public StarDateFieldMapper(SearchContext searchContext) {
+    public StarDateFieldMapper(SearchContext searchContext, CompositeDataCubeFieldType compositeDataCubeFieldType) {
         this.nowSupplier = () -> searchContext.getQueryShardContext().nowInMillis();
-        this.compositeDataCubeFieldType = (CompositeDataCubeFieldType) searchContext.mapperService()
-            .getCompositeFieldTypes()
-            .iterator()
-            .next();
+        this.compositeDataCubeFieldType = compositeDataCubeFieldType;
         // Single date-field is used as of now
         dateDimension = (DateDimension) compositeDataCubeFieldType.getDimensions()
             .stream()
@@ -86,7 +86,7 @@ public interface StarTreeFilterProvider {
             String field = termQueryBuilder.fieldName();
             MappedFieldType mappedFieldType = context.mapperService().fieldType(field);
             DimensionFilterMapper dimensionFilterMapper = mappedFieldType != null
-                ? DimensionFilterMapper.Factory.fromMappedFieldType(mappedFieldType, context)
+                ? DimensionFilterMapper.Factory.fromMappedFieldType(mappedFieldType, context, compositeFieldType)
                 : null;
             Dimension matchedDimension = StarTreeQueryHelper.getMatchingDimensionOrNull(field, compositeFieldType.getDimensions());
             if (matchedDimension == null || mappedFieldType == null || dimensionFilterMapper == null) {
@@ -109,7 +109,7 @@ public interface StarTreeFilterProvider {
             Dimension matchedDimension = StarTreeQueryHelper.getMatchingDimensionOrNull(field, compositeFieldType.getDimensions());
             MappedFieldType mappedFieldType = context.mapperService().fieldType(field);
             DimensionFilterMapper dimensionFilterMapper = mappedFieldType != null
-                ? DimensionFilterMapper.Factory.fromMappedFieldType(mappedFieldType, context)
+                ? DimensionFilterMapper.Factory.fromMappedFieldType(mappedFieldType, context, compositeFieldType)
                 : null;
             if (matchedDimension == null || mappedFieldType == null || dimensionFilterMapper == null) {
                 return null; // Indicates Aggregators to fallback to default implementation.
@@ -133,7 +133,7 @@ public interface StarTreeFilterProvider {
             MappedFieldType mappedFieldType = context.mapperService().fieldType(field);
             DimensionFilterMapper dimensionFilterMapper = mappedFieldType == null
                 ? null
-                : DimensionFilterMapper.Factory.fromMappedFieldType(mappedFieldType, context);
+                : DimensionFilterMapper.Factory.fromMappedFieldType(mappedFieldType, context, compositeFieldType);
             if (matchedDimension == null || mappedFieldType == null || dimensionFilterMapper == null) {
                 return null;
             }
@@ -143,6 +143,76 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
     }
 
+    public void testParseCompleteItems() throws IOException {
+        StringBuilder body = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        int numItems = randomIntBetween(1, 20);
+        for (int i = 0; i < numItems; i++) {
+            if (randomBoolean()) {
+                body.append("{ \"delete\":{ \"_id\": \"").append(i).append("\" } }\n");
+                expected.add("delete " + i);
+            } else {
+                String source = "{\"field\":\"" + randomAlphaOfLengthBetween(0, 50) + "\"}";
+                body.append("{ \"index\":{ \"_id\": \"").append(i).append("\" } }\n").append(source).append("\n");
+                expected.add("index " + i + " " + source);
+            }
+        }
+        BytesArray data = new BytesArray(body.toString());
+        BulkRequestParser parser = new BulkRequestParser();
+        List<String> parsed = new ArrayList<>();
+        // the body arrives in random parts, which may end in the middle of an item
+        int start = 0;
+        int end = 0;
+        while (end < data.length()) {
+            end = randomIntBetween(end + 1, data.length());
+            int consumed = parser.parseCompleteItems(
+                data.slice(start, end - start),
+                0,
+                false,
+                "foo",
+                null,
+                null,
+                null,
+                null,
+                false,
+                MediaTypeRegistry.JSON,
+                indexRequest -> parsed.add("index " + indexRequest.id() + " " + indexRequest.source().utf8ToString()),
+                req -> fail(),
+                deleteRequest -> parsed.add("delete " + deleteRequest.id())
+            );
+            assertThat(consumed, Matchers.lessThanOrEqualTo(end - start));
+            start += consumed;
+        }
+        assertEquals(data.length(), start);
+        assertEquals(expected, parsed);
+    }
+
+    public void testParseCompleteItemsReportsLinesOfTheBody() {
+        BytesArray data = new BytesArray("{ \"delete\":{ \"_id\": \"1\" } }\n{ \"index\":{ \"_id\": \"2\", \"unknown\": \"x\" } }\n{}\n");
+        BulkRequestParser parser = new BulkRequestParser();
+        int lineOffset = randomIntBetween(0, 100);
+
+        IllegalArgumentException ex = expectThrows(
+            IllegalArgumentException.class,
+            () -> parser.parseCompleteItems(
+                data,
+                lineOffset,
+                randomBoolean(),
+                "foo",
+                null,
+                null,
+                null,
+                null,
+                false,
+                MediaTypeRegistry.JSON,
+                req -> fail(),
+                req -> fail(),
+                req -> {}
+            )
+        );
+        assertEquals("Action/metadata line [" + (lineOffset + 2) + "] contains an unknown parameter [unknown]", ex.getMessage());
+    }
+
     public void testFailOnExplicitIndex() {
         BytesArray request = new BytesArray("{ \"index\":{ \"_index\": \"foo\", \"_id\": \"bar\" } }\n{}\n");
         BulkRequestParser parser = new BulkRequestParser();
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class BulkShardRequestCoalescerTests extends OpenSearchTestCase {
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+    private final List<Tuple<BulkShardRequest, ActionListener<BulkShardResponse>>> executed = new CopyOnWriteArrayList<>();
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUpThreadPool() {
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @After
+    public void tearDownThreadPool() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    public void testMergesRequestsToTheSameShard() throws Exception {
+        BulkShardRequestCoalescer coalescer = coalescer("100ms", "1mb");
+        int numRequests = randomIntBetween(2, 5);
+        List<BulkShardRequest> requests = new ArrayList<>();
+        List<PlainActionFuture<BulkShardResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < numRequests; i++) {
+            BulkShardRequest request = request(shardId, RefreshPolicy.NONE, randomIntBetween(1, 5));
+            // the requests of different bulk requests are merged, whatever their parent task
+            request.setParentTask("node", i);
+            PlainActionFuture<BulkShardResponse> future = new PlainActionFuture<>();
+            coalescer.execute(request, future);
+            requests.add(request);
+            futures.add(future);
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        BulkShardRequest merged = executed.get(0).v1();
+        assertFalse(merged.getParentTask().isSet());
+        int numItems = requests.stream().mapToInt(request -> request.items().length).sum();
+        assertThat(merged.items().length, equalTo(numItems));
+        respond(executed.get(0));
+
+        for (int i = 0; i < numRequests; i++) {
+            BulkShardResponse response = futures.get(i).actionGet();
+            BulkItemRequest[] items = requests.get(i).items();
+            assertThat(response.getResponses().length, equalTo(items.length));
+            for (int j = 0; j < items.length; j++) {
+                assertThat(response.getResponses()[j].getItemId(), equalTo(items[j].id()));
+                assertThat(response.getResponses()[j].getId(), equalTo(items[j].request().id()));
+            }
+        }
+    }
+
+    public void testDoesNotMergeIncompatibleRequests() throws Exception {
+        BulkShardRequestCoalescer coalescer = coalescer("100ms", "1mb");
+        coalescer.execute(request(shardId, RefreshPolicy.NONE, 1), new PlainActionFuture<>());
+        coalescer.execute(request(new ShardId("index", "_na_", 1), RefreshPolicy.NONE, 1), new PlainActionFuture<>());
+        coalescer.execute(request(shardId, RefreshPolicy.WAIT_UNTIL, 1), new PlainActionFuture<>());
+        assertBusy(() -> assertThat(executed.size(), equalTo(3)));
+        for (Tuple<BulkShardRequest, ActionListener<BulkShardResponse>> execution : executed) {
+            assertThat(execution.v1().items().length, equalTo(1));
+        }
+    }
+
+    public void testSendsFullBatchWithoutWaiting() {
+        BulkShardRequestCoalescer coalescer = coalescer("1s", "1b");
+        BulkShardRequest request = request(shardId, RefreshPolicy.NONE, 1);
+        coalescer.execute(request, new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(1));
+        assertSame(request, executed.get(0).v1());
+    }
+
+    public void testFailsAllMergedRequests() throws Exception {
+        BulkShardRequestCoalescer coalescer = coalescer("100ms", "1mb");
+        List<PlainActionFuture<BulkShardResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PlainActionFuture<BulkShardResponse> future = new PlainActionFuture<>();
+            coalescer.execute(request(shardId, RefreshPolicy.NONE, 2), future);
+            futures.add(future);
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        executed.get(0).v2().onFailure(new IllegalStateException("boom"));
+        for (PlainActionFuture<BulkShardResponse> future : futures) {
+            IllegalStateException e = expectThrows(IllegalStateException.class, future::actionGet);
+            assertThat(e.getMessage(), equalTo("boom"));
+        }
+    }
+
+    public void testDoesNotMergeRequestsWithTransientHeaders() {
+        BulkShardRequestCoalescer coalescer = coalescer("1s", "1mb");
+        ThreadContext threadContext = threadPool.getThreadContext();
+        for (int i = 0; i < 2; i++) {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                if (randomBoolean()) {
+                    threadContext.putTransient("_user", "user");
+                } else {
+                    threadContext.putPersistent("_user", "user");
+                }
+                coalescer.execute(request(shardId, RefreshPolicy.NONE, 1), new PlainActionFuture<>());
+            }
+        }
+        assertThat(executed.size(), equalTo(2));
+    }
+
+    public void testCompletesListenersInTheirOwnContext() throws Exception {
+        BulkShardRequestCoalescer coalescer = coalescer("100ms", "1mb");
+        ThreadContext threadContext = threadPool.getThreadContext();
+        int numRequests = randomIntBetween(2, 5);
+        List<PlainActionFuture<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < numRequests; i++) {
+            PlainActionFuture<List<String>> future = new PlainActionFuture<>();
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.addResponseHeader("caller", Integer.toString(i));
+                coalescer.execute(
+                    request(shardId, RefreshPolicy.NONE, 1),
+                    ActionListener.map(future, response -> threadContext.getResponseHeaders().get("caller"))
+                );
+            }
+            futures.add(future);
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            respond(executed.get(0));
+        }
+        for (int i = 0; i < numRequests; i++) {
+            assertThat(futures.get(i).actionGet(), equalTo(List.of(Integer.toString(i))));
+        }
+    }
+
+    public void testFailsRequestsWhenSchedulingIsRejected() {
+        ThreadPool terminated = new TestThreadPool(getTestName() + "-terminated");
+        ThreadPool.terminate(terminated, 10, TimeUnit.SECONDS);
+        BulkShardRequestCoalescer coalescer = coalescer(terminated, "100ms", "1mb");
+        PlainActionFuture<BulkShardResponse> future = new PlainActionFuture<>();
+        coalescer.execute(request(shardId, RefreshPolicy.NONE, 1), future);
+        expectThrows(OpenSearchRejectedExecutionException.class, future::actionGet);
+        assertThat(executed.size(), equalTo(0));
+
+        // the rejected batch is not left behind
+        PlainActionFuture<BulkShardResponse> next = new PlainActionFuture<>();
+        coalescer.execute(request(shardId, RefreshPolicy.NONE, 1), next);
+        expectThrows(OpenSearchRejectedExecutionException.class, next::actionGet);
+    }
+
+    private BulkShardRequestCoalescer coalescer(String window, String maxSize) {
+        return coalescer(threadPool, window, maxSize);
+    }
+
+    private BulkShardRequestCoalescer coalescer(ThreadPool threadPool, String window, String maxSize) {
+        Settings settings = Settings.builder()
+            .put(BulkShardRequestCoalescer.COALESCE_WINDOW_SETTING.getKey(), window)
+            .put(BulkShardRequestCoalescer.COALESCE_MAX_SIZE_SETTING.getKey(), maxSize)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new BulkShardRequestCoalescer(
+            threadPool,
+            clusterSettings,
+            (request, listener) -> executed.add(Tuple.tuple(request, listener))
+        );
+    }
+
+    private static BulkShardRequest request(ShardId shardId, RefreshPolicy refreshPolicy, int numItems) {
+        BulkItemRequest[] items = new BulkItemRequest[numItems];
+        for (int i = 0; i < numItems; i++) {
+            items[i] = new BulkItemRequest(i, new IndexRequest("index").id(randomAlphaOfLength(10)).source("field", "value"));
+        }
+        return new BulkShardRequest(shardId, refreshPolicy, items);
+    }
+
+    private static void respond(Tuple<BulkShardRequest, ActionListener<BulkShardResponse>> execution) {
+        BulkItemRequest[] items = execution.v1().items();
+        BulkItemResponse[] responses = new BulkItemResponse[items.length];
+        for (int i = 0; i < items.length; i++) {
+            responses[i] = new BulkItemResponse(
+                items[i].id(),
+                DocWriteRequest.OpType.INDEX,
+                new BulkItemResponse.Failure("index", items[i].request().id(), new IllegalArgumentException("rejected"))
+            );
+        }
+        execution.v2().onResponse(new BulkShardResponse(execution.v1().shardId(), responses));
+    }
+}
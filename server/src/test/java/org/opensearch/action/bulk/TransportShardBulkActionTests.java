@@ -68,6 +68,7 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
@@ -100,9 +101,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -115,6 +118,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
@@ -293,6 +297,124 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testParseAhead() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_BULK_PARSE_AHEAD_THREADS_SETTING.getKey(), randomIntBetween(1, 4)).build()
+        );
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, BulkParseAhead.WINDOW * 3)];
+        boolean[] expectFailure = new boolean[items.length];
+        List<String> indexed = new ArrayList<>();
+        int expectedDocs = 0;
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> writeRequest;
+            switch (randomInt(9)) {
+                case 0:
+                    writeRequest = new IndexRequest("index").id("id_" + i).source("{\"foo\": ", MediaTypeRegistry.JSON);
+                    expectFailure[i] = true;
+                    break;
+                case 1:
+                    // the mapping changes, so the documents parsed ahead with the previous mapping are parsed again
+                    writeRequest = new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE, "field_" + i, "bar");
+                    indexed.add("id_" + i);
+                    expectedDocs++;
+                    break;
+                case 2:
+                    if (indexed.isEmpty() == false) {
+                        writeRequest = new DeleteRequest("index").id(indexed.remove(randomIntBetween(0, indexed.size() - 1)));
+                        expectedDocs--;
+                        break;
+                    }
+                    // fall through
+                default:
+                    writeRequest = new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE, "foo", "bar");
+                    indexed.add("id_" + i);
+                    expectedDocs++;
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        // counts the parse tasks forked on the write executor and the ones that ran on a write thread
+        final AtomicInteger forkedParseTasks = new AtomicInteger();
+        final AtomicInteger parseTasksOnWriteThreads = new AtomicInteger();
+        final ExecutorService writeExecutor = threadPool.executor(Names.WRITE);
+        final ThreadPool parseAheadThreadPool = mock(ThreadPool.class);
+        when(parseAheadThreadPool.executor(Names.WRITE)).thenReturn(new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                if (command instanceof BulkParseAhead.Helper) {
+                    forkedParseTasks.incrementAndGet();
+                    writeExecutor.execute(() -> {
+                        if (Thread.currentThread().getName().contains("[" + Names.WRITE + "]")) {
+                            parseTasksOnWriteThreads.incrementAndGet();
+                        }
+                        command.run();
+                    });
+                } else {
+                    writeExecutor.execute(command);
+                }
+            }
+
+            @Override
+            public void shutdown() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return writeExecutor.isShutdown();
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return writeExecutor.isTerminated();
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) {
+                throw new UnsupportedOperationException();
+            }
+        });
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            (update, shardId, listener) -> ActionListener.completeWith(listener, () -> {
+                IndexMetadata indexMetadata = shard.indexSettings().getIndexMetadata();
+                updateMappings(shard, IndexMetadata.builder(indexMetadata).putMapping(update.toString()).build());
+                return null;
+            }),
+            listener -> listener.onResponse(null),
+            new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {
+                BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                assertThat(responses, arrayWithSize(items.length));
+                for (int i = 0; i < items.length; i++) {
+                    assertThat(responses[i].getItemId(), equalTo(i));
+                    assertThat(responses[i].isFailed(), equalTo(expectFailure[i]));
+                }
+            }), latch),
+            parseAheadThreadPool,
+            Names.WRITE
+        );
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        // the execution of the first item forks the parse tasks, which all run on the write thread pool
+        assertThat(forkedParseTasks.get(), greaterThan(0));
+        assertBusy(() -> assertThat(parseTasksOnWriteThreads.get(), equalTo(forkedParseTasks.get())));
+        assertDocCount(shard, expectedDocs);
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
@@ -308,7 +430,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
         IndexShard shard = mock(IndexShard.class);
         when(shard.shardId()).thenReturn(shardId);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenReturn(
             mappingUpdate
         );
         when(shard.mapperService()).thenReturn(mock(MapperService.class));
@@ -330,9 +452,9 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         assertThat("mappings were \"updated\" once", updateCalled.get(), equalTo(1));
 
         // Verify that the shard "executed" the operation once
-        verify(shard, times(1)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+        verify(shard, times(1)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any());
 
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenReturn(
             success
         );
 
@@ -347,7 +469,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
         // Verify that the shard "executed" the operation only once (1 for previous invocations plus
         // 1 for this execution)
-        verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+        verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any());
 
         BulkItemResponse primaryResponse = bulkShardRequest.items()[0].getPrimaryResponse();
 
@@ -572,7 +694,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Exception err = new OpenSearchException("I'm dead <(x.x)>");
         Engine.IndexResult indexResult = new Engine.IndexResult(err, 0, 0, 0);
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenReturn(
             indexResult
         );
         when(shard.indexSettings()).thenReturn(indexSettings);
@@ -629,7 +751,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Exception err = new VersionConflictEngineException(shardId, "id", "I'm conflicted <(;_;)>");
         Engine.IndexResult indexResult = new Engine.IndexResult(err, 0, 0, 0);
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenReturn(
             indexResult
         );
         when(shard.indexSettings()).thenReturn(indexSettings);
@@ -685,7 +807,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Translog.Location resultLocation = new Translog.Location(42, 42, 42);
         Engine.IndexResult indexResult = new FakeIndexResult(1, 1, 13, created, resultLocation);
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenReturn(
             indexResult
         );
         when(shard.indexSettings()).thenReturn(indexSettings);
@@ -917,7 +1039,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Engine.IndexResult successResult1 = new FakeIndexResult(1, 1, 10, true, resultLocation1);
         Engine.IndexResult successResult2 = new FakeIndexResult(1, 1, 12, true, resultLocation2);
 
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenReturn(
             successResult1
         ).thenReturn(successResult2);
 
@@ -1042,7 +1164,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
         // Mock successful operations
         AtomicInteger locationCounter = new AtomicInteger(42);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenAnswer(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenAnswer(
             invocation -> {
                 int loc = locationCounter.getAndIncrement();
                 return new FakeIndexResult(1, 1, loc, true, new Translog.Location(loc, loc, loc));
@@ -1167,16 +1289,17 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Engine.IndexResult success = new FakeIndexResult(1, 1, 13, true, resultLocation);
 
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenAnswer(ir -> {
-            if (randomBoolean()) {
-                return conflictedResult;
-            }
-            if (randomBoolean()) {
-                return mappingUpdate;
-            } else {
-                return success;
-            }
-        });
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+            .thenAnswer(ir -> {
+                if (randomBoolean()) {
+                    return conflictedResult;
+                }
+                if (randomBoolean()) {
+                    return mappingUpdate;
+                } else {
+                    return success;
+                }
+            });
         when(shard.indexSettings()).thenReturn(indexSettings);
         when(shard.shardId()).thenReturn(shardId);
         when(shard.mapperService()).thenReturn(mock(MapperService.class));
@@ -1237,7 +1360,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Engine.IndexResult conflictedResult = new Engine.IndexResult(err, 0);
 
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenAnswer(
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any())).thenAnswer(
             ir -> conflictedResult
         );
         when(shard.indexSettings()).thenReturn(indexSettings);
@@ -1336,11 +1459,9 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
             IndexShard shard = mock(IndexShard.class);
             when(shard.shardId()).thenReturn(shardId);
-            when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
-                success1,
-                mappingUpdate,
-                success2
-            );
+            when(shard.indexSettings()).thenReturn(new IndexSettings(indexMetadata(), Settings.EMPTY));
+            when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+                .thenReturn(success1, mappingUpdate, success2);
             when(shard.getFailedIndexResult(any(OpenSearchRejectedExecutionException.class), anyLong())).thenCallRealMethod();
             when(shard.mapperService()).thenReturn(mock(MapperService.class));
 
@@ -1378,7 +1499,16 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
             assertThat("mappings were \"updated\" once", updateCalled.get(), equalTo(1));
 
-            verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+            verify(shard, times(2)).applyIndexOperationOnPrimary(
+                anyLong(),
+                any(),
+                any(),
+                anyLong(),
+                anyLong(),
+                anyLong(),
+                anyBoolean(),
+                any()
+            );
 
             BulkItemResponse primaryResponse1 = bulkShardRequest.items()[0].getPrimaryResponse();
             assertThat(primaryResponse1.getItemId(), equalTo(0));
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+
+public class SpilledAggregationsTests extends OpenSearchTestCase {
+
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+        new SearchModule(Settings.EMPTY, emptyList()).getNamedWriteables()
+    );
+
+    public void testMergeTermsMatchesReduce() throws Exception {
+        int requiredSize = randomIntBetween(1, 50);
+        // the terms builder breaks ties on the count with the key, so the top buckets are the same whatever the reduce
+        BucketOrder order = randomBoolean()
+            ? BucketOrder.compound(BucketOrder.count(false), BucketOrder.key(true))
+            : BucketOrder.key(randomBoolean());
+        int numPartials = randomIntBetween(2, 6);
+        List<InternalAggregations> partials = new ArrayList<>();
+        for (int i = 0; i < numPartials; i++) {
+            partials.add(
+                InternalAggregations.from(
+                    List.of(randomLongTerms(order, requiredSize), new InternalMax("max", randomDouble(), DocValueFormat.RAW, null))
+                )
+            );
+        }
+        InternalAggregations expected = InternalAggregations.topLevelReduce(partials, finalReduceContext());
+
+        Path directory = createTempDir();
+        InternalAggregations merged;
+        try (SpilledAggregations spilled = new SpilledAggregations(directory, 0, namedWriteableRegistry)) {
+            List<InternalAggregations> inMemory = new ArrayList<>();
+            for (InternalAggregations partial : partials.subList(0, numPartials - 1)) {
+                InternalAggregations kept = spilled.maybeSpill(partial, 1);
+                assertNull(kept.get("terms"));
+                assertNotNull(kept.get("max"));
+                inMemory.add(kept);
+            }
+            inMemory.add(partials.get(numPartials - 1));
+            assertTrue(spilled.hasSpilled());
+            assertEquals(numPartials - 1, countSpilledFiles(directory));
+            merged = spilled.merge(InternalAggregations.reduce(inMemory, partialReduceContext()), partialReduceContext());
+        }
+        assertEquals(0, countSpilledFiles(directory));
+        InternalAggregations actual = InternalAggregations.topLevelReduce(List.of(merged), finalReduceContext());
+
+        LongTerms expectedTerms = expected.get("terms");
+        LongTerms actualTerms = actual.get("terms");
+        assertEquals(expectedTerms.getBuckets().size(), actualTerms.getBuckets().size());
+        for (int i = 0; i < expectedTerms.getBuckets().size(); i++) {
+            assertEquals(expectedTerms.getBuckets().get(i).getKey(), actualTerms.getBuckets().get(i).getKey());
+            assertEquals(expectedTerms.getBuckets().get(i).getDocCount(), actualTerms.getBuckets().get(i).getDocCount());
+        }
+        assertEquals(expectedTerms.getSumOfOtherDocCounts(), actualTerms.getSumOfOtherDocCounts());
+        assertEquals(((InternalMax) expected.get("max")).getValue(), ((InternalMax) actual.get("max")).getValue(), 0d);
+    }
+
+    public void testSmallPartialIsNotSpilled() throws Exception {
+        Path directory = createTempDir();
+        try (SpilledAggregations spilled = new SpilledAggregations(directory, 1024, namedWriteableRegistry)) {
+            InternalAggregations partial = InternalAggregations.from(List.of(randomLongTerms(BucketOrder.count(false), 10)));
+            assertSame(partial, spilled.maybeSpill(partial, 1024));
+            assertFalse(spilled.hasSpilled());
+        }
+        assertEquals(0, countSpilledFiles(directory));
+    }
+
+    private static long countSpilledFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("aggs-spill-")).count();
+        }
+    }
+
+    private LongTerms randomLongTerms(BucketOrder order, int requiredSize) {
+        int numBuckets = randomIntBetween(0, SpilledAggregations.SLICE_SIZE * 3);
+        TreeSet<Long> terms = new TreeSet<>();
+        while (terms.size() < numBuckets) {
+            terms.add(randomLongBetween(0, SpilledAggregations.SLICE_SIZE * 4));
+        }
+        List<LongTerms.Bucket> buckets = new ArrayList<>();
+        for (long term : terms) {
+            buckets.add(new LongTerms.Bucket(term, randomIntBetween(1, 100), InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+        }
+        return new LongTerms(
+            "terms",
+            BucketOrder.key(true),
+            order,
+            null,
+            DocValueFormat.RAW,
+            numBuckets,
+            false,
+            randomIntBetween(0, 10),
+            buckets,
+            0,
+            new TermsAggregator.BucketCountThresholds(1, 0, requiredSize, numBuckets)
+        );
+    }
+
+    private static InternalAggregation.ReduceContext partialReduceContext() {
+        return InternalAggregation.ReduceContext.forPartialReduction(
+            BigArrays.NON_RECYCLING_INSTANCE,
+            null,
+            () -> PipelineAggregator.PipelineTree.EMPTY
+        );
+    }
+
+    private static InternalAggregation.ReduceContext finalReduceContext() {
+        return InternalAggregation.ReduceContext.forFinalReduction(
+            BigArrays.NON_RECYCLING_INSTANCE,
+            null,
+            b -> {},
+            PipelineAggregator.PipelineTree.EMPTY
+        );
+    }
+}
@@ -62,6 +62,7 @@ import java.util.stream.Collectors;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class CacheTests extends OpenSearchTestCase {
     private int numberOfEntries;
@@ -432,6 +433,142 @@ public class CacheTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBufferedPromotionsAreAppliedBeforeEvictions() {
+        int numberOfSegments = randomFrom(1, 2, 4, 8, 16, 64, 128, 256);
+        boolean bufferedPromotions = randomBoolean();
+        List<Integer> evictedKeys = new ArrayList<>();
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setNumberOfSegments(numberOfSegments)
+            .setMaximumWeight(numberOfEntries)
+            .setBufferedPromotions(bufferedPromotions)
+            .removalListener(notification -> evictedKeys.add(notification.getKey()))
+            .build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        // fewer hits than a read buffer holds are only promoted by the next mutation of the LRU list
+        int numberOfHits = randomIntBetween(1, Cache.READ_BUFFER_SIZE / 2 - 1);
+        for (int i = 0; i < numberOfHits; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        for (int i = numberOfEntries; i < numberOfEntries + numberOfHits; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(numberOfEntries, cache.count());
+        assertEquals(numberOfHits, evictedKeys.size());
+        for (int i = 0; i < numberOfHits; i++) {
+            assertEquals(numberOfHits + i, (int) evictedKeys.get(i));
+        }
+        int lastKey = -1;
+        for (Integer key : cache.keys()) {
+            lastKey = key;
+        }
+        assertEquals(numberOfHits + numberOfHits, lastKey);
+    }
+
+    // concurrently get, put and invalidate entries with buffered promotions, which wraps around the slots of the read buffers and
+    // races the hits that claimed a slot with the drains, then fill the read buffers while the LRU lock is held so that the hits
+    // fall back to promoting their entries under the lock, and check that the LRU list still accounts for the count and weight
+    public void testBufferedPromotionsUnderConcurrentGetPutInvalidate() throws Exception {
+        int numberOfThreads = randomIntBetween(2, 16);
+        int numberOfKeys = randomIntBetween(16, 256);
+        long maximumWeight = randomLongBetween(numberOfKeys / 2, 2L * numberOfKeys);
+        // a put of the blocking key waits in the weigher, which is called under the LRU lock, until the gate is opened
+        int blockingKey = -1;
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicBoolean blocking = new AtomicBoolean();
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setNumberOfSegments(randomFrom(1, 2, 4, 8, 16, 64, 128, 256))
+            .setMaximumWeight(maximumWeight)
+            .setBufferedPromotions(true)
+            .weigher((k, v) -> {
+                if (k == blockingKey && blocking.get()) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return 1 + Math.floorMod(k, 3);
+            })
+            .build();
+
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < 20 * numberOfKeys; j++) {
+                        Integer key = random.nextInt(numberOfKeys);
+                        int operation = random.nextInt(10);
+                        if (operation < 7) {
+                            cache.get(key);
+                        } else if (operation < 9) {
+                            cache.put(key, Integer.toString(j));
+                        } else {
+                            cache.invalidate(key);
+                        }
+                    }
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        barrier.await();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertLruListMatchesCountAndWeight(cache, numberOfKeys, maximumWeight);
+
+        cache.put(0, "0");
+        blocking.set(true);
+        Thread blockedPut = new Thread(() -> cache.put(blockingKey, "blocking"));
+        blockedPut.start();
+        assertBusy(() -> assertEquals(Thread.State.WAITING, blockedPut.getState()));
+        // more hits than a read buffer holds, that cannot be drained while the put holds the LRU lock
+        threads.clear();
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j <= Cache.READ_BUFFER_SIZE; j++) {
+                    assertEquals("0", cache.get(0));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        // the hits that find their read buffer full wait for the LRU lock to promote their entry
+        for (Thread thread : threads) {
+            assertBusy(() -> assertEquals(Thread.State.WAITING, thread.getState()));
+        }
+        gate.countDown();
+        blockedPut.join();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertLruListMatchesCountAndWeight(cache, numberOfKeys, maximumWeight);
+    }
+
+    private static void assertLruListMatchesCountAndWeight(Cache<Integer, String> cache, int numberOfKeys, long maximumWeight) {
+        cache.refresh();
+        Set<Integer> keys = new HashSet<>();
+        long weight = 0;
+        for (Integer key : cache.keys()) {
+            assertTrue("key [" + key + "] is linked twice", keys.add(key));
+            weight += 1 + Math.floorMod(key, 3);
+        }
+        assertEquals(keys.size(), cache.count());
+        assertEquals(weight, cache.weight());
+        assertThat(cache.weight(), lessThanOrEqualTo(maximumWeight));
+        // the entries that can be looked up are the ones of the LRU list
+        for (int key = -1; key < numberOfKeys; key++) {
+            assertEquals(keys.contains(key), cache.get(key) != null);
+        }
+    }
+
     // randomly invalidate some cached entries, then check that a lookup for each of those and only those keys is null
     public void testInvalidate() {
         int numberOfSegments = randomFrom(1, 2, 4, 8, 16, 64, 128, 256);
@@ -34,6 +34,7 @@ package org.opensearch.common.util;
 
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
@@ -55,12 +56,14 @@ import java.util.function.Function;
 import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
 
 public class BigArraysTests extends OpenSearchTestCase {
 
     private BigArrays randombigArrays() {
-        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        final Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), randomBoolean()).build();
+        return new MockBigArrays(new MockPageCacheRecycler(settings), new NoneCircuitBreakerService());
     }
 
     private BigArrays bigArrays;
@@ -352,6 +355,68 @@ public class BigArraysTests extends OpenSearchTestCase {
         return bytearray;
     }
 
+    public void testOffHeapArrays() {
+        final Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true).build();
+        final BigArrays offHeapBigArrays = new BigArrays(new MockPageCacheRecycler(settings), null, CircuitBreaker.REQUEST);
+        final int totalLen = randomIntBetween(PageCacheRecycler.INT_PAGE_SIZE + 1, 100000);
+        final boolean clearOnResize = randomBoolean();
+
+        IntArray ints = offHeapBigArrays.newIntArray(totalLen, clearOnResize);
+        LongArray longs = offHeapBigArrays.newLongArray(totalLen, clearOnResize);
+        DoubleArray doubles = offHeapBigArrays.newDoubleArray(totalLen, clearOnResize);
+        assertThat(ints, instanceOf(BigOffHeapIntArray.class));
+        assertThat(longs, instanceOf(BigOffHeapLongArray.class));
+        assertThat(doubles, instanceOf(BigOffHeapDoubleArray.class));
+        assertEquals(AbstractBigOffHeapArray.estimateRamBytes(totalLen, Integer.BYTES), ints.ramBytesUsed());
+        assertEquals(AbstractBigOffHeapArray.estimateRamBytes(totalLen, Long.BYTES), longs.ramBytesUsed());
+        assertEquals(AbstractBigOffHeapArray.estimateRamBytes(totalLen, Double.BYTES), doubles.ramBytesUsed());
+
+        final int[] intRef = new int[totalLen];
+        final long[] longRef = new long[totalLen];
+        final double[] doubleRef = new double[totalLen];
+        for (int i = 0; i < totalLen; ++i) {
+            intRef[i] = randomInt();
+            longRef[i] = randomLong();
+            doubleRef[i] = randomDouble();
+            ints.set(i, intRef[i]);
+            longs.set(i, longRef[i]);
+            doubles.set(i, doubleRef[i]);
+        }
+        final int from = randomIntBetween(0, totalLen - 1);
+        final int to = randomIntBetween(from, totalLen);
+        ints.fill(from, to, 42);
+        longs.fill(from, to, 42L);
+        doubles.fill(from, to, 42d);
+        Arrays.fill(intRef, from, to, 42);
+        Arrays.fill(longRef, from, to, 42L);
+        Arrays.fill(doubleRef, from, to, 42d);
+        final int index = randomIntBetween(0, totalLen - 1);
+        intRef[index] += 3;
+        longRef[index] += 3;
+        doubleRef[index] += 3;
+        assertEquals(intRef[index], ints.increment(index, 3));
+        assertEquals(longRef[index], longs.increment(index, 3));
+        assertEquals(doubleRef[index], doubles.increment(index, 3), 0d);
+
+        ints = offHeapBigArrays.grow(ints, totalLen * 2L);
+        longs = offHeapBigArrays.grow(longs, totalLen * 2L);
+        doubles = offHeapBigArrays.grow(doubles, totalLen * 2L);
+        assertThat(ints, instanceOf(BigOffHeapIntArray.class));
+        assertThat(longs, instanceOf(BigOffHeapLongArray.class));
+        assertThat(doubles, instanceOf(BigOffHeapDoubleArray.class));
+        for (int i = 0; i < totalLen; ++i) {
+            assertEquals(intRef[i], ints.get(i));
+            assertEquals(longRef[i], longs.get(i));
+            assertEquals(doubleRef[i], doubles.get(i), 0d);
+        }
+        if (clearOnResize) {
+            assertEquals(0, ints.get(totalLen * 2L - 1));
+            assertEquals(0, longs.get(totalLen * 2L - 1));
+            assertEquals(0, doubles.get(totalLen * 2L - 1), 0d);
+        }
+        Releasables.close(ints, longs, doubles);
+    }
+
     public void testMaxSizeExceededOnNew() throws Exception {
         final long size = scaledRandomIntBetween(5, 1 << 22);
         final long maxSize = size - 1;
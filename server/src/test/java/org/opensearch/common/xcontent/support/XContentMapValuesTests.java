@@ -39,7 +39,10 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -92,6 +95,77 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
             toMap(expected, xContentType, humanReadable),
             XContentMapValues.filter(toMap(actual, xContentType, humanReadable), sourceIncludes, sourceExcludes)
         );
+        assertEquals(
+            "Filtered source must be equal to the expected map",
+            toMap(expected, xContentType, humanReadable),
+            toMap(filterStream(actual, xContentType, humanReadable, sourceIncludes, sourceExcludes), xContentType, humanReadable)
+        );
+    }
+
+    private static Builder filterStream(
+        Builder actual,
+        XContentType xContentType,
+        boolean humanReadable,
+        String[] includes,
+        String[] excludes
+    ) throws IOException {
+        XContentBuilder sourceBuilder = MediaTypeRegistry.contentBuilder(xContentType).humanReadable(humanReadable);
+        BytesReference source = BytesReference.bytes(actual.apply(sourceBuilder));
+        return builder -> {
+            try (
+                XContentParser parser = xContentType.xContent()
+                    .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source.streamInput())
+            ) {
+                XContentMapValues.filterStream(includes, excludes).accept(parser, builder);
+            }
+            return builder;
+        };
+    }
+
+    public void testFilterStreamKeepsOrderAndRepresentation() throws IOException {
+        BytesReference source = BytesReference.bytes(
+            XContentFactory.jsonBuilder()
+                .startObject()
+                .field("z", 1.0)
+                .startObject("obj")
+                .field("b", "b")
+                .field("a", "a")
+                .field("c", "c")
+                .endObject()
+                .startArray("arr")
+                .startObject()
+                .field("a", 1)
+                .endObject()
+                .startObject()
+                .field("b", 2)
+                .endObject()
+                .endArray()
+                .field("a", 2)
+                .endObject()
+        );
+        assertEquals(
+            "{\"z\":1.0,\"obj\":{\"b\":\"b\",\"a\":\"a\"},\"arr\":[{\"a\":1}]}",
+            filterStream(source, "z", "obj.b", "*.a")
+        );
+        assertEquals("{}", filterStream(source, "missing"));
+        assertEquals("{\"obj\":{},\"arr\":[{\"a\":1}]}", filterStream(source, "obj", "arr", "-obj.*", "-arr.b"));
+    }
+
+    private String filterStream(BytesReference source, String... filters) throws IOException {
+        List<String> includes = new ArrayList<>();
+        List<String> excludes = new ArrayList<>();
+        for (String filter : filters) {
+            if (filter.startsWith("-")) {
+                excludes.add(filter.substring(1));
+            } else {
+                includes.add(filter);
+            }
+        }
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, source)) {
+            XContentMapValues.filterStream(includes.toArray(new String[0]), excludes.toArray(new String[0])).accept(parser, builder);
+        }
+        return builder.toString();
     }
 
     @SuppressWarnings({ "unchecked" })
@@ -1097,4 +1097,50 @@ public class IndexSettingsTests extends OpenSearchTestCase {
         settings = new IndexSettings(metadata, Settings.EMPTY);
         assertFalse(settings.isDerivedSourceEnabledForTranslog());
     }
+
+    public void testDocIdFuzzySetDefault() {
+        // the fuzzy set of the _id field is enabled by default
+        IndexMetadata metadata = newIndexMeta(
+            "index",
+            Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).build()
+        );
+        IndexSettings settings = new IndexSettings(metadata, Settings.EMPTY);
+        assertTrue(IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.get(metadata.getSettings()));
+        assertTrue(settings.isEnableFuzzySetForDocId());
+
+        // unless the index is append only, since its documents are never looked up by _id
+        metadata = newIndexMeta(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), true)
+                .build()
+        );
+        settings = new IndexSettings(metadata, Settings.EMPTY);
+        assertFalse(IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.get(metadata.getSettings()));
+        assertFalse(settings.isEnableFuzzySetForDocId());
+
+        // an explicit value overrides either default
+        boolean appendOnly = randomBoolean();
+        metadata = newIndexMeta(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), appendOnly)
+                .put(IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.getKey(), appendOnly)
+                .build()
+        );
+        settings = new IndexSettings(metadata, Settings.EMPTY);
+        assertEquals(appendOnly, settings.isEnableFuzzySetForDocId());
+        settings.updateIndexMetadata(
+            newIndexMeta(
+                "index",
+                Settings.builder()
+                    .put(metadata.getSettings())
+                    .put(IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.getKey(), appendOnly == false)
+                    .build()
+            )
+        );
+        assertEquals(appendOnly == false, settings.isEnableFuzzySetForDocId());
+    }
 }
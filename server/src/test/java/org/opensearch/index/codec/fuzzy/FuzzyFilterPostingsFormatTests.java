@@ -9,10 +9,21 @@
 package org.opensearch.index.codec.fuzzy;
 
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.BasePostingsFormatTestCase;
 import org.apache.lucene.tests.util.LuceneTestCase;
 import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
 
+import java.io.IOException;
 import java.util.TreeMap;
 
 @LuceneTestCase.SuppressSysoutChecks(bugUrl = "we log a lot on purpose")
@@ -33,4 +44,40 @@ public class FuzzyFilterPostingsFormatTests extends BasePostingsFormatTestCase {
     protected Codec getCodec() {
         return fuzzyFilterCodec;
     }
+
+    public void testLookupStats() throws IOException {
+        try (Directory dir = newDirectory()) {
+            int numDocs = atLeast(100);
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setCodec(fuzzyFilterCodec))) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("id", "present-" + i, Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                LeafReader leaf = getOnlyLeafReader(reader);
+                assertNull(FuzzyFilterPostingsFormat.lookupStats(leaf, "missing"));
+                FuzzyFilterPostingsFormat.LookupStats stats = FuzzyFilterPostingsFormat.lookupStats(leaf, "id");
+                assertNotNull(stats);
+                assertEquals(0, stats.getLookups());
+
+                TermsEnum termsEnum = leaf.terms("id").iterator();
+                for (int i = 0; i < numDocs; i++) {
+                    assertTrue(termsEnum.seekExact(new BytesRef("present-" + i)));
+                }
+                // the ids that are present are never skipped
+                assertEquals(numDocs, stats.getLookups());
+                assertEquals(0, stats.getSkipped());
+
+                for (int i = 0; i < numDocs; i++) {
+                    assertFalse(termsEnum.seekExact(new BytesRef("absent-" + i)));
+                }
+                assertEquals(2 * numDocs, stats.getLookups());
+                assertTrue(stats.getSkipped() > 0);
+                assertSame(stats, FuzzyFilterPostingsFormat.lookupStats(leaf, "id"));
+            }
+        }
+    }
 }
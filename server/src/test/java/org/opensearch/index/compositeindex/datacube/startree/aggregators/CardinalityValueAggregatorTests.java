@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.RandomAccessInput;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.CardinalitySketch;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CardinalityValueAggregatorTests extends OpenSearchTestCase {
+
+    public void testIdentityMetricValue() {
+        CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        assertTrue(aggregator.getIdentityMetricValue().isEmpty());
+        assertTrue(aggregator.getInitialAggregatedValueForSegmentDocValue(null).isEmpty());
+        assertTrue(aggregator.mergeAggregatedValues(null, null).isEmpty());
+        assertTrue(aggregator.getInitialAggregatedValue(null).isEmpty());
+    }
+
+    public void testMatchesCardinalityAggregationHashing() {
+        CardinalityValueAggregator longAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        CardinalityValueAggregator doubleAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.DOUBLE);
+        int numValues = randomIntBetween(1, 10_000);
+        CardinalitySketch longSketch = longAggregator.getIdentityMetricValue();
+        CardinalitySketch doubleSketch = doubleAggregator.getIdentityMetricValue();
+        try (
+            HyperLogLogPlusPlus longCounts = new HyperLogLogPlusPlus(CardinalitySketch.PRECISION, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            HyperLogLogPlusPlus doubleCounts = new HyperLogLogPlusPlus(CardinalitySketch.PRECISION, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            for (int i = 0; i < numValues; i++) {
+                long value = randomLongBetween(0, 5_000);
+                longSketch = longAggregator.mergeAggregatedValueAndSegmentValue(longSketch, value);
+                longCounts.collect(0, BitMixer.mix64(value));
+                double doubleValue = randomDoubleBetween(0, 5_000, true);
+                doubleSketch = doubleAggregator.mergeAggregatedValueAndSegmentValue(
+                    doubleSketch,
+                    NumericUtils.doubleToSortableLong(doubleValue)
+                );
+                doubleCounts.collect(0, BitMixer.mix64(Double.doubleToLongBits(doubleValue)));
+            }
+            assertEquals(longCounts.cardinality(0), longSketch.cardinality());
+            assertEquals(doubleCounts.cardinality(0), doubleSketch.cardinality());
+        }
+    }
+
+    public void testMergeAggregatedValuesUpdatesAggregatedValue() {
+        CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        CardinalitySketch value = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        CardinalitySketch aggregatedValue = aggregator.getInitialAggregatedValue(value);
+        assertNotSame(value, aggregatedValue);
+        aggregatedValue = aggregator.mergeAggregatedValueAndSegmentValue(aggregatedValue, 2L);
+        assertEquals(1, value.cardinality());
+        assertEquals(2, aggregatedValue.cardinality());
+
+        CardinalitySketch merged = aggregator.mergeAggregatedValues(aggregator.getInitialAggregatedValueForSegmentDocValue(3L), aggregatedValue);
+        assertSame(aggregatedValue, merged);
+        assertEquals(3, merged.cardinality());
+        assertSame(aggregatedValue, aggregator.mergeAggregatedValues(null, aggregatedValue));
+    }
+
+    public void testDocValuesRoundTrip() {
+        CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        CardinalitySketch sketch = randomSketch(aggregator);
+        long[] values = toDocValues(aggregator, sketch);
+        assertEquals(sketch.cardinality(), aggregator.fromDocValues(values).cardinality());
+        assertTrue(aggregator.fromDocValues(null).isEmpty());
+    }
+
+    public void testSerializationRoundTrip() throws IOException {
+        CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        CardinalitySketch sketch = randomSketch(aggregator);
+        int offset = randomIntBetween(0, 16);
+        ByteBuffer buffer = ByteBuffer.allocate(offset + aggregator.getSerializedSizeInBytes(sketch)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(offset);
+        aggregator.serialize(sketch, buffer);
+        assertFalse(buffer.hasRemaining());
+        CardinalitySketch read = aggregator.deserialize(randomAccessInput(buffer.array()), offset);
+        assertEquals(sketch.cardinality(), read.cardinality());
+        assertArrayEquals(toDocValues(aggregator, sketch), toDocValues(aggregator, read));
+    }
+
+    public void testFoldToLowerPrecision() {
+        CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+        int precision = randomIntBetween(HyperLogLogPlusPlus.DEFAULT_PRECISION - 6, CardinalitySketch.PRECISION);
+        CardinalitySketch sketch = aggregator.getIdentityMetricValue();
+        try (
+            HyperLogLogPlusPlus expected = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            HyperLogLogPlusPlus actual = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            int numValues = randomIntBetween(1, 50_000);
+            for (int i = 0; i < numValues; i++) {
+                long value = randomLong();
+                sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+                expected.collect(0, BitMixer.mix64(value));
+            }
+            for (long value : toDocValues(aggregator, sketch)) {
+                CardinalitySketch.collectDocValue(actual, 0, value);
+            }
+            assertEquals(expected.cardinality(0), actual.cardinality(0));
+        }
+    }
+
+    private CardinalitySketch randomSketch(CardinalityValueAggregator aggregator) {
+        CardinalitySketch sketch = aggregator.getIdentityMetricValue();
+        // large enough to randomly cover both the sparse and the dense representation
+        int numValues = randomIntBetween(0, 10_000);
+        for (int i = 0; i < numValues; i++) {
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, randomLong());
+        }
+        return sketch;
+    }
+
+    private static long[] toDocValues(CardinalityValueAggregator aggregator, CardinalitySketch sketch) {
+        List<Long> values = new ArrayList<>();
+        aggregator.toDocValues(sketch, values::add);
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    static RandomAccessInput randomAccessInput(byte[] bytes) {
+        return new ByteBuffersDataInput(List.of(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)));
+    }
+}
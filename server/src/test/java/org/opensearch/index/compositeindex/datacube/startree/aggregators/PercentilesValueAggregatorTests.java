@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregatorTests.randomAccessInput;
+
+public class PercentilesValueAggregatorTests extends OpenSearchTestCase {
+
+    public void testIdentityMetricValue() {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        assertEquals(0, aggregator.getIdentityMetricValue().size());
+        assertEquals(0, aggregator.getInitialAggregatedValueForSegmentDocValue(null).size());
+        assertEquals(0, aggregator.mergeAggregatedValues(null, null).size());
+        assertEquals(0, aggregator.getInitialAggregatedValue(null).size());
+        assertEquals(PercentilesValueAggregator.COMPRESSION, aggregator.getIdentityMetricValue().compression(), 0.0);
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.DOUBLE);
+        TDigestState expected = new TDigestState(PercentilesValueAggregator.COMPRESSION);
+        TDigestState digest = null;
+        int numValues = randomIntBetween(1, 1000);
+        for (int i = 0; i < numValues; i++) {
+            double value = randomDouble();
+            expected.add(value);
+            digest = aggregator.mergeAggregatedValueAndSegmentValue(digest, NumericUtils.doubleToSortableLong(value));
+        }
+        assertEquals(expected.size(), digest.size());
+        assertEquals(expected.getMin(), digest.getMin(), 0.0);
+        assertEquals(expected.getMax(), digest.getMax(), 0.0);
+    }
+
+    public void testMergeAggregatedValuesUpdatesAggregatedValue() {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        TDigestState value = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        TDigestState aggregatedValue = aggregator.getInitialAggregatedValue(value);
+        assertNotSame(value, aggregatedValue);
+        aggregatedValue = aggregator.mergeAggregatedValueAndSegmentValue(aggregatedValue, 2L);
+        assertEquals(1, value.size());
+        assertEquals(2, aggregatedValue.size());
+
+        TDigestState merged = aggregator.mergeAggregatedValues(aggregator.getInitialAggregatedValueForSegmentDocValue(3L), aggregatedValue);
+        assertSame(aggregatedValue, merged);
+        assertEquals(3, merged.size());
+        assertEquals(1.0, merged.getMin(), 0.0);
+        assertEquals(3.0, merged.getMax(), 0.0);
+    }
+
+    public void testDocValuesRoundTrip() {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        TDigestState digest = randomDigest(aggregator);
+        List<Long> values = new ArrayList<>();
+        aggregator.toDocValues(digest, values::add);
+        assertEquals(digest.centroidCount(), values.size());
+        TDigestState read = aggregator.fromDocValues(values.stream().mapToLong(Long::longValue).toArray());
+        assertEquals(digest.size(), read.size());
+        for (double q : new double[] { 0.01, 0.5, 0.99 }) {
+            // centroid means are stored as floats
+            assertEquals(digest.quantile(q), read.quantile(q), Math.abs(digest.quantile(q)) * 1e-6 + 1.0);
+        }
+        assertEquals(0, aggregator.fromDocValues(null).size());
+    }
+
+    public void testSerializationRoundTrip() throws IOException {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        TDigestState digest = randomDigest(aggregator);
+        int offset = randomIntBetween(0, 16);
+        ByteBuffer buffer = ByteBuffer.allocate(offset + aggregator.getSerializedSizeInBytes(digest)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(offset);
+        aggregator.serialize(digest, buffer);
+        assertFalse(buffer.hasRemaining());
+        TDigestState read = aggregator.deserialize(randomAccessInput(buffer.array()), offset);
+        assertEquals(digest.size(), read.size());
+        for (double q : new double[] { 0.01, 0.5, 0.99 }) {
+            assertEquals(digest.quantile(q), read.quantile(q), 1_000_000 * 0.01);
+        }
+    }
+
+    private TDigestState randomDigest(PercentilesValueAggregator aggregator) {
+        TDigestState digest = aggregator.getIdentityMetricValue();
+        int numValues = randomIntBetween(1, 10_000);
+        for (int i = 0; i < numValues; i++) {
+            digest = aggregator.mergeAggregatedValueAndSegmentValue(digest, randomLongBetween(0, 1_000_000));
+        }
+        return digest;
+    }
+}
@@ -34,15 +34,19 @@ import org.opensearch.index.compositeindex.datacube.UnsignedLongDimension;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.DimensionConfig;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.search.aggregations.metrics.CardinalitySketch;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.TDigestState;
 
 import java.io.IOException;
 import java.time.temporal.ChronoField;
@@ -62,6 +66,7 @@ import static org.opensearch.index.compositeindex.datacube.startree.builder.Buil
 import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.validateStarTree;
 import static org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter.VERSION_CURRENT;
 import static org.opensearch.index.mapper.CompositeMappedFieldType.CompositeFieldType.STAR_TREE;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.mock;
 
 public class StarTreeBuilderFlushFlowTests extends StarTreeBuilderTestCase {
@@ -175,6 +180,83 @@ public class StarTreeBuilderFlushFlowTests extends StarTreeBuilderTestCase {
         );
     }
 
+    public void testFlushFlowWithSketchMetrics() throws IOException {
+        List<Long> dimList = List.of(0L, 1L, 3L, 4L, 5L);
+        List<Integer> docsWithField = List.of(0, 1, 3, 4, 5);
+        List<Long> dimList2 = List.of(0L, 1L, 2L, 3L, 4L, 5L);
+        List<Integer> docsWithField2 = List.of(0, 1, 2, 3, 4, 5);
+
+        List<Long> metricsList = List.of(
+            getLongFromDouble(0.0),
+            getLongFromDouble(10.0),
+            getLongFromDouble(20.0),
+            getLongFromDouble(30.0),
+            getLongFromDouble(40.0),
+            getLongFromDouble(50.0)
+        );
+        List<Integer> metricsWithField = List.of(0, 1, 2, 3, 4, 5);
+
+        compositeField = new StarTreeField(
+            "sf",
+            List.of(new NumericDimension("field1"), new NumericDimension("field3")),
+            List.of(new Metric("field2", List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES))),
+            new StarTreeFieldConfiguration(1000, new HashSet<>(), getBuildMode())
+        );
+        SortedNumericStarTreeValuesIterator d1sndv = new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList, docsWithField));
+        SortedNumericStarTreeValuesIterator d2sndv = new SortedNumericStarTreeValuesIterator(
+            getSortedNumericMock(dimList2, docsWithField2)
+        );
+        SortedNumericStarTreeValuesIterator m1sndv = new SortedNumericStarTreeValuesIterator(
+            getSortedNumericMock(metricsList, metricsWithField)
+        );
+        SortedNumericStarTreeValuesIterator m2sndv = new SortedNumericStarTreeValuesIterator(
+            getSortedNumericMock(metricsList, metricsWithField)
+        );
+
+        writeState = getWriteState(6, writeState.segmentInfo.getId());
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        // the sketches have no double representation, every step of the build handles them through their value aggregators
+        for (MetricAggregatorInfo metricAggregatorInfo : builder.metricAggregatorInfos) {
+            assertThat(metricAggregatorInfo.getValueAggregators().getAggregatedValueType(), instanceOf(SketchType.class));
+        }
+        SequentialDocValuesIterator[] dimDvs = { new SequentialDocValuesIterator(d1sndv), new SequentialDocValuesIterator(d2sndv) };
+        Iterator<StarTreeDocument> starTreeDocumentIterator = builder.sortAndAggregateSegmentDocuments(
+            dimDvs,
+            List.of(new SequentialDocValuesIterator(m1sndv), new SequentialDocValuesIterator(m2sndv))
+        );
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            writeState,
+            4096, /* Lucene90DocValuesFormat#DEFAULT_SKIP_INDEX_INTERVAL_SIZE */
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder.build(starTreeDocumentIterator, new AtomicInteger(), docValuesConsumer);
+        List<StarTreeDocument> starTreeDocuments = builder.getStarTreeDocuments();
+        assertEquals(13, starTreeDocuments.size());
+        for (StarTreeDocument starTreeDocument : starTreeDocuments) {
+            CardinalitySketch cardinality = (CardinalitySketch) starTreeDocument.metrics[0];
+            TDigestState percentiles = (TDigestState) starTreeDocument.metrics[1];
+            if (starTreeDocument.dimensions[1] != null) {
+                double value = starTreeDocument.dimensions[0] == null
+                    ? starTreeDocument.dimensions[1] * 10.0
+                    : starTreeDocument.dimensions[0] * 10.0;
+                assertEquals(1L, cardinality.cardinality());
+                assertEquals(1L, percentiles.size());
+                assertEquals(value, percentiles.quantile(0.5), 0);
+            } else {
+                assertEquals(6L, cardinality.cardinality());
+                assertEquals(6L, percentiles.size());
+                assertEquals(0.0, percentiles.getMin(), 0);
+                assertEquals(50.0, percentiles.getMax(), 0);
+            }
+        }
+        metaOut.close();
+        dataOut.close();
+        docValuesConsumer.close();
+    }
+
     public void testFlushFlowAggregatedDocs() throws IOException {
         // Create lists to hold the dimension and metric values from the log data
         List<Long> statusDimList = List.of(
@@ -195,6 +195,65 @@ public class StarTreeDocumentsSorterTests extends OpenSearchTestCase {
         assertArrayEquals(new int[] { 3, 4, 2, 1, 0 }, sortedDocIds);
     }
 
+    public void testMergeSortedRuns() {
+        // two runs, each sorted based on the dimensions, followed by an empty run
+        int[] docs = { 7, 1, 2, 9, 0, 4, 5, 3, 6, 8 };
+        int[] runStarts = { 0, 5, 10 };
+
+        int[] sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(runStarts, 10, i -> testData.get(docs[i]), comparatorList);
+        int[] sortedDocs = Arrays.stream(sortedDocIds).map(i -> docs[i]).toArray();
+        assertArrayEquals(new int[] { 7, 4, 1, 5, 2, 3, 9, 6, 0, 8 }, sortedDocs);
+    }
+
+    public void testMergeSortedRuns_EmptyRuns() {
+        assertArrayEquals(new int[] {}, StarTreeDocumentsSorter.mergeSortedRuns(new int[] {}, 0, i -> testData.get(i), comparatorList));
+        assertArrayEquals(
+            new int[] {},
+            StarTreeDocumentsSorter.mergeSortedRuns(new int[] { 0, 0 }, 0, i -> testData.get(i), comparatorList)
+        );
+    }
+
+    public void testRandomizedMergeSortedRuns() {
+        Random random = Randomness.get();
+        int numDimensions = randomIntBetween(1, 10);
+        List<Comparator<Long>> comparatorList = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            comparatorList.add(
+                random.nextBoolean() ? new NumericDimension("fieldName").comparator() : new UnsignedLongDimension("fieldName").comparator()
+            );
+        }
+        int numRuns = randomIntBetween(1, 10);
+        int[] runStarts = new int[numRuns];
+        List<Long[]> testData = new ArrayList<>();
+        for (int run = 0; run < numRuns; run++) {
+            runStarts[run] = testData.size();
+            int numRunDocs = randomIntBetween(0, 100);
+            int[] runDocIds = new int[numRunDocs];
+            List<Long[]> runData = new ArrayList<>();
+            for (int i = 0; i < numRunDocs; i++) {
+                Long[] dimensions = new Long[numDimensions];
+                for (int j = 0; j < numDimensions; j++) {
+                    dimensions[j] = random.nextFloat() < 0.2 ? null : Long.valueOf(randomIntBetween(-5, 5));
+                }
+                runData.add(dimensions);
+                runDocIds[i] = i;
+            }
+            StarTreeDocumentsSorter.sort(runDocIds, -1, numRunDocs, i -> runData.get(runDocIds[i]), comparatorList);
+            for (int docId : runDocIds) {
+                testData.add(runData.get(docId));
+            }
+        }
+
+        int numDocs = testData.size();
+        int[] mergedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(runStarts, numDocs, testData::get, comparatorList);
+        assertEquals(numDocs, Arrays.stream(mergedDocIds).distinct().count());
+        for (int i = 1; i < numDocs; i++) {
+            assertTrue(
+                StarTreeDocumentsSorter.compare(testData.get(mergedDocIds[i - 1]), testData.get(mergedDocIds[i]), -1, comparatorList) <= 0
+            );
+        }
+    }
+
     public void testTheRandomSort() {
         int i = 0;
         while (i < 10) {
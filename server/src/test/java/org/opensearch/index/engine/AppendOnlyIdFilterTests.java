@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AppendOnlyIdFilterTests extends OpenSearchTestCase {
+
+    public void testDuplicatesAreNeverNew() {
+        int capacity = randomIntBetween(16, 256);
+        AppendOnlyIdFilter filter = new AppendOnlyIdFilter(capacity, -1);
+        List<BytesRef> ids = new ArrayList<>();
+        List<Long> timestamps = new ArrayList<>();
+        long timestamp = 0;
+        int numNew = 0;
+        int numOps = capacity * randomIntBetween(1, 5);
+        for (int i = 0; i < numOps; i++) {
+            if (ids.isEmpty() == false && randomBoolean()) {
+                // a retry of any previous operation, however old it is
+                int retry = randomIntBetween(0, ids.size() - 1);
+                assertFalse(filter.addIfAbsent(ids.get(retry), timestamps.get(retry)));
+            } else {
+                BytesRef id = new BytesRef(randomAlphaOfLength(20) + i);
+                timestamp += randomIntBetween(0, 2);
+                if (filter.addIfAbsent(id, timestamp)) {
+                    numNew++;
+                }
+                ids.add(id);
+                timestamps.add(timestamp);
+            }
+        }
+        assertEquals(timestamp, filter.getMaxSeenTimestamp());
+        if (ids.size() > 2 * capacity) {
+            // the ids added after the oldest filter started are mostly known to be new
+            assertTrue(numNew > 0);
+        }
+    }
+
+    public void testUnknownMaxSeenTimestamp() {
+        AppendOnlyIdFilter filter = new AppendOnlyIdFilter(randomIntBetween(1, 16), Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            assertFalse(filter.addIfAbsent(new BytesRef(Integer.toString(i)), randomNonNegativeLong()));
+        }
+        assertEquals(Long.MAX_VALUE, filter.getMaxSeenTimestamp());
+    }
+
+    public void testIdsOlderThanTheFiltersAreNotNew() {
+        AppendOnlyIdFilter filter = new AppendOnlyIdFilter(randomIntBetween(1, 16), 100);
+        assertFalse(filter.addIfAbsent(new BytesRef("old"), 100));
+        assertTrue(filter.addIfAbsent(new BytesRef("new"), 101));
+        assertFalse(filter.addIfAbsent(new BytesRef("new"), 101));
+    }
+}
@@ -4973,6 +4973,53 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testRetriesOnAppendOnlyIndexAreNotDuplicated() throws IOException {
+        Settings.Builder settings = Settings.builder()
+            .put(defaultSettings.getSettings())
+            .put(IndexMetadata.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), "true")
+            .put(IndexSettings.INDEX_APPEND_ONLY_ID_FILTER_SIZE_SETTING.getKey(), randomIntBetween(8, 64));
+        final IndexMetadata indexMetadata = IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(settings).build();
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(indexMetadata);
+        final Path translogPath = createTempDir();
+        final List<ParsedDocument> docs = new ArrayList<>();
+        final int numOps = randomIntBetween(100, 400);
+        final int restartAt = randomIntBetween(0, numOps);
+        try (Store store = createStore()) {
+            InternalEngine engine = createEngine(indexSettings, store, translogPath, newMergePolicy());
+            try {
+                for (int i = 0; i < numOps; i++) {
+                    if (i == restartAt) {
+                        if (randomBoolean()) {
+                            engine.flush();
+                        }
+                        engine.close();
+                        engine = createEngine(indexSettings, store, translogPath, newMergePolicy());
+                    }
+                    if (docs.isEmpty() == false && randomInt(3) == 0) {
+                        // the timestamp of a document is its position, so a retry of any previous one can be told apart
+                        final int retry = randomIntBetween(0, docs.size() - 1);
+                        final Engine.IndexResult result = engine.index(appendOnlyPrimary(docs.get(retry), true, retry));
+                        assertThat(result.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+                    } else {
+                        final ParsedDocument doc = testParsedDocument("auto-" + docs.size(), null, testDocumentWithTextField(), SOURCE, null);
+                        final Engine.IndexResult result = engine.index(appendOnlyPrimary(doc, randomBoolean(), docs.size()));
+                        assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+                        docs.add(doc);
+                    }
+                    if (rarely()) {
+                        engine.flush();
+                    }
+                }
+                engine.refresh("test");
+                try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+                    assertEquals(docs.size(), searcher.getIndexReader().numDocs());
+                }
+            } finally {
+                IOUtils.close(engine);
+            }
+        }
+    }
+
     public Engine.Index appendOnlyPrimary(ParsedDocument doc, boolean retry, final long autoGeneratedIdTimestamp, boolean create) {
         return new Engine.Index(
             newUid(doc),
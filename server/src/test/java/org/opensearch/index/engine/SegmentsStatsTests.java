@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class SegmentsStatsTests extends OpenSearchTestCase {
+
+    public void testSerialize() throws IOException {
+        SegmentsStats stats = randomSegmentsStats();
+        BytesStreamOutput out = new BytesStreamOutput();
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        SegmentsStats read = new SegmentsStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.getCount(), read.getCount());
+        assertEquals(stats.getIndexWriterMemoryInBytes(), read.getIndexWriterMemoryInBytes());
+        assertEquals(stats.getVersionMapMemoryInBytes(), read.getVersionMapMemoryInBytes());
+        assertEquals(stats.getBitsetMemoryInBytes(), read.getBitsetMemoryInBytes());
+        assertEquals(stats.getMaxUnsafeAutoIdTimestamp(), read.getMaxUnsafeAutoIdTimestamp());
+        assertEquals(stats.getFileSizes(), read.getFileSizes());
+        assertEquals(stats.getDocIdFuzzySetLookups(), read.getDocIdFuzzySetLookups());
+        assertEquals(stats.getDocIdFuzzySetSkippedLookups(), read.getDocIdFuzzySetSkippedLookups());
+    }
+
+    public void testSerializeBeforeDocIdFuzzySetLookups() throws IOException {
+        SegmentsStats stats = randomSegmentsStats();
+        Version version = VersionUtils.randomVersionBetween(random(), Version.V_2_10_0, VersionUtils.getPreviousVersion(Version.V_3_3_0));
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(version);
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        input.setVersion(version);
+        SegmentsStats read = new SegmentsStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.getCount(), read.getCount());
+        assertEquals(stats.getMaxUnsafeAutoIdTimestamp(), read.getMaxUnsafeAutoIdTimestamp());
+        assertEquals(stats.getFileSizes(), read.getFileSizes());
+        // the lookups of the fuzzy set of the _id field are not sent to older nodes
+        assertEquals(0L, read.getDocIdFuzzySetLookups());
+        assertEquals(0L, read.getDocIdFuzzySetSkippedLookups());
+    }
+
+    private static SegmentsStats randomSegmentsStats() {
+        SegmentsStats stats = new SegmentsStats();
+        stats.add(randomNonNegativeLong());
+        stats.addIndexWriterMemoryInBytes(randomNonNegativeLong());
+        stats.addVersionMapMemoryInBytes(randomNonNegativeLong());
+        stats.addBitsetMemoryInBytes(randomNonNegativeLong());
+        stats.updateMaxUnsafeAutoIdTimestamp(randomNonNegativeLong());
+        stats.addFileSizes(Map.of("si", randomNonNegativeLong(), "fnm", randomNonNegativeLong()));
+        long lookups = randomNonNegativeLong();
+        stats.addDocIdFuzzySetLookups(lookups, randomLongBetween(0, lookups));
+        return stats;
+    }
+}
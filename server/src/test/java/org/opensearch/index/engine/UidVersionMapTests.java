@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class UidVersionMapTests extends OpenSearchTestCase {
+
+    public void testPutGetRemove() {
+        final List<BytesRef> uids = randomUids(randomIntBetween(1, 2000));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final UidVersionMap map = new UidVersionMap(randomBoolean() ? 0 : randomIntBetween(1, 1000));
+        final int numOps = randomIntBetween(1, 20000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomFrom(uids);
+            if (randomInt(3) == 0) {
+                assertThat(map.remove(uid), equalTo(expected.remove(uid) != null));
+            } else {
+                final IndexVersionValue value = randomIndexVersionValue();
+                assertThat(map.put(uid, value), equalTo(expected.put(uid, value) == null));
+            }
+            assertThat(map.size(), equalTo(expected.size()));
+            assertThat(map.isEmpty(), equalTo(expected.isEmpty()));
+        }
+        for (BytesRef uid : uids) {
+            assertThat(map.get(uid), equalTo(expected.get(uid)));
+        }
+        assertThat(map.toMap(), equalTo(expected));
+    }
+
+    public void testUidsWithOffset() {
+        final UidVersionMap map = new UidVersionMap();
+        final byte[] bytes = new byte[] { 'a', 'b', 'c', 'd' };
+        final IndexVersionValue value = randomIndexVersionValue();
+        assertTrue(map.put(new BytesRef(bytes, 1, 2), value));
+        // the map keeps a copy of the bytes of the uid that are not the whole array
+        bytes[1] = 'x';
+        assertThat(map.get(new BytesRef("bc")), equalTo(value));
+        assertNull(map.get(new BytesRef("xc")));
+        assertTrue(map.remove(new BytesRef("bc")));
+        assertTrue(map.isEmpty());
+    }
+
+    public void testConcurrentPutGetRemove() throws InterruptedException {
+        final UidVersionMap map = new UidVersionMap();
+        final int numThreads = randomIntBetween(2, 8);
+        final List<List<BytesRef>> uidsPerThread = new ArrayList<>();
+        final List<Map<BytesRef, VersionValue>> expectedPerThread = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            // each thread has its own uids, like the operations on a uid are serialized by its lock
+            final List<BytesRef> uids = new ArrayList<>();
+            for (BytesRef uid : randomUids(randomIntBetween(1, 500))) {
+                uids.add(new BytesRef(t + "_" + uid.utf8ToString()));
+            }
+            uidsPerThread.add(uids);
+            expectedPerThread.add(new HashMap<>());
+        }
+        final CountDownLatch startGun = new CountDownLatch(1);
+        final Thread[] threads = new Thread[numThreads];
+        final List<AssertionError> failures = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            final List<BytesRef> uids = uidsPerThread.get(t);
+            final Map<BytesRef, VersionValue> expected = expectedPerThread.get(t);
+            final int numOps = randomIntBetween(1000, 10000);
+            threads[t] = new Thread(() -> {
+                try {
+                    startGun.await();
+                    for (int i = 0; i < numOps; i++) {
+                        final BytesRef uid = uids.get(i % uids.size());
+                        switch (i % 3) {
+                            case 0:
+                                final IndexVersionValue value = new IndexVersionValue(null, i, i, 1);
+                                assertThat(map.put(uid, value), equalTo(expected.put(uid, value) == null));
+                                break;
+                            case 1:
+                                assertThat(map.get(uid), equalTo(expected.get(uid)));
+                                break;
+                            default:
+                                if ((i / 3) % 2 == 0) {
+                                    assertThat(map.remove(uid), equalTo(expected.remove(uid) != null));
+                                }
+                        }
+                    }
+                } catch (AssertionError e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads[t].start();
+        }
+        startGun.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(failures, equalTo(List.of()));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        expectedPerThread.forEach(expected::putAll);
+        assertThat(map.toMap(), equalTo(expected));
+        assertThat(map.size(), equalTo(expected.size()));
+    }
+
+    private static List<BytesRef> randomUids(int count) {
+        final List<BytesRef> uids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 10) + i));
+        }
+        return uids;
+    }
+
+    private static IndexVersionValue randomIndexVersionValue() {
+        final Translog.Location location = randomBoolean()
+            ? null
+            : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        return new IndexVersionValue(location, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+}
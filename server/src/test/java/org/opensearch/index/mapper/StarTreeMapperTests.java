@@ -40,6 +40,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 import static org.opensearch.index.IndexSettings.INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING;
@@ -52,10 +53,13 @@ import static com.carrotsearch.randomizedtesting.RandomizedTest.getRandom;
  */
 public class StarTreeMapperTests extends MapperTestCase {
 
+    private int maxStarTreeFields = 1;
+
     @Override
     protected Settings getIndexSettings() {
         return Settings.builder()
             .put(StarTreeIndexSettings.IS_COMPOSITE_INDEX_SETTING.getKey(), true)
+            .put(StarTreeIndexSettings.STAR_TREE_MAX_FIELDS_SETTING.getKey(), maxStarTreeFields)
             .put(IndexMetadata.INDEX_APPEND_ONLY_ENABLED_SETTING.getKey(), true)
             .put(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING.getKey(), new ByteSizeValue(512, ByteSizeUnit.MB))
             .put(SETTINGS)
@@ -100,6 +104,23 @@ public class StarTreeMapperTests extends MapperTestCase {
         }
     }
 
+    public void testMultipleStarTrees() throws IOException {
+        maxStarTreeFields = 2;
+        MapperService mapperService = createMapperService(getMinMappingWith2StarTrees());
+        Set<CompositeMappedFieldType> compositeFieldTypes = mapperService.getCompositeFieldTypes();
+        assertEquals(2, compositeFieldTypes.size());
+        assertEquals(
+            Set.of("startree", "startree1"),
+            compositeFieldTypes.stream().map(CompositeMappedFieldType::name).collect(Collectors.toSet())
+        );
+        Settings settings = Settings.builder().put(CompositeIndexSettings.STAR_TREE_INDEX_ENABLED_SETTING.getKey(), true).build();
+        CompositeIndexSettings enabledCompositeIndexSettings = new CompositeIndexSettings(
+            settings,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        CompositeIndexValidator.validate(mapperService, enabledCompositeIndexSettings, mapperService.getIndexSettings());
+    }
+
     public void testCompositeIndexWithArraysInCompositeField() throws IOException {
         DocumentMapper mapper = createDocumentMapper(getExpandedMappingWithJustAvg("status", "status"));
         MapperParsingException ex = expectThrows(
@@ -1666,6 +1666,36 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testGroupCommitFsync() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.getKey(), "50ms").build()
+        );
+        int numDocs = randomIntBetween(1, 20);
+        CountDownLatch latch = new CountDownLatch(numDocs);
+        List<String> syncThreads = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Translog.Location lastLocation = null;
+        for (int i = 0; i < numDocs; i++) {
+            lastLocation = indexDoc(shard, "_doc", Integer.toString(i)).getTranslogLocation();
+            shard.sync(lastLocation, ex -> {
+                if (ex != null) {
+                    failure.set(ex);
+                }
+                syncThreads.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        assertFalse(getTranslog(shard).ensureSynced(lastLocation));
+        for (String syncThread : syncThreads) {
+            assertThat(syncThread, containsString("[" + ThreadPool.Names.TRANSLOG_SYNC + "]"));
+        }
+
+        closeShards(shard);
+    }
+
     public void testMinimumCompatVersion() throws IOException {
         Version versionCreated = VersionUtils.randomVersion(random());
         Settings settings = Settings.builder()
@@ -157,6 +157,7 @@ import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -282,6 +283,7 @@ public class LocalTranslogTests extends OpenSearchTestCase {
             // only randomize between nog age retention and a long one, so failures will have a chance of reproducing
             .put(IndexSettings.INDEX_TRANSLOG_RETENTION_AGE_SETTING.getKey(), randomBoolean() ? "-1ms" : "1h")
             .put(IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING.getKey(), randomIntBetween(-1, 2048) + "b")
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_SNAPSHOTS_SETTING.getKey(), randomBoolean())
             .build();
         return getTranslogConfig(path, settings);
     }
@@ -3521,6 +3523,74 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         return new Translog.Location(randomLong(), randomLong(), randomInt());
     }
 
+    public void testCompressedSources() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_COMPRESSION_TYPE_SETTING.getKey(), "deflate")
+            .build();
+        final List<Translog.Operation> ops = new ArrayList<>();
+        final List<Translog.Location> locations = new ArrayList<>();
+        long sourceSizeInBytes = 0;
+        try (Translog translog = createTranslog(getTranslogConfig(createTempDir(), settings))) {
+            final int numOps = randomIntBetween(1, 50);
+            for (int i = 0; i < numOps; i++) {
+                // the sources below the minimum length are written as is
+                final String value = randomBoolean() ? randomAlphaOfLength(10) : "value ".repeat(randomIntBetween(100, 1000));
+                final byte[] source = ("{\"field\":\"" + value + "\"}").getBytes(StandardCharsets.UTF_8);
+                sourceSizeInBytes += source.length;
+                locations.add(addToTranslogAndList(translog, ops, new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source)));
+            }
+            translog.sync();
+            for (int i = 0; i < numOps; i++) {
+                assertThat(translog.readOperation(locations.get(i)), equalTo(ops.get(i)));
+            }
+            try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+            if (sourceSizeInBytes > numOps * Translog.Index.MIN_COMPRESSED_SOURCE_LENGTH) {
+                assertThat(translog.stats().getUncommittedSizeInBytes(), lessThan(sourceSizeInBytes));
+            }
+
+            // the operations are sent to recover replicas with their uncompressed source
+            final BytesStreamOutput out = new BytesStreamOutput();
+            Translog.writeOperations(out, ops);
+            assertThat(out.size(), greaterThan((int) sourceSizeInBytes));
+            assertThat(Translog.readOperations(out.bytes().streamInput(), "testCompressedSources"), equalTo(ops));
+        }
+    }
+
+    public void testMmapSnapshots() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_SNAPSHOTS_SETTING.getKey(), true)
+            .build();
+        final List<Translog.Operation> ops = new ArrayList<>();
+        try (Translog translog = createTranslog(getTranslogConfig(createTempDir(), settings))) {
+            final int numOps = randomIntBetween(1, 200);
+            for (int i = 0; i < numOps; i++) {
+                final Translog.Operation op;
+                if (randomBoolean()) {
+                    final byte[] source = randomRealisticUnicodeOfCodepointLengthBetween(0, 2048).getBytes(StandardCharsets.UTF_8);
+                    op = new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source);
+                } else {
+                    op = new Translog.Delete(Integer.toString(i), i, primaryTerm.get());
+                }
+                addToTranslogAndList(translog, ops, op);
+                if (rarely()) {
+                    translog.rollGeneration();
+                }
+            }
+            try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.containsOperationsInAnyOrder(ops));
+            }
+            // a snapshot of a range of the operations
+            final long fromSeqNo = randomLongBetween(0, numOps - 1);
+            try (Translog.Snapshot snapshot = translog.newSnapshot(fromSeqNo, Long.MAX_VALUE)) {
+                assertThat(snapshot, SnapshotMatchers.containsOperationsInAnyOrder(ops.subList((int) fromSeqNo, numOps)));
+            }
+        }
+    }
+
     public void testTranslogOpSerialization() throws Exception {
         BytesReference B_1 = new BytesArray(new byte[] { 1 });
         SeqNoFieldMapper.SequenceIDFields seqID = SeqNoFieldMapper.SequenceIDFields.emptySeqID();
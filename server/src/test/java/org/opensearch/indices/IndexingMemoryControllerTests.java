@@ -38,6 +38,7 @@ import org.opensearch.common.SetOnce;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.EngineConfig;
@@ -246,6 +247,32 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         closeShards(shard0, shard1);
     }
 
+    public void testWriteRateAllocation() throws IOException {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "4mb")
+                .put("indices.memory.shard_buffer_allocation", "write_rate")
+                .build()
+        );
+        IndexShard shard0 = newShard(new ShardId("index0", "_na_", 0), true);
+        IndexShard shard1 = newShard(new ShardId("index1", "_na_", 0), true);
+        for (int i = 0; i < 2; i++) {
+            controller.shardBytesWritten(shard1.shardId(), 1024 * 1024);
+            controller.simulateIndexing(shard1);
+        }
+        for (int i = 0; i < 3; i++) {
+            controller.shardBytesWritten(shard0.shardId(), 1024 * 1024);
+            controller.simulateIndexing(shard0);
+        }
+
+        // We are now using 5 MB: shard0 uses the most heap but is the one writing the most, so shard1 is written instead
+        controller.assertWriting(shard0, 0);
+        controller.assertWriting(shard1, 2);
+        controller.assertBuffer(shard0, 3);
+        controller.assertBuffer(shard1, 0);
+        closeShards(shard0, shard1);
+    }
+
     public void testMinBufferSizes() {
         MockController controller = new MockController(
             Settings.builder().put("indices.memory.index_buffer_size", "0.001%").put("indices.memory.min_index_buffer_size", "6mb").build()
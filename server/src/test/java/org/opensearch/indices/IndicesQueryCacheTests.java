@@ -33,9 +33,13 @@
 package org.opensearch.indices;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.ConstantScoreScorer;
 import org.apache.lucene.search.ConstantScoreWeight;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -48,9 +52,17 @@ import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.settings.CacheSettings;
+import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.index.shard.ShardId;
@@ -58,6 +70,10 @@ import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThan;
 
 public class IndicesQueryCacheTests extends OpenSearchTestCase {
 
@@ -492,4 +508,259 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.onClose(shard);
         cache.close();
     }
+
+    public void testSecondTier() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        int numDocs = randomIntBetween(100, 500);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("parity", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+            doc.add(new StringField("mod", Integer.toString(i % 10), Field.Store.NO));
+            w.addDocument(doc);
+        }
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+        IndexSearcher uncached = new IndexSearcher(r);
+        uncached.setQueryCache(null);
+
+        // the on-heap cache only keeps the doc id sets of a single query
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 1)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_QUERY_CACHE).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .build();
+        CacheService cacheService = new CacheService(
+            Map.of(OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME, new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory()),
+            settings
+        );
+        IndicesQueryCache cache = new IndicesQueryCache(
+            settings,
+            cacheService,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            null
+        );
+        s.setQueryCache(cache);
+        ICache<?, ?> tier = cacheService.getCacheTypeMap().get(CacheType.INDICES_QUERY_CACHE);
+        assertNotNull(tier);
+
+        // a dense and a sparse doc id set, that evict each other from the on-heap cache
+        Query[] queries = new Query[] { new TermQuery(new Term("parity", "even")), new TermQuery(new Term("mod", "0")) };
+        for (int i = 0; i < 3; i++) {
+            for (Query query : queries) {
+                Query filter = new ConstantScoreQuery(query);
+                assertArrayEquals(docIds(uncached, filter, numDocs), docIds(s, filter, numDocs));
+            }
+        }
+        // the dense doc id sets are read from the second tier once the sparse ones replaced them in the on-heap cache
+        int numSegments = r.leaves().size();
+        assertEquals(2L * numSegments, tier.count());
+        assertEquals(2L * numSegments, tier.stats().getTotalHits());
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(2L * numSegments, stats.getCacheCount());
+        assertEquals(2L * numSegments, stats.getHitCount());
+        assertEquals(4L * numSegments, stats.getMissCount());
+
+        // the doc id sets of the closed segments are dropped from the second tier
+        IOUtils.close(r, dir);
+        assertEquals(0L, tier.count());
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testSecondTierKeysSize() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        for (int i = 0; i < 10; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("parity", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+            w.addDocument(doc);
+        }
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        // the keys of the second tier may not use any heap
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(IndicesQueryCache.INDICES_CACHE_QUERY_TIER_KEYS_SIZE_SETTING.getKey(), "0b")
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_QUERY_CACHE).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .build();
+        CacheService cacheService = new CacheService(
+            Map.of(OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME, new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory()),
+            settings
+        );
+        IndicesQueryCache cache = new IndicesQueryCache(
+            settings,
+            cacheService,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            null
+        );
+        s.setQueryCache(cache);
+        ICache<?, ?> tier = cacheService.getCacheTypeMap().get(CacheType.INDICES_QUERY_CACHE);
+
+        assertEquals(5, s.search(new ConstantScoreQuery(new TermQuery(new Term("parity", "even"))), 10).scoreDocs.length);
+        // the doc id sets are only cached on-heap
+        assertEquals(0L, tier.count());
+        assertEquals(r.leaves().size(), cache.getStats(shard).getCacheSize());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testSecondTierComparesQueriesWithEquals() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        int numDocs = randomIntBetween(100, 500);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("parity", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+            w.addDocument(doc);
+        }
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+        IndexSearcher uncached = new IndexSearcher(r);
+        uncached.setQueryCache(null);
+
+        // the on-heap cache only keeps the doc id sets of a single query
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 1)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_QUERY_CACHE).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .build();
+        CacheService cacheService = new CacheService(
+            Map.of(OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME, new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory()),
+            settings
+        );
+        IndicesQueryCache cache = new IndicesQueryCache(
+            settings,
+            cacheService,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            null
+        );
+        s.setQueryCache(cache);
+        ICache<?, ?> tier = cacheService.getCacheTypeMap().get(CacheType.INDICES_QUERY_CACHE);
+
+        // two queries with the same string form and hash code that are not equal, like a query that leaves a filter out of its
+        // string form
+        Query[] queries = new Query[] {
+            new SameStringQuery(new TermQuery(new Term("parity", "even"))),
+            new SameStringQuery(new TermQuery(new Term("parity", "odd"))) };
+        assertEquals(queries[0].toString(), queries[1].toString());
+        assertEquals(queries[0].hashCode(), queries[1].hashCode());
+        for (int i = 0; i < 3; i++) {
+            for (Query query : queries) {
+                Query filter = new ConstantScoreQuery(query);
+                assertArrayEquals(docIds(uncached, filter, numDocs), docIds(s, filter, numDocs));
+            }
+        }
+        int numSegments = r.leaves().size();
+        assertEquals(2L * numSegments, tier.count());
+        assertThat(cache.getTierKeysRamBytesUsed(), greaterThan(0L));
+
+        // the queries are released with the doc id sets of the closed segments
+        IOUtils.close(r, dir);
+        assertEquals(0L, tier.count());
+        assertEquals(0L, cache.getTierKeysRamBytesUsed());
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testTierKeySerializer() {
+        IndicesQueryCache.TierKeySerializer serializer = new IndicesQueryCache.TierKeySerializer();
+        IndicesQueryCache.TierKey key = new IndicesQueryCache.TierKey(randomNonNegativeLong(), randomNonNegativeLong());
+        byte[] bytes = serializer.serialize(key);
+        assertEquals(key, serializer.deserialize(bytes));
+        assertTrue(serializer.equals(key, bytes));
+        IndicesQueryCache.TierKey other = new IndicesQueryCache.TierKey(key.queryId + 1, key.segmentId);
+        assertFalse(serializer.equals(other, bytes));
+        expectThrows(OpenSearchException.class, () -> serializer.deserialize(new byte[Long.BYTES]));
+    }
+
+    /**
+     * Matches the documents of the wrapped query, but has the same string form and hash code as any other such query
+     */
+    private static class SameStringQuery extends Query {
+
+        private final Query in;
+
+        SameStringQuery(Query in) {
+            this.in = in;
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            visitor.visitLeaf(this);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return sameClassAs(obj) && in.equals(((SameStringQuery) obj).in);
+        }
+
+        @Override
+        public int hashCode() {
+            return classHash();
+        }
+
+        @Override
+        public String toString(String field) {
+            return "same";
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+            final Weight inWeight = in.createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
+            return new ConstantScoreWeight(this, boost) {
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                    final ScorerSupplier inSupplier = inWeight.scorerSupplier(context);
+                    if (inSupplier == null) {
+                        return null;
+                    }
+                    return new ScorerSupplier() {
+                        @Override
+                        public Scorer get(long leadCost) throws IOException {
+                            return new ConstantScoreScorer(score(), scoreMode, inSupplier.get(leadCost).iterator());
+                        }
+
+                        @Override
+                        public long cost() {
+                            return inSupplier.cost();
+                        }
+                    };
+                }
+
+                @Override
+                public boolean isCacheable(LeafReaderContext ctx) {
+                    return true;
+                }
+            };
+        }
+    }
+
+    private static int[] docIds(IndexSearcher searcher, Query query, int numDocs) throws IOException {
+        return Arrays.stream(searcher.search(query, numDocs).scoreDocs).mapToInt(scoreDoc -> scoreDoc.doc).sorted().toArray();
+    }
 }
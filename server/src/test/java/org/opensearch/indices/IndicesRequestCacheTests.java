@@ -38,6 +38,8 @@ import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TermQuery;
@@ -294,6 +296,50 @@ public class IndicesRequestCacheTests extends OpenSearchSingleNodeTestCase {
         assertEquals(0, cache.numRegisteredCloseListeners());
     }
 
+    public void testCacheSegments() throws Exception {
+        threadPool = getThreadPool();
+        cache = getIndicesRequestCache(Settings.EMPTY);
+        IOUtils.close(writer);
+        writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = getReader(writer, indexShard.shardId());
+        writer.addDocument(newDoc(1, "bar"));
+        DirectoryReader secondReader = getReader(writer, indexShard.shardId());
+        assertEquals(1, reader.leaves().size());
+        assertEquals(2, secondReader.leaves().size());
+
+        IndicesService.IndexShardCacheEntity entity = new IndicesService.IndexShardCacheEntity(indexShard);
+        AtomicInteger loads = new AtomicInteger();
+        for (DirectoryReader r : Arrays.asList(reader, secondReader)) {
+            for (LeafReaderContext leaf : r.leaves()) {
+                BytesReference value = cache.getOrCompute(entity, () -> {
+                    loads.incrementAndGet();
+                    try (BytesStreamOutput out = new BytesStreamOutput()) {
+                        out.writeVInt(leaf.reader().numDocs());
+                        return out.bytes();
+                    }
+                }, leaf.reader(), getTermBytes());
+                assertEquals(1, value.streamInput().readVInt());
+            }
+        }
+        // the segment the readers share is only computed once
+        ShardRequestCache requestCacheStats = entity.stats();
+        assertEquals(2, loads.get());
+        assertEquals(1, requestCacheStats.stats().getHitCount());
+        assertEquals(2, requestCacheStats.stats().getMissCount());
+        assertEquals(2, cache.count());
+        assertEquals(2, cache.numRegisteredCloseListeners());
+
+        // the entries of a segment are cleaned once its reader is closed, which the writer pooling it does on close
+        IOUtils.close(reader, secondReader);
+        cache.cacheCleanupManager.cleanCache();
+        assertEquals(2, cache.count());
+        writer.close();
+        cache.cacheCleanupManager.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.numRegisteredCloseListeners());
+    }
+
     public void testCacheCleanupThresholdSettingValidator_Valid_Percentage() {
         String s = IndicesRequestCache.validateStalenessSetting("50%");
         assertEquals("50%", s);
@@ -9,30 +9,45 @@
 package org.opensearch.rest.action.document;
 
 import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.http.HttpChunk;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.StreamingRestChannel;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.client.NoOpNodeClient;
 import org.opensearch.test.rest.FakeRestRequest;
 import org.opensearch.transport.client.node.NodeClient;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -86,4 +101,106 @@ public class RestBulkStreamingActionTests extends OpenSearchTestCase {
             );
         }
     }
+
+    public void testBulkStreamingItemsSplitAcrossChunks() throws Exception {
+        final StringBuilder body = new StringBuilder();
+        final List<String> expected = new ArrayList<>();
+        final int numItems = randomIntBetween(1, 20);
+        for (int i = 0; i < numItems; i++) {
+            final String source = "{\"field\":\"" + randomAlphaOfLengthBetween(0, 20) + "\"}";
+            body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n").append(source).append("\n");
+            expected.add(i + " " + source);
+        }
+        // the first chunk ends in the middle of the source of the first item, the others at random
+        final List<HttpChunk> chunks = new ArrayList<>();
+        int from = 0;
+        int to = body.indexOf("\n") + 2;
+        while (to < body.length()) {
+            chunks.add(chunk(body.substring(from, to), false));
+            from = to;
+            to = randomIntBetween(from + 1, body.length());
+        }
+        chunks.add(chunk(body.substring(from), true));
+
+        final List<String> indexed = new ArrayList<>();
+        try (NodeClient client = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                for (DocWriteRequest<?> item : request.requests()) {
+                    indexed.add(item.id() + " " + ((IndexRequest) item).source().utf8ToString());
+                }
+                listener.onResponse(new BulkResponse(new BulkItemResponse[0], 0L));
+            }
+        }) {
+            final StreamingRestChannel channel = streamingChannel(chunks);
+            new RestBulkStreamingAction(settings(Version.CURRENT).build()).handleRequest(channel.request(), channel, client);
+
+            verify(channel, never()).sendResponse(any());
+            assertThat(indexed, equalTo(expected));
+        }
+    }
+
+    public void testBulkStreamingReportsTheLineOfTheBody() throws Exception {
+        final String body = "{\"index\":{\"_id\":\"1\"}}\n"
+            + "{\"field\":\"value\"}\n"
+            + "{\"delete\":{\"_id\":\"2\"}}\n"
+            + "{\"index\":{\"_id\":\"3\",\"unknown\":\"value\"}}\n"
+            + "{\"field\":\"value\"}\n";
+        // the second chunk starts in the middle of the third line
+        final int split = body.indexOf("delete");
+        final List<HttpChunk> chunks = List.of(chunk(body.substring(0, split), false), chunk(body.substring(split), true));
+
+        try (NodeClient client = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                listener.onResponse(new BulkResponse(new BulkItemResponse[0], 0L));
+            }
+        }) {
+            final StreamingRestChannel channel = streamingChannel(chunks);
+            new RestBulkStreamingAction(settings(Version.CURRENT).build()).handleRequest(channel.request(), channel, client);
+
+            final ArgumentCaptor<RestResponse> responseCaptor = ArgumentCaptor.captor();
+            verify(channel).sendResponse(responseCaptor.capture());
+            assertThat(responseCaptor.getValue().status(), equalTo(RestStatus.BAD_REQUEST));
+            assertThat(
+                responseCaptor.getValue().content().utf8ToString(),
+                containsString("Action/metadata line [4] contains an unknown parameter [unknown]")
+            );
+        }
+    }
+
+    private StreamingRestChannel streamingChannel(List<HttpChunk> chunks) throws IOException {
+        final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk/stream")
+            .withParams(new HashMap<>(Map.of("index", "my_index")))
+            .withContent(BytesArray.EMPTY, MediaTypeRegistry.JSON)
+            .withMethod(RestRequest.Method.POST)
+            .build();
+        final StreamingRestChannel channel = mock(StreamingRestChannel.class);
+        when(channel.request()).thenReturn(request);
+        when(channel.newErrorBuilder()).thenReturn(XContentType.JSON.contentBuilder());
+        when(channel.newBuilder(any(), anyBoolean())).thenAnswer(invocation -> XContentType.JSON.contentBuilder());
+        when(channel.detailedErrorsEnabled()).thenReturn(true);
+        doAnswer(invocation -> {
+            Flux.fromIterable(chunks).subscribe(invocation.<Subscriber<? super HttpChunk>>getArgument(0));
+            return null;
+        }).when(channel).subscribe(any());
+        return channel;
+    }
+
+    private static HttpChunk chunk(String content, boolean last) {
+        return new HttpChunk() {
+            @Override
+            public boolean isLast() {
+                return last;
+            }
+
+            @Override
+            public BytesReference content() {
+                return new BytesArray(content);
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
 }
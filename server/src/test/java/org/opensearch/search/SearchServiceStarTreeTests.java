@@ -19,6 +19,7 @@ import org.opensearch.common.Rounding;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.compositeindex.datacube.DateDimension;
@@ -940,6 +941,126 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         setStarTreeIndexSetting(null);
     }
 
+    /**
+     * Test selection of the star tree when the index has multiple star trees with different dimension orders
+     */
+    public void testQueryParsingWithMultipleStarTrees() throws IOException {
+        setStarTreeIndexSetting("true");
+
+        CreateIndexRequestBuilder builder = client().admin()
+            .indices()
+            .prepareCreate("test")
+            .setSettings(
+                Settings.builder()
+                    .put(starStreeEnabledIndexSettings)
+                    .put(StarTreeIndexSettings.STAR_TREE_MAX_FIELDS_SETTING.getKey(), 2)
+                    .build()
+            )
+            .setMapping(getMappingWithMultipleStarTrees());
+        createIndex("test", builder);
+
+        IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        IndexService indexService = indicesService.indexServiceSafe(resolveIndex("test"));
+        IndexShard indexShard = indexService.getShard(0);
+        ShardSearchRequest request = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            new SearchRequest().allowPartialSearchResults(true),
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1.0f,
+            -1,
+            null,
+            null
+        );
+        String KEYWORD_FIELD = "clientip";
+        String NUMERIC_FIELD = "size";
+
+        SearchContext searchContext = createSearchContext(indexService);
+        StarTreeFieldConfiguration starTreeFieldConfiguration = new StarTreeFieldConfiguration(
+            10000,
+            Collections.emptySet(),
+            StarTreeFieldConfiguration.StarTreeBuildMode.OFF_HEAP
+        );
+        List<Dimension> statusFirstDimensions = List.of(
+            new NumericDimension(STATUS),
+            new NumericDimension(NUMERIC_FIELD),
+            new OrdinalDimension(KEYWORD_FIELD)
+        );
+        List<Dimension> clientIpFirstDimensions = List.of(new OrdinalDimension(KEYWORD_FIELD), new NumericDimension(STATUS));
+        List<Metric> metrics = List.of(new Metric(NUMERIC_FIELD, List.of(MetricStat.SUM, MetricStat.MAX)));
+
+        // Case 1: Grouping by the first dimension of the second star tree, should use the second star tree
+        TermsAggregationBuilder termsAggregationBuilder = terms("term").field(KEYWORD_FIELD)
+            .subAggregation(max("max").field(NUMERIC_FIELD));
+        QueryBuilder baseQuery = new MatchAllQueryBuilder();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(0).query(baseQuery).aggregation(termsAggregationBuilder);
+        assertStarTreeContext(
+            request,
+            sourceBuilder,
+            getStarTreeQueryContext(
+                searchContext,
+                starTreeFieldConfiguration,
+                "startree_clientip",
+                -1,
+                clientIpFirstDimensions,
+                metrics,
+                baseQuery,
+                sourceBuilder,
+                true
+            ),
+            -1
+        );
+
+        // Case 2: Filtering and grouping by the first dimension of the first star tree, should use the first star tree
+        termsAggregationBuilder = terms("term").field(STATUS).subAggregation(max("max").field(NUMERIC_FIELD));
+        baseQuery = new TermQueryBuilder(STATUS, 1);
+        sourceBuilder = new SearchSourceBuilder().size(0).query(baseQuery).aggregation(termsAggregationBuilder);
+        assertStarTreeContext(
+            request,
+            sourceBuilder,
+            getStarTreeQueryContext(
+                searchContext,
+                starTreeFieldConfiguration,
+                "startree_status",
+                -1,
+                statusFirstDimensions,
+                metrics,
+                baseQuery,
+                sourceBuilder,
+                true
+            ),
+            -1
+        );
+
+        // Case 3: Grouping by a dimension which is only part of the first star tree, should use the first star tree
+        termsAggregationBuilder = terms("term").field(NUMERIC_FIELD).subAggregation(max("max").field(NUMERIC_FIELD));
+        baseQuery = new TermQueryBuilder(KEYWORD_FIELD, "0.0.0.1");
+        sourceBuilder = new SearchSourceBuilder().size(0).query(baseQuery).aggregation(termsAggregationBuilder);
+        assertStarTreeContext(
+            request,
+            sourceBuilder,
+            getStarTreeQueryContext(
+                searchContext,
+                starTreeFieldConfiguration,
+                "startree_status",
+                -1,
+                statusFirstDimensions,
+                metrics,
+                baseQuery,
+                sourceBuilder,
+                true
+            ),
+            -1
+        );
+
+        // Case 4: Metric which is not part of any star tree, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0).query(new MatchAllQueryBuilder()).aggregation(max("max").field(STATUS));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        setStarTreeIndexSetting(null);
+    }
+
     /**
      * Test different aggregations with different combinations of date range query
      */
@@ -1072,6 +1193,32 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         setStarTreeIndexSetting(null);
     }
 
+    private static XContentBuilder getMappingWithMultipleStarTrees() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject("composite");
+        addStarTree(builder, "startree_status", List.of("status", "size", "clientip"));
+        addStarTree(builder, "startree_clientip", List.of("clientip", "status"));
+        builder.endObject();
+        builder.startObject("properties");
+        builder.startObject("status").field("type", "integer").endObject();
+        builder.startObject("size").field("type", "integer").endObject();
+        builder.startObject("clientip").field("type", "keyword").endObject();
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    private static void addStarTree(XContentBuilder builder, String name, List<String> dimensions) throws IOException {
+        builder.startObject(name).field("type", "star_tree").startObject("config");
+        builder.startArray("ordered_dimensions");
+        for (String dimension : dimensions) {
+            builder.startObject().field("name", dimension).endObject();
+        }
+        builder.endArray();
+        builder.startArray("metrics");
+        builder.startObject().field("name", "size").array("stats", "sum", "max").endObject();
+        builder.endArray();
+        builder.endObject().endObject();
+    }
+
     private void setStarTreeIndexSetting(String value) {
         client().admin()
             .cluster()
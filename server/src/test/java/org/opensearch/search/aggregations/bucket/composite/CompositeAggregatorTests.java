@@ -32,12 +32,20 @@
 
 package org.opensearch.search.aggregations.bucket.composite;
 
+import org.apache.lucene.document.Document;
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.Aggregator;
@@ -71,6 +79,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
@@ -2558,4 +2567,69 @@ public class CompositeAggregatorTests extends BaseCompositeAggregatorTestCase {
             );
         }
     }
+
+    public void testStreamingBatches() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (
+                RandomIndexWriter indexWriter = new RandomIndexWriter(
+                    random(),
+                    directory,
+                    newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                Document document = new Document();
+                int numDocs = randomIntBetween(100, 300);
+                for (int id = 0; id < numDocs; id++) {
+                    document.clear();
+                    addToDocument(
+                        id,
+                        document,
+                        createDocument("long", (long) randomIntBetween(0, 29), "date", asLong("2017-10-20T03:08:45") + id * 3_600_000L)
+                    );
+                    indexWriter.addDocument(document);
+                    if (id % 30 == 29) {
+                        // several segments make several batches
+                        indexWriter.commit();
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                Supplier<CompositeAggregationBuilder> builder = randomFrom(
+                    () -> new CompositeAggregationBuilder(
+                        "name",
+                        Collections.singletonList(new TermsValuesSourceBuilder("long").field("long"))
+                    ).size(5).subAggregation(new MaxAggregationBuilder("max").field("date")),
+                    () -> new CompositeAggregationBuilder(
+                        "name",
+                        Collections.singletonList(
+                            new DateHistogramValuesSourceBuilder("date").field("date").calendarInterval(DateHistogramInterval.DAY)
+                        )
+                    ).size(3)
+                );
+                MappedFieldType[] fieldTypes = FIELD_TYPES.toArray(new MappedFieldType[0]);
+                InternalComposite expected = searchAndReduce(
+                    createIndexSettings(null),
+                    indexSearcher,
+                    new MatchAllDocsQuery(),
+                    builder.get(),
+                    DEFAULT_MAX_BUCKETS,
+                    false,
+                    fieldTypes
+                );
+                InternalComposite streamed = searchAndReduceStreaming(indexSearcher, new MatchAllDocsQuery(), builder.get(), fieldTypes);
+
+                assertEquals(expected.afterKey(), streamed.afterKey());
+                assertEquals(expected.getBuckets().size(), streamed.getBuckets().size());
+                for (int i = 0; i < expected.getBuckets().size(); i++) {
+                    InternalComposite.InternalBucket expectedBucket = expected.getBuckets().get(i);
+                    InternalComposite.InternalBucket streamedBucket = streamed.getBuckets().get(i);
+                    assertEquals(expectedBucket.getKey(), streamedBucket.getKey());
+                    assertEquals(expectedBucket.getDocCount(), streamedBucket.getDocCount());
+                    assertEquals(expectedBucket.getAggregations(), streamedBucket.getAggregations());
+                }
+            }
+        }
+    }
 }
@@ -38,12 +38,15 @@ import org.opensearch.search.aggregations.bucket.histogram.InternalAutoDateHisto
 import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
 import org.opensearch.search.aggregations.bucket.range.InternalRange;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
 import org.opensearch.search.aggregations.metrics.InternalStats;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -267,6 +270,59 @@ public class FilterRewriteSubAggTests extends AggregatorTestCase {
         }
     }
 
+    public void testDateHistoWithNestedTerms() throws IOException {
+        final String termsAggName = "terms";
+        final Long[] statusCodes = new Long[] { 200L, 404L, 500L };
+        final String[] dates = new String[] {
+            "2017-02-01T09:02:00.000Z",
+            "2017-02-01T10:00:00.001Z",
+            "2017-02-01T13:06:00.000Z",
+            "2017-02-01T14:05:00.000Z",
+            "2017-02-01T16:59:00.000Z" };
+
+        Map<Instant, Map<Long, Integer>> expectedCounts = new HashMap<>();
+        List<TestDoc> docs = new ArrayList<>();
+        for (String date : dates) {
+            int docCount = randomIntBetween(100, 1000);
+            for (int i = 0; i < docCount; i++) {
+                long statusCode = randomFrom(statusCodes);
+                Instant hour = Instant.parse(date).truncatedTo(ChronoUnit.HOURS);
+                expectedCounts.computeIfAbsent(hour, k -> new HashMap<>()).merge(statusCode, 1, Integer::sum);
+                docs.add(new TestDoc(statusCode, Instant.parse(date)));
+            }
+        }
+        // the documents of a bucket are spread across the segments instead of being in doc ID order
+        Collections.shuffle(docs, random());
+
+        DateHistogramAggregationBuilder dateHistogramAggregationBuilder = new DateHistogramAggregationBuilder(dateAggName).field(
+            dateFieldName
+        )
+            .calendarInterval(DateHistogramInterval.HOUR)
+            .minDocCount(1L)
+            .subAggregation(
+                AggregationBuilders.terms(termsAggName)
+                    .field(longFieldName)
+                    .subAggregation(AggregationBuilders.stats(statsAggName).field(longFieldName))
+            );
+
+        InternalDateHistogram result = executeAggregation(docs, dateHistogramAggregationBuilder, randomBoolean());
+        List<? extends InternalDateHistogram.Bucket> buckets = result.getBuckets();
+        assertEquals(dates.length, buckets.size());
+        for (InternalDateHistogram.Bucket bucket : buckets) {
+            Map<Long, Integer> expected = expectedCounts.get(((ZonedDateTime) bucket.getKey()).toInstant());
+            LongTerms terms = bucket.getAggregations().get(termsAggName);
+            assertEquals(expected.size(), terms.getBuckets().size());
+            for (LongTerms.Bucket termsBucket : terms.getBuckets()) {
+                long statusCode = termsBucket.getKeyAsNumber().longValue();
+                assertEquals((long) expected.get(statusCode), termsBucket.getDocCount());
+                InternalStats stats = termsBucket.getAggregations().get(statsAggName);
+                assertEquals(termsBucket.getDocCount(), stats.getCount());
+                assertEquals(statusCode, stats.getMin(), 0);
+                assertEquals(statusCode, stats.getMax(), 0);
+            }
+        }
+    }
+
     public void testLeafTraversal() throws IOException {
         Map<String, Integer> dataset = new HashMap<>();
         dataset.put("2017-02-01T09:02:00.000Z", 512);
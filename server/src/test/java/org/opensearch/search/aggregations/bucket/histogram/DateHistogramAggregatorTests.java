@@ -1463,6 +1463,59 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         }
     }
 
+    public void testStreamingBatches() throws IOException {
+        final boolean searchable = randomBoolean();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                long start = asLong("2017-02-01T09:00:00.000Z");
+                int numDocs = randomIntBetween(100, 300);
+                for (int i = 0; i < numDocs; i++) {
+                    long date = start + randomLongBetween(0, 48 * 3_600_000L);
+                    Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, date));
+                    if (searchable) {
+                        document.add(new LongPoint(AGGREGABLE_DATE, date));
+                    }
+                    indexWriter.addDocument(document);
+                    if (i % 40 == 39) {
+                        // several segments make several batches
+                        indexWriter.commit();
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = aggregableDateFieldType(false, searchable);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name").field(AGGREGABLE_DATE)
+                    .fixedInterval(new DateHistogramInterval("1h"))
+                    .minDocCount(randomLongBetween(0, 1));
+
+                InternalDateHistogram expected = searchAndReduce(
+                    createIndexSettings(),
+                    indexSearcher,
+                    new MatchAllDocsQuery(),
+                    aggregationBuilder,
+                    DEFAULT_MAX_BUCKETS,
+                    false,
+                    fieldType
+                );
+                InternalDateHistogram streamed = searchAndReduceStreaming(
+                    indexSearcher,
+                    new MatchAllDocsQuery(),
+                    aggregationBuilder,
+                    fieldType
+                );
+
+                assertEquals(expected.getBuckets().size(), streamed.getBuckets().size());
+                for (int i = 0; i < expected.getBuckets().size(); i++) {
+                    assertEquals(expected.getBuckets().get(i).getKey(), streamed.getBuckets().get(i).getKey());
+                    assertEquals(expected.getBuckets().get(i).getDocCount(), streamed.getBuckets().get(i).getDocCount());
+                }
+            }
+        }
+    }
+
     public void testMultiRangeTraversal() throws IOException {
         Map<String, Integer> dataset = new HashMap<>();
         dataset.put("2017-02-01T09:02:00.000Z", randomIntBetween(100, 2000));
@@ -943,6 +943,7 @@ public class MultiTermsAggregatorTests extends AggregatorTestCase {
             factories,
             showTermDocCountError,
             List.of(internalValuesSources),
+            List.of(FIELD_NAME),
             List.of(format),
             order,
             collectMode,
@@ -32,11 +32,16 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -52,15 +57,22 @@ import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValueType;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.Mockito.when;
 
 public class NumericTermsAggregatorTests extends AggregatorTestCase {
@@ -122,6 +134,148 @@ public class NumericTermsAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    public void testFilterRewriteOptimization() throws IOException {
+        final NumberFieldMapper.NumberType numberType = randomFrom(NumberFieldMapper.NumberType.LONG, NumberFieldMapper.NumberType.INTEGER);
+        final boolean withDeletions = randomBoolean();
+        try (Directory directory = newDirectory()) {
+            try (
+                RandomIndexWriter indexWriter = new RandomIndexWriter(
+                    random(),
+                    directory,
+                    newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                for (Long value : dataset) {
+                    Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(LONG_FIELD, value));
+                    if (numberType == NumberFieldMapper.NumberType.LONG) {
+                        document.add(new LongPoint(LONG_FIELD, value));
+                    } else {
+                        document.add(new IntPoint(LONG_FIELD, value.intValue()));
+                    }
+                    document.add(new StringField("id", Long.toString(value), Field.Store.NO));
+                    indexWriter.addDocument(document);
+                }
+                if (withDeletions) {
+                    indexWriter.deleteDocuments(new Term("id", "4"));
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(LONG_FIELD, numberType);
+                Query query;
+                if (randomBoolean()) {
+                    query = new MatchAllDocsQuery();
+                } else if (numberType == NumberFieldMapper.NumberType.LONG) {
+                    query = LongPoint.newRangeQuery(LONG_FIELD, 3, 6);
+                } else {
+                    query = IntPoint.newRangeQuery(LONG_FIELD, 3, 6);
+                }
+                long min = query instanceof MatchAllDocsQuery ? 1 : 3;
+                long max = query instanceof MatchAllDocsQuery ? 9 : 6;
+
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field(LONG_FIELD)
+                    .order(BucketOrder.key(true));
+                NumericTermsAggregator aggregator = createAggregator(
+                    query,
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                LongTerms result = (LongTerms) aggregator.buildTopLevel();
+
+                List<LongTerms.Bucket> buckets = result.getBuckets();
+                for (long value = min, i = 0; value <= max; value++) {
+                    if (withDeletions && value == 4) {
+                        continue;
+                    }
+                    LongTerms.Bucket bucket = buckets.get((int) i++);
+                    assertThat(bucket.getKey(), equalTo(value));
+                    assertThat(bucket.getDocCount(), equalTo(value));
+                }
+                assertEquals(max - min + (withDeletions && min <= 4 ? 0 : 1), buckets.size());
+
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                if (withDeletions) {
+                    // point counts include the deleted documents, the segment with deletions falls back to the doc values
+                    assertThat((int) debug.getOrDefault("optimized_segments", 0), lessThan(indexReader.leaves().size()));
+                } else {
+                    assertThat(debug.get("optimized_segments"), equalTo(indexReader.leaves().size()));
+                }
+            }
+        }
+    }
+
+    public void testStreamingBatches() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (
+                RandomIndexWriter indexWriter = new RandomIndexWriter(
+                    random(),
+                    directory,
+                    newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                int numDocs = randomIntBetween(100, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    long value = randomIntBetween(0, 19);
+                    Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(LONG_FIELD, value));
+                    document.add(new LongPoint(LONG_FIELD, value));
+                    indexWriter.addDocument(document);
+                    if (i % 50 == 49) {
+                        // several segments make several batches
+                        indexWriter.commit();
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(LONG_FIELD, NumberFieldMapper.NumberType.LONG);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field(LONG_FIELD)
+                    .size(5)
+                    .subAggregation(new SumAggregationBuilder("sum").field(LONG_FIELD))
+                    .subAggregation(new MaxAggregationBuilder("max").field(LONG_FIELD));
+
+                Query query = new MatchAllDocsQuery();
+                LongTerms expected = searchAndReduce(
+                    createIndexSettings(),
+                    indexSearcher,
+                    query,
+                    aggregationBuilder,
+                    DEFAULT_MAX_BUCKETS,
+                    false,
+                    fieldType
+                );
+                LongTerms streamed = searchAndReduceStreaming(indexSearcher, query, aggregationBuilder, fieldType);
+
+                assertEquals(expected.getBuckets().size(), streamed.getBuckets().size());
+                for (int i = 0; i < expected.getBuckets().size(); i++) {
+                    LongTerms.Bucket expectedBucket = expected.getBuckets().get(i);
+                    LongTerms.Bucket streamedBucket = streamed.getBuckets().get(i);
+                    assertEquals(expectedBucket.getKey(), streamedBucket.getKey());
+                    assertEquals(expectedBucket.getDocCount(), streamedBucket.getDocCount());
+                    assertEquals(
+                        ((Sum) expectedBucket.getAggregations().get("sum")).getValue(),
+                        ((Sum) streamedBucket.getAggregations().get("sum")).getValue(),
+                        0d
+                    );
+                    assertEquals(
+                        ((Max) expectedBucket.getAggregations().get("max")).getValue(),
+                        ((Max) streamedBucket.getAggregations().get("max")).getValue(),
+                        0d
+                    );
+                }
+            }
+        }
+    }
+
     public void testBadIncludeExclude() throws IOException {
         IncludeExclude includeExclude = new IncludeExclude("foo", null);
 
@@ -52,6 +52,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermRangeQuery;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
@@ -290,8 +291,9 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         // Fields not indexed: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
         testSimple(ADD_SORTED_SET_FIELD_NOT_INDEXED, false, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
 
-        // Fields indexed, deleted documents in segment: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
-        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
+        // Fields indexed, deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector and subtract the deleted
+        // documents from the doc frequencies - no documents are visited
+        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
 
         // Fields indexed, no deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector - no documents are visited
         testSimple(ADD_SORTED_SET_FIELD_INDEXED, false, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
@@ -309,8 +311,9 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         // Fields not indexed: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
         testSimple(ADD_SORTED_SET_FIELD_NOT_INDEXED, false, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
 
-        // Fields indexed, deleted documents in segment: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
-        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
+        // Fields indexed, deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector and subtract the deleted
+        // documents from the doc frequencies - no documents are visited
+        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
 
         // Fields indexed, no deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector - no documents are visited
         testSimple(ADD_SORTED_SET_FIELD_INDEXED, false, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
@@ -434,6 +437,54 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testSimpleAggregationWithRangeQuery() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (
+                RandomIndexWriter indexWriter = new RandomIndexWriter(
+                    random(),
+                    directory,
+                    newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                List<Document> documents = new ArrayList<>();
+                for (String value : new String[] { "a", "b", "b", "c", "c", "c", "d" }) {
+                    Document document = new Document();
+                    ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", value);
+                    documents.add(document);
+                }
+                indexWriter.addDocuments(documents);
+
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    TermRangeQuery query = new TermRangeQuery("string", new BytesRef("b"), new BytesRef("d"), true, false);
+
+                    TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                        .executionHint(TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS.toString())
+                        .field("string")
+                        .order(BucketOrder.key(true));
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+
+                    CountingAggregator aggregator = new CountingAggregator(
+                        new AtomicInteger(),
+                        createAggregator(query, aggregationBuilder, indexSearcher, createIndexSettings(), fieldType)
+                    );
+                    aggregator.preCollection();
+                    indexSearcher.search(query, aggregator);
+                    aggregator.postCollection();
+                    Terms result = reduce(aggregator);
+                    assertEquals(2, result.getBuckets().size());
+                    assertEquals("b", result.getBuckets().get(0).getKeyAsString());
+                    assertEquals(2L, result.getBuckets().get(0).getDocCount());
+                    assertEquals("c", result.getBuckets().get(1).getKeyAsString());
+                    assertEquals(3L, result.getBuckets().get(1).getDocCount());
+
+                    // Single valued field under a range query over the same field: counts are read from the term frequencies
+                    assertEquals(0, aggregator.getCollectCount().get());
+                }
+            }
+        }
+    }
+
     public void testStringIncludeExclude() throws Exception {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
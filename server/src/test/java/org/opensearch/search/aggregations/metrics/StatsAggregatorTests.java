@@ -36,6 +36,7 @@ import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -55,6 +56,8 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.script.ScriptType;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSourceType;
@@ -137,6 +140,56 @@ public class StatsAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testBatchCollection() throws IOException {
+        final MappedFieldType ft = new NumberFieldMapper.NumberFieldType("field", NumberType.DOUBLE);
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            final int numDocs = randomIntBetween(100, 1000);
+            for (int i = 0; i < numDocs; i++) {
+                Document doc = new Document();
+                int numValues = randomIntBetween(0, 3);
+                for (int j = 0; j < numValues; j++) {
+                    double value = randomDoubleBetween(-100d, 100d, true);
+                    doc.add(new SortedNumericDocValuesField(ft.name(), NumericUtils.doubleToSortableLong(value)));
+                }
+                indexWriter.addDocument(doc);
+            }
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                StatsAggregator aggregator = createAggregator(stats("_name").field(ft.name()), searcher, ft);
+                aggregator.preCollection();
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    LeafBucketCollector leafCollector = aggregator.getLeafCollector(ctx);
+                    // collect the same random subset of docs one by one in bucket 0 and in batches in bucket 1
+                    final int[] docs = new int[ctx.reader().maxDoc()];
+                    int count = 0;
+                    for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                        if (randomBoolean()) {
+                            docs[count++] = doc;
+                        }
+                    }
+                    for (int i = 0; i < count; i++) {
+                        leafCollector.collect(docs[i], 0);
+                    }
+                    leafCollector = aggregator.getLeafCollector(ctx);
+                    int from = 0;
+                    while (from < count) {
+                        final int batchSize = Math.min(count - from, randomIntBetween(1, 64));
+                        leafCollector.collect(Arrays.copyOfRange(docs, from, from + batchSize), batchSize, 1);
+                        from += batchSize;
+                    }
+                }
+                aggregator.postCollection();
+                InternalAggregation[] results = aggregator.buildAggregations(new long[] { 0, 1 });
+                InternalStats oneByOne = (InternalStats) results[0];
+                InternalStats batched = (InternalStats) results[1];
+                assertEquals(oneByOne.getCount(), batched.getCount());
+                assertEquals(oneByOne.getSum(), batched.getSum(), 0);
+                assertEquals(oneByOne.getMin(), batched.getMin(), 0);
+                assertEquals(oneByOne.getMax(), batched.getMax(), 0);
+            }
+        }
+    }
+
     public void testSummationAccuracy() throws IOException {
         // Summing up a normal array and expect an accurate value
         double[] values = new double[] { 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7 };
@@ -67,14 +67,18 @@ import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.InternalAvg;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
 import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.metrics.InternalMin;
 import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalValueCount;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
@@ -97,9 +101,11 @@ import java.util.stream.Stream;
 
 import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.objectToUnsignedLong;
 import static org.opensearch.search.aggregations.AggregationBuilders.avg;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
 import static org.opensearch.search.aggregations.AggregationBuilders.min;
+import static org.opensearch.search.aggregations.AggregationBuilders.percentiles;
 import static org.opensearch.search.aggregations.AggregationBuilders.sum;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.mockito.Mockito.mock;
@@ -235,6 +241,8 @@ public class MetricAggregatorTests extends AggregatorTestCase {
         MinAggregationBuilder minAggregationBuilder = min("_name").field(FIELD_NAME);
         ValueCountAggregationBuilder valueCountAggregationBuilder = count("_name").field(FIELD_NAME);
         AvgAggregationBuilder avgAggregationBuilder = avg("_name").field(FIELD_NAME);
+        CardinalityAggregationBuilder cardinalityAggregationBuilder = cardinality("_name").field(FIELD_NAME);
+        PercentilesAggregationBuilder percentilesAggregationBuilder = percentiles("_name").field(FIELD_NAME);
 
         LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = dimensionFieldData.stream()
             .collect(
@@ -300,6 +308,24 @@ public class MetricAggregatorTests extends AggregatorTestCase {
                     supportedDimensions,
                     verifyAggregation(InternalAvg::getValue)
                 );
+                testCase(
+                    indexSearcher,
+                    query,
+                    qb,
+                    cardinalityAggregationBuilder,
+                    starTree,
+                    supportedDimensions,
+                    verifyAggregation(InternalCardinality::getValue)
+                );
+                testCase(
+                    indexSearcher,
+                    query,
+                    qb,
+                    percentilesAggregationBuilder,
+                    starTree,
+                    supportedDimensions,
+                    verifyPercentiles()
+                );
             }
         }
 
@@ -425,6 +451,15 @@ public class MetricAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    // centroid means are stored as floats in the star-tree, so percentiles are only compared within the digest's accuracy
+    BiConsumer<InternalTDigestPercentiles, InternalTDigestPercentiles> verifyPercentiles() {
+        return (expectedAggregation, actualAggregation) -> {
+            for (double percent : new double[] { 1, 25, 50, 75, 99 }) {
+                assertEquals(expectedAggregation.percentile(percent), actualAggregation.percentile(percent), 1.0);
+            }
+        };
+    }
+
     private <T extends AggregationBuilder, V extends InternalAggregation> void testCase(
         IndexSearcher searcher,
         Query query,
@@ -32,28 +32,52 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -157,6 +181,108 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertEquals("cancelled task with reason: test", ex.getMessage());
     }
 
+    public void testConcurrentStoredFieldsLoader() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            int numSegments = randomIntBetween(2, 4);
+            int numDocs = 0;
+            for (int s = 0; s < numSegments; s++) {
+                int numSegmentDocs = randomIntBetween(ConcurrentStoredFieldsLoader.MIN_DOCS, 100);
+                for (int i = 0; i < numSegmentDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new StoredField(IdFieldMapper.NAME, Uid.encodeId(Integer.toString(numDocs))));
+                    doc.add(new StoredField(SourceFieldMapper.NAME, new BytesRef("{\"field\":" + numDocs + "}")));
+                    writer.addDocument(doc);
+                    numDocs++;
+                }
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(numSegments, reader.leaves().size());
+                SearchContext context = mock(SearchContext.class);
+                when(context.shouldUseConcurrentSearch()).thenReturn(true);
+                when(context.mapperService()).thenReturn(mock(MapperService.class));
+                AtomicLong limit = new AtomicLong(Long.MAX_VALUE);
+                AtomicLong used = new AtomicLong();
+                CircuitBreakerService breakerService = mock(CircuitBreakerService.class);
+                when(breakerService.getBreaker(CircuitBreaker.REQUEST)).thenReturn(new NoopCircuitBreaker(CircuitBreaker.REQUEST) {
+                    @Override
+                    public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+                        if (used.get() + bytes > limit.get()) {
+                            throw new CircuitBreakingException("test error", bytes, limit.get(), Durability.TRANSIENT);
+                        }
+                        return used.addAndGet(bytes);
+                    }
+
+                    @Override
+                    public long addWithoutBreaking(long bytes) {
+                        return used.addAndGet(bytes);
+                    }
+                });
+                when(context.bigArrays()).thenReturn(new BigArrays(null, breakerService, CircuitBreaker.REQUEST));
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    reader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    false,
+                    executor,
+                    context
+                );
+                when(context.searcher()).thenReturn(searcher);
+
+                List<FetchPhase.DocIdToIndex> docs = new ArrayList<>();
+                for (int docId = 0; docId < numDocs; docId++) {
+                    if (randomBoolean() || docs.size() < ConcurrentStoredFieldsLoader.MIN_DOCS) {
+                        docs.add(new FetchPhase.DocIdToIndex(docId, docs.size()));
+                    }
+                }
+                FetchPhase.DocIdToIndex[] sortedDocs = docs.toArray(new FetchPhase.DocIdToIndex[0]);
+                ConcurrentStoredFieldsLoader loader = ConcurrentStoredFieldsLoader.load(context, sortedDocs, () -> new FieldsVisitor(true));
+                assertNotNull(loader);
+                for (FetchPhase.DocIdToIndex doc : sortedDocs) {
+                    int ord = ReaderUtil.subIndex(doc.docId, reader.leaves());
+                    FieldsVisitor visitor = new FieldsVisitor(true);
+                    visitor.reset();
+                    loader.fieldReader(ord).accept(doc.docId - reader.leaves().get(ord).docBase, visitor);
+                    assertEquals(Integer.toString(doc.docId), visitor.id());
+                    assertEquals("{\"field\":" + doc.docId + "}", visitor.source().utf8ToString());
+                }
+                // the recorded fields are accounted for until the loader is closed
+                assertThat(used.get(), greaterThan(0L));
+                loader.close();
+                assertEquals(0L, used.get());
+
+                // the breaker trips while recording the fields, the bytes that were added are released
+                limit.set(randomLongBetween(0, 1024));
+                expectThrows(
+                    CircuitBreakingException.class,
+                    () -> ConcurrentStoredFieldsLoader.load(context, sortedDocs, () -> new FieldsVisitor(true))
+                );
+                assertEquals(0L, used.get());
+
+                // too few documents to read them concurrently
+                FetchPhase.DocIdToIndex[] fewDocs = Arrays.copyOf(sortedDocs, ConcurrentStoredFieldsLoader.MIN_DOCS - 1);
+                assertNull(ConcurrentStoredFieldsLoader.load(context, fewDocs, () -> new FieldsVisitor(true)));
+
+                // the documents of a single segment
+                FetchPhase.DocIdToIndex[] segmentDocs = new FetchPhase.DocIdToIndex[reader.leaves().get(0).reader().maxDoc()];
+                for (int i = 0; i < segmentDocs.length; i++) {
+                    segmentDocs[i] = new FetchPhase.DocIdToIndex(i, i);
+                }
+                assertNull(ConcurrentStoredFieldsLoader.load(context, segmentDocs, () -> new FieldsVisitor(true)));
+
+                when(context.shouldUseConcurrentSearch()).thenReturn(false);
+                assertNull(ConcurrentStoredFieldsLoader.load(context, sortedDocs, () -> new FieldsVisitor(true)));
+            }
+        } finally {
+            terminate(executor);
+        }
+    }
+
     public void testExecuteCancelledTaskThrows() {
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
         TestSearchContext context = new TestSearchContext(null, null, null);
@@ -84,6 +84,12 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
         assertEquals(Collections.singletonMap("field", "value"), hitContext.hit().getSourceAsMap());
     }
 
+    public void testFilteringKeepsSourceOrder() throws IOException {
+        XContentBuilder source = XContentFactory.jsonBuilder().startObject().field("b", 1).field("a", 2).field("c", 3).endObject();
+        HitContext hitContext = hitExecuteMultiple(source, true, new String[] { "a", "b" }, null);
+        assertEquals("{\"b\":1,\"a\":2}", hitContext.hit().getSourceRef().utf8ToString());
+    }
+
     public void testNestedSource() throws IOException {
         Map<String, Object> expectedNested = Collections.singletonMap("nested2", Collections.singletonMap("field", "value0"));
         XContentBuilder source = XContentFactory.jsonBuilder()
@@ -38,6 +38,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.set.Sets;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -112,6 +113,8 @@ public class MockPageCacheRecycler extends PageCacheRecycler {
                     Arrays.fill((double[]) ref, 0, Array.getLength(ref), random.nextDouble() - 0.5);
                 } else if (ref instanceof float[]) {
                     Arrays.fill((float[]) ref, 0, Array.getLength(ref), random.nextFloat() - 0.5f);
+                } else if (ref instanceof ByteBuffer) {
+                    fillRandom((ByteBuffer) ref);
                 } else {
                     for (int i = 0; i < Array.getLength(ref); ++i) {
                         Array.set(ref, i, (byte) random.nextInt(256));
@@ -165,4 +168,20 @@ public class MockPageCacheRecycler extends PageCacheRecycler {
         return wrap(super.objectPage());
     }
 
+    @Override
+    public V<ByteBuffer> directPage(boolean clear) {
+        final V<ByteBuffer> page = super.directPage(clear);
+        if (!clear) {
+            fillRandom(page.v());
+        }
+        return wrap(page);
+    }
+
+    private void fillRandom(ByteBuffer page) {
+        final byte value = (byte) random.nextInt(1 << 8);
+        for (int i = 0; i < page.capacity(); ++i) {
+            page.put(i, value);
+        }
+    }
+
 }
@@ -47,9 +47,13 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexReaderContext;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.IndexSearcher.LeafReaderContextPartition;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
@@ -776,6 +780,63 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         return internalAgg;
     }
 
+    /**
+     * Collects all documents that match the provided query {@link Query} the way a streaming search does: a partial
+     * result is built and the aggregator is reset after every leaf, and all the partial results are reduced together.
+     */
+    protected <A extends InternalAggregation, C extends Aggregator> A searchAndReduceStreaming(
+        IndexSearcher searcher,
+        Query query,
+        AggregationBuilder builder,
+        MappedFieldType... fieldTypes
+    ) throws IOException {
+        final PipelineTree pipelines = builder.buildPipelineTree();
+        MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(
+            DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        C root = createStreamAggregator(query, builder, searcher, createIndexSettings(), bucketConsumer, fieldTypes);
+        List<InternalAggregation> aggs = new ArrayList<>();
+        root.preCollection();
+        Weight weight = searcher.createWeight(searcher.rewrite(query), root.scoreMode(), 1f);
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            final LeafCollector leafCollector;
+            try {
+                leafCollector = root.getLeafCollector(leaf);
+            } catch (CollectionTerminatedException e) {
+                // nothing to send for this leaf, what was collected goes with the next batch
+                continue;
+            }
+            BulkScorer scorer = weight.bulkScorer(leaf);
+            if (scorer != null) {
+                try {
+                    scorer.score(leafCollector, leaf.reader().getLiveDocs(), 0, DocIdSetIterator.NO_MORE_DOCS);
+                } catch (CollectionTerminatedException e) {
+                    // the leaf is done
+                }
+            }
+            leafCollector.finish();
+            aggs.add(root.buildTopLevelBatch());
+        }
+        root.postCollection();
+        aggs.add(root.buildTopLevel());
+
+        MultiBucketConsumer reduceBucketConsumer = new MultiBucketConsumer(
+            DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        InternalAggregation.ReduceContext context = InternalAggregation.ReduceContext.forFinalReduction(
+            root.context().bigArrays(),
+            getMockScriptService(),
+            reduceBucketConsumer,
+            pipelines
+        );
+        @SuppressWarnings("unchecked")
+        A internalAgg = (A) aggs.get(0).reduce(aggs, context);
+        doAssertReducedMultiBucketConsumer(internalAgg, reduceBucketConsumer);
+        return internalAgg;
+    }
+
     protected <A extends InternalAggregation, C extends Aggregator> A searchAndReduceStarTree(
         IndexSettings indexSettings,
         IndexSearcher searcher,
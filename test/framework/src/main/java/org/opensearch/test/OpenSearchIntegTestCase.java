@@ -690,7 +690,7 @@ public abstract class OpenSearchIntegTestCase extends OpenSearchTestCase {
         }
 
         if (randomBoolean()) {
-            builder.put(INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.getKey(), true);
+            builder.put(INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING.getKey(), randomBoolean());
             builder.put(INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING.getKey(), randomDoubleBetween(0.01, 0.50, true));
         }
 